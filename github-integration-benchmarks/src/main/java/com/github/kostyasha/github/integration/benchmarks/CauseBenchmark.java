@@ -0,0 +1,61 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import hudson.model.ParameterValue;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPREnv;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cause creation for triggered pull request and its conversion to build parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CauseBenchmark {
+
+    private GHPullRequest remotePR;
+    private PullRequestFixtures.Loader loader;
+    private GitHubPRRepository localRepo;
+    private GitHubPRCause cause;
+
+    @Setup
+    public void setUp() {
+        remotePR = PullRequestFixtures.pullRequest(10, 1);
+        loader = new PullRequestFixtures.Loader(Collections.singletonList(remotePR), 5);
+        localRepo = PullRequestFixtures.localRepository(Collections.singletonList(remotePR), loader);
+        cause = newCause();
+    }
+
+    @Benchmark
+    public GitHubPRCause newCause() {
+        GitHubPRPullRequest pr = new GitHubPRPullRequest(remotePR, GitHubPREnv.getRequiredFields(), loader);
+        return new GitHubPRCause(pr, remotePR, localRepo, "PR opened", false);
+    }
+
+    @Benchmark
+    public List<ParameterValue> fillParameters() {
+        List<ParameterValue> params = new ArrayList<>();
+        cause.fillParameters(params);
+        return params;
+    }
+}
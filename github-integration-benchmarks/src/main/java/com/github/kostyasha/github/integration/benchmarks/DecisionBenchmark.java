@@ -0,0 +1,104 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
+import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
+import org.jenkinsci.plugins.github.pullrequest.events.impl.GitHubPRCommentEvent;
+import org.jenkinsci.plugins.github.pullrequest.events.impl.GitHubPRCommitEvent;
+import org.jenkinsci.plugins.github.pullrequest.events.impl.GitHubPROpenEvent;
+import org.jenkinsci.plugins.github.pullrequest.trigger.check.NotUpdatedPRFilter;
+import org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestToCauseConverter;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode.CRON;
+import static org.jenkinsci.plugins.github.pullrequest.trigger.check.NotUpdatedPRFilter.notUpdated;
+import static org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestToCauseConverter.toGitHubPRCause;
+
+/**
+ * Decision part of PR trigger poll: filtering not updated pull requests and checking events for the rest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecisionBenchmark {
+
+    @Param({"100", "1000"})
+    private int pulls;
+
+    @Param({"5", "50"})
+    private int commentsPerPR;
+
+    private List<GHPullRequest> remotePulls;
+    private GitHubPRRepository localRepo;
+    private PullRequestFixtures.Loader loader;
+    private GitHubPRTrigger trigger;
+
+    @Setup
+    public void setUp() throws Exception {
+        remotePulls = PullRequestFixtures.pullRequests(pulls, 1);
+        loader = new PullRequestFixtures.Loader(remotePulls, commentsPerPR);
+        localRepo = PullRequestFixtures.localRepository(remotePulls, loader);
+
+        List<GitHubPREvent> events = Arrays.asList(
+                new GitHubPROpenEvent(),
+                new GitHubPRCommitEvent(),
+                new GitHubPRCommentEvent("(?i).*retest\\s+this\\s+please.*"),
+                new GitHubPRCommentEvent("test this please")
+        );
+        trigger = new GitHubPRTrigger("", CRON, events);
+    }
+
+    @Benchmark
+    public void notUpdatedFilter(Blackhole bh) {
+        NotUpdatedPRFilter filter = notUpdated(localRepo, TaskListener.NULL);
+        for (GHPullRequest pr : remotePulls) {
+            bh.consume(filter.test(pr));
+        }
+    }
+
+    @Benchmark
+    public void causeConverter(Blackhole bh) {
+        PullRequestToCauseConverter converter = toGitHubPRCause(localRepo, TaskListener.NULL, trigger)
+                .withFieldLoader(loader);
+        for (GHPullRequest pr : remotePulls) {
+            bh.consume(converter.apply(pr));
+        }
+    }
+
+    /**
+     * Pipeline as in trigger check: only updated pull requests are checked with events.
+     */
+    @Benchmark
+    public void poll(Blackhole bh) {
+        NotUpdatedPRFilter filter = notUpdated(localRepo, TaskListener.NULL);
+        PullRequestToCauseConverter converter = toGitHubPRCause(localRepo, TaskListener.NULL, trigger)
+                .withFieldLoader(loader);
+        for (GHPullRequest pr : remotePulls) {
+            if (filter.test(pr)) {
+                GitHubPRCause cause = converter.apply(pr);
+                bh.consume(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import hudson.XmlFile;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap of local PR repository state as it is after Jenkins restart.
+ * Secondary results {@code bytes} and {@code bytesPerPull} are the numbers to compare, time is only load time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class FootprintBenchmark {
+
+    @Param({"10000"})
+    private int pulls;
+
+    private File dir;
+    private XmlFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<GHPullRequest> remotePulls = PullRequestFixtures.pullRequests(pulls, 0);
+        GitHubPRRepository localRepo = PullRequestFixtures.localRepository(remotePulls,
+                new PullRequestFixtures.Loader(remotePulls, 0));
+
+        dir = Files.createTempDirectory("github-pr-footprint").toFile();
+        file = new XmlFile(new File(dir, GitHubPRRepository.FILE));
+        file.write(localRepo);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.getFile().delete();
+        dir.delete();
+    }
+
+    @Benchmark
+    public Object load(Footprint footprint) throws IOException {
+        GitHubPRRepository localRepo = (GitHubPRRepository) file.read();
+        footprint.bytes = GraphLayout.parseInstance(localRepo.getPulls()).totalSize();
+        footprint.bytesPerPull = footprint.bytes / pulls;
+        return localRepo;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long bytes;
+        public long bytesPerPull;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Matching of comment trigger phrase against comments of one pull request,
+ * compiling pattern for every comment as before and with shared {@link PatternCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatternBenchmark {
+    private static final String TRIGGER = "(?i).*(re)?test\\s+this\\s+please.*";
+
+    private final String[] comments = new String[50];
+
+    public PatternBenchmark() {
+        for (int i = 0; i < comments.length; i++) {
+            comments[i] = "Looks good, but please check line " + i + " of the change";
+        }
+        comments[comments.length - 1] = "retest this please";
+    }
+
+    @Benchmark
+    public void compileEveryTime(Blackhole bh) {
+        for (String comment : comments) {
+            bh.consume(Pattern.compile(TRIGGER).matcher(comment).matches());
+        }
+    }
+
+    @Benchmark
+    public void patternCache(Blackhole bh) {
+        for (String comment : comments) {
+            bh.consume(PatternCache.matches(TRIGGER, comment));
+        }
+    }
+}
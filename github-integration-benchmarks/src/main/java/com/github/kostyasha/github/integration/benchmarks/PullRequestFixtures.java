@@ -0,0 +1,229 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GHIssueComment;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GitHub;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.LABELS;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.MERGEABLE;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.USER_EMAIL;
+
+/**
+ * Synthetic in-memory pull requests, comments and local state, so benchmarks run without network.
+ * Remote objects are parsed from hook payloads with offline {@link GitHub} client,
+ * expensive fields are served by {@link Loader} instead of REST.
+ */
+public final class PullRequestFixtures {
+    public static final String REPO = "org/repo";
+
+    private static final Instant BASE_TIME = Instant.parse("2020-01-01T00:00:00Z");
+    private static final GitHub GITHUB = GitHub.offline();
+
+    private PullRequestFixtures() {
+    }
+
+    @NonNull
+    public static GHPullRequest pullRequest(int number, int revision) {
+        JSONObject repo = repository();
+        JSONObject pr = new JSONObject()
+                .element("id", number)
+                .element("number", number)
+                .element("state", "open")
+                .element("title", "Change number " + number)
+                .element("body", "Fixes issue " + number + "\n\nSome description of the change.")
+                .element("url", "https://api.github.com/repos/" + REPO + "/pulls/" + number)
+                .element("html_url", "https://github.com/" + REPO + "/pull/" + number)
+                .element("created_at", time(0))
+                .element("updated_at", time(revision))
+                .element("user", user("user" + number % 20))
+                .element("head", pointer("feature-" + number, sha(number, revision), repo))
+                .element("base", pointer("master", sha(0, 0), repo));
+
+        JSONObject payload = new JSONObject()
+                .element("action", "synchronize")
+                .element("number", number)
+                .element("pull_request", pr)
+                .element("repository", repo);
+        try {
+            return GITHUB.parseEventPayload(new StringReader(payload.toString()), GHEventPayload.PullRequest.class)
+                    .getPullRequest();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param count  open pull requests.
+     * @param revision state of remote pull requests, local state is always at revision 0.
+     */
+    @NonNull
+    public static List<GHPullRequest> pullRequests(int count, int revision) {
+        List<GHPullRequest> pulls = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            // only every 10th pull request changes between polls
+            pulls.add(pullRequest(i, i % 10 == 0 ? revision : 0));
+        }
+        return pulls;
+    }
+
+    @NonNull
+    public static GHIssueComment comment(int id, String body, int minute) {
+        JSONObject comment = new JSONObject()
+                .element("id", id)
+                .element("body", body)
+                .element("created_at", time(minute))
+                .element("updated_at", time(minute))
+                .element("url", "https://api.github.com/repos/" + REPO + "/issues/comments/" + id)
+                .element("html_url", "https://github.com/" + REPO + "/pull/1#issuecomment-" + id)
+                .element("user", user("commenter" + id % 5));
+        JSONObject payload = new JSONObject()
+                .element("action", "created")
+                .element("comment", comment)
+                .element("issue", new JSONObject()
+                        .element("id", 1)
+                        .element("number", 1)
+                        .element("state", "open")
+                        .element("title", "Issue")
+                        .element("url", "https://api.github.com/repos/" + REPO + "/issues/1")
+                        .element("user", user("user1")))
+                .element("repository", repository());
+        try {
+            return GITHUB.parseEventPayload(new StringReader(payload.toString()), GHEventPayload.IssueComment.class)
+                    .getComment();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Local state as it is after previous poll, comments are seen up to creation of pull requests.
+     */
+    @NonNull
+    public static GitHubPRRepository localRepository(@NonNull List<GHPullRequest> remote, @NonNull Loader loader) {
+        GitHubPRRepository localRepo = new GitHubPRRepository(REPO, url("https://github.com/" + REPO));
+        for (GHPullRequest pr : remote) {
+            GitHubPRPullRequest localPR = new GitHubPRPullRequest(pullRequest(pr.getNumber(), 0),
+                    EnumSet.of(LABELS, MERGEABLE, USER_EMAIL), loader);
+            localRepo.getPulls().put(localPR.getNumber(), localPR);
+        }
+        return localRepo;
+    }
+
+    private static JSONObject repository() {
+        return new JSONObject()
+                .element("id", 42)
+                .element("name", "repo")
+                .element("full_name", REPO)
+                .element("owner", user("org"))
+                .element("url", "https://api.github.com/repos/" + REPO)
+                .element("html_url", "https://github.com/" + REPO)
+                .element("git_url", "git://github.com/" + REPO + ".git")
+                .element("ssh_url", "git@github.com:" + REPO + ".git");
+    }
+
+    private static JSONObject user(String login) {
+        return new JSONObject()
+                .element("login", login)
+                .element("id", login.hashCode())
+                .element("name", login)
+                .element("email", login + "@example.com")
+                // marks user as already populated
+                .element("created_at", time(0));
+    }
+
+    private static JSONObject pointer(String ref, String sha, JSONObject repo) {
+        return new JSONObject()
+                .element("ref", ref)
+                .element("sha", sha)
+                .element("label", "org:" + ref)
+                .element("repo", repo)
+                .element("user", user("org"));
+    }
+
+    private static String sha(int number, int revision) {
+        return String.format("%020x%020x", number, revision);
+    }
+
+    private static String time(int minutes) {
+        return BASE_TIME.plusSeconds(60L * minutes).toString();
+    }
+
+    private static URL url(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Field loader with prepared comments, labels, mergeable state and emails.
+     */
+    public static class Loader extends GitHubPRFieldLoader {
+        private final Map<Integer, List<GHIssueComment>> comments = new HashMap<>();
+
+        public Loader(@NonNull List<GHPullRequest> pulls, int commentsPerPR) {
+            for (GHPullRequest pr : pulls) {
+                int number = pr.getNumber();
+                List<GHIssueComment> list = new ArrayList<>();
+                for (int i = 0; i < commentsPerPR; i++) {
+                    // the newest comment of every 10th pull request asks for build
+                    String body = i == commentsPerPR - 1 && number % 10 == 0
+                            ? "test this please"
+                            : "Looks good, but please check comment " + i;
+                    list.add(comment(number * 1000 + i, body, i + 1));
+                }
+                comments.put(number, list);
+
+                Set<String> labels = new HashSet<>();
+                labels.add("enhancement");
+                if (number % 3 == 0) {
+                    labels.add("ready");
+                }
+                putLabels(number, labels);
+                putMergeable(number, number % 7 != 0);
+            }
+            for (int i = 0; i < 20; i++) {
+                putUserEmail("user" + i, "user" + i + "@example.com");
+            }
+        }
+
+        @NonNull
+        @Override
+        public List<GHIssueComment> getComments(@NonNull GHPullRequest pr) {
+            return comments.getOrDefault(pr.getNumber(), new ArrayList<>());
+        }
+
+        @Override
+        public Date getLastCommentCreatedAt(@NonNull GHPullRequest pr) throws IOException {
+            Date last = null;
+            for (GHIssueComment comment : getComments(pr)) {
+                if (last == null || comment.getCreatedAt().after(last)) {
+                    last = comment.getCreatedAt();
+                }
+            }
+            return last;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import hudson.XmlFile;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XStream persistence of local PR repository state, as done after every trigger check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryPersistenceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int pulls;
+
+    private File dir;
+    private XmlFile saveFile;
+    private XmlFile loadFile;
+    private GitHubPRRepository localRepo;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<GHPullRequest> remotePulls = PullRequestFixtures.pullRequests(pulls, 0);
+        localRepo = PullRequestFixtures.localRepository(remotePulls,
+                new PullRequestFixtures.Loader(remotePulls, 0));
+
+        dir = Files.createTempDirectory("github-pr-state").toFile();
+        saveFile = new XmlFile(new File(dir, "save-" + GitHubPRRepository.FILE));
+        loadFile = new XmlFile(new File(dir, "load-" + GitHubPRRepository.FILE));
+        loadFile.write(localRepo);
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveFile.write(localRepo);
+    }
+
+    @Benchmark
+    public Object load() throws IOException {
+        return loadFile.read();
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import hudson.util.XStream2;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestCheckResult;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparing and committing local PR state after check.
+ * {@code reflection*} benchmarks are the commons-lang reflection builders used before, kept as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StateDiffBenchmark {
+
+    @Param({"1000", "10000"})
+    private int pulls;
+
+    private List<GitHubPRPullRequest> local;
+    private List<GitHubPRPullRequest> copies;
+    private List<PullRequestCheckResult> results;
+    private Map<Integer, GitHubPRPullRequest> committed;
+
+    @Setup
+    public void setUp() {
+        List<GHPullRequest> remotePulls = PullRequestFixtures.pullRequests(pulls, 0);
+        GitHubPRRepository localRepo = PullRequestFixtures.localRepository(remotePulls,
+                new PullRequestFixtures.Loader(remotePulls, 0));
+
+        // equal but not the same instances, as after restart
+        XStream2 xStream = new XStream2();
+        GitHubPRRepository copyRepo = (GitHubPRRepository) xStream.fromXML(xStream.toXML(localRepo));
+
+        local = new ArrayList<>(localRepo.getPulls().values());
+        copies = new ArrayList<>();
+        results = new ArrayList<>();
+        for (GitHubPRPullRequest pr : local) {
+            GitHubPRPullRequest copy = copyRepo.getPulls().get(pr.getNumber());
+            copies.add(copy);
+            results.add(new PullRequestCheckResult(remotePulls.get(pr.getNumber() - 1), copy, copy, null, false,
+                    new byte[0]));
+        }
+        committed = localRepo.getPulls();
+    }
+
+    @Benchmark
+    public int equalsState() {
+        int equal = 0;
+        for (int i = 0; i < local.size(); i++) {
+            if (local.get(i).equals(copies.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int reflectionEqualsState() {
+        int equal = 0;
+        for (int i = 0; i < local.size(); i++) {
+            if (EqualsBuilder.reflectionEquals(local.get(i), copies.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int hashCodeState() {
+        int hash = 0;
+        for (GitHubPRPullRequest pr : local) {
+            hash += pr.hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int reflectionHashCodeState() {
+        int hash = 0;
+        for (GitHubPRPullRequest pr : local) {
+            hash += HashCodeBuilder.reflectionHashCode(pr);
+        }
+        return hash;
+    }
+
+    /**
+     * Commit of check results, every result is compared with currently stored state.
+     */
+    @Benchmark
+    public Map<Integer, GitHubPRPullRequest> applyResults() {
+        Map<Integer, GitHubPRPullRequest> pulls = new HashMap<>(committed);
+        for (PullRequestCheckResult result : results) {
+            result.applyTo(pulls);
+        }
+        return pulls;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.kostyasha.github.integration.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kostyasha.github.integration.multibranch.fs.TreeCache;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Path lookups in multibranch file system cache: existing files, missing files and paths below files.
+ * Repository returns prepared root tree instead of REST.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeCacheBenchmark {
+    private static final String REVISION = "0123456789abcdef0123456789abcdef01234567";
+
+    @Param({"100", "1000"})
+    private int files;
+
+    private GHRepository repo;
+    private TreeCache warm;
+    private String[] paths;
+
+    @Setup
+    public void setUp() throws IOException {
+        JSONArray entries = new JSONArray();
+        for (int i = 0; i < files; i++) {
+            entries.add(new JSONObject()
+                    .element("path", "file-" + i + ".txt")
+                    .element("mode", "100644")
+                    .element("type", "blob")
+                    .element("sha", String.format("%040x", i))
+                    .element("size", 100));
+        }
+        JSONObject json = new JSONObject()
+                .element("sha", REVISION)
+                .element("truncated", false)
+                .element("tree", entries);
+        GHTree tree = new ObjectMapper()
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .readValue(json.toString(), GHTree.class);
+
+        repo = new GHRepository() {
+            @Override
+            public GHTree getTree(String sha) {
+                return tree;
+            }
+        };
+
+        paths = new String[files * 3];
+        for (int i = 0; i < files; i++) {
+            paths[i * 3] = "file-" + i + ".txt";
+            paths[i * 3 + 1] = "missing-" + i + ".txt/";
+            paths[i * 3 + 2] = "file-" + i + ".txt/nested/Jenkinsfile";
+        }
+
+        warm = TreeCache.get(repo, REVISION);
+        lookupAll(warm, null);
+    }
+
+    @Benchmark
+    public void warmLookups(Blackhole bh) throws IOException {
+        lookupAll(warm, bh);
+    }
+
+    @Benchmark
+    public void coldLookups(Blackhole bh) throws IOException {
+        lookupAll(TreeCache.get(repo, REVISION), bh);
+    }
+
+    private void lookupAll(TreeCache cache, Blackhole bh) throws IOException {
+        for (String path : paths) {
+            TreeCache.Entry entry = cache.entry(path);
+            if (bh != null) {
+                bh.consume(entry);
+            }
+        }
+    }
+}
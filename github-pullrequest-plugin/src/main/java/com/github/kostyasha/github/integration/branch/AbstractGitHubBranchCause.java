@@ -3,6 +3,7 @@ package com.github.kostyasha.github.integration.branch;
 import com.github.kostyasha.github.integration.generic.GitHubCause;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.util.Objects;
 
 /**
  * @author Kanstantsin Shautsou
@@ -47,4 +48,22 @@ public abstract class AbstractGitHubBranchCause<T extends AbstractGitHubBranchCa
         return fullRef;
     }
 
+    /**
+     * Branch and tag names are part of {@link #fullRef}, so subclasses don't need to override it.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        AbstractGitHubBranchCause<?> that = (AbstractGitHubBranchCause<?>) o;
+        return Objects.equals(commitSha, that.commitSha)
+                && Objects.equals(fullRef, that.fullRef);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hash(commitSha, fullRef);
+    }
+
 }
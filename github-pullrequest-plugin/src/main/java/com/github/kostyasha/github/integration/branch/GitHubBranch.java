@@ -1,9 +1,14 @@
 package com.github.kostyasha.github.integration.branch;
 
 import hudson.Functions;
+import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.kohsuke.github.GHBranch;
 import org.kohsuke.github.GHRepository;
 
+import java.util.Objects;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
 /**
  * Store local information about branch.
  *
@@ -54,4 +59,31 @@ public class GitHubBranch {
         return Functions.getResourcePath() + "/plugin/github-pullrequest/git-branch.svg";
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GitHubBranch that = (GitHubBranch) o;
+        return Objects.equals(name, that.name)
+                && Objects.equals(commitSha, that.commitSha)
+                && Objects.equals(htmlUrl, that.htmlUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, commitSha);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("name", name)
+                .append("commitSha", commitSha)
+                .append("htmlUrl", htmlUrl)
+                .toString();
+    }
 }
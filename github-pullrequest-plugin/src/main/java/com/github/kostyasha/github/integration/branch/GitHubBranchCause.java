@@ -14,6 +14,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.util.List;
 
+import static java.util.Objects.isNull;
 import static org.apache.commons.io.FileUtils.writeStringToFile;
 
 /**
@@ -83,10 +84,12 @@ public class GitHubBranchCause extends AbstractGitHubBranchCause<GitHubBranchCau
             return;
         }
 
-        // move polling log from cause to action
+        // move polling log from cause to action, referenced log is resolved by action
         try {
             GitHubBranchPollingLogAction action = new GitHubBranchPollingLogAction(run);
-            writeStringToFile(action.getPollingLogFile(), getPollingLog());
+            if (isNull(getPollingLogRef())) {
+                writeStringToFile(action.getPollingLogFile(), getPollingLog());
+            }
             run.replaceAction(action);
         } catch (IOException ex) {
             LOG.warn("Failed to persist the polling log", ex);
@@ -1,14 +1,15 @@
 package com.github.kostyasha.github.integration.branch;
 
 import com.github.kostyasha.github.integration.branch.trigger.JobRunnerForBranchCause;
+import com.github.kostyasha.github.integration.generic.GitHubBuildIndex;
 import com.github.kostyasha.github.integration.generic.GitHubRepository;
+import com.github.kostyasha.github.integration.generic.GitHubRepositoryJournal;
 import hudson.model.Item;
 import hudson.model.Result;
 import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.model.queue.QueueTaskFuture;
 import hudson.util.FormValidation;
-import hudson.util.RunList;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.stapler.StaplerRequest;
 import org.kohsuke.stapler.interceptor.RequirePOST;
@@ -16,16 +17,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
-import static com.github.kostyasha.github.integration.branch.utils.JobHelper.ghBranchCauseFromRun;
 import static com.github.kostyasha.github.integration.branch.utils.JobHelper.ghBranchTriggerFromJob;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.BRANCH_PREFIX;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.branchKey;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.rebuild;
@@ -63,6 +67,13 @@ public class GitHubBranchRepository extends GitHubRepository<GitHubBranchReposit
         return branches;
     }
 
+    @Override
+    protected GitHubRepositoryJournal<String, GitHubBranch> createJournal(@NonNull File file) {
+        // branch has identity hashCode, but may be changed in place
+        return new GitHubRepositoryJournal<>(this, file, "branches", this::getBranches, Function.identity(),
+                branch -> Objects.hash(branch.getName(), branch.getCommitSha(), branch.getHtmlUrl()));
+    }
+
     @Override
     public void actualiseOnChange(@NonNull GHRepository ghRepository, @NonNull TaskListener listener) {
         if (changed) {
@@ -89,31 +100,27 @@ public class GitHubBranchRepository extends GitHubRepository<GitHubBranchReposit
 
     /**
      * Searches for all builds performed in the runs of current job.
+     * Loads every indexed branch build, prefer {@link #getBranchBuilds(String)}.
      *
      * @return map with key - string branch names; value - lists of related builds.
      */
     public Map<String, List<Run<?, ?>>> getAllBranchBuilds() {
-
         Map<String, List<Run<?, ?>>> map = new HashMap<>();
-        final RunList<?> runs = job.getBuilds();
-        LOG.debug("Got builds for job {}", job.getFullName());
-
-        for (Run<?, ?> run : runs) {
-            GitHubBranchCause cause = ghBranchCauseFromRun(run);
-            if (cause != null) {
-                String branchName = cause.getBranchName();
-                List<Run<?, ?>> buildsByBranchName = map.get(branchName);
-                if (isNull(buildsByBranchName)) {
-                    buildsByBranchName = new ArrayList<>();
-                    map.put(branchName, buildsByBranchName);
-                }
-                buildsByBranchName.add(run);
-            }
+        GitHubBuildIndex index = GitHubBuildIndex.forJob(job);
+        for (String key : index.getKeys(BRANCH_PREFIX)) {
+            map.put(key.substring(BRANCH_PREFIX.length()), index.getBuilds(key));
         }
-
         return map;
     }
 
+    /**
+     * @return builds of branch, newest first.
+     */
+    @NonNull
+    public List<Run<?, ?>> getBranchBuilds(@NonNull String branchName) {
+        return GitHubBuildIndex.forJob(job).getBuilds(branchKey(branchName));
+    }
+
     @Override
     @RequirePOST
     public FormValidation doClearRepo() throws IOException {
@@ -167,11 +174,13 @@ public class GitHubBranchRepository extends GitHubRepository<GitHubBranchReposit
         FormValidation result;
         try {
             if (job.hasPermission(Item.BUILD)) {
-                Map<String, List<Run<?, ?>>> builds = getAllBranchBuilds();
-                for (List<Run<?, ?>> buildList : builds.values()) {
-                    if (!buildList.isEmpty() && Result.FAILURE.equals(buildList.get(0).getResult())) {
-                        Run<?, ?> lastBuild = buildList.get(0);
-                        rebuild(lastBuild);
+                GitHubBuildIndex index = GitHubBuildIndex.forJob(job);
+                for (String key : index.getKeys(BRANCH_PREFIX)) {
+                    if (Result.FAILURE.equals(index.getLastResult(key))) {
+                        Run<?, ?> lastBuild = index.getLastBuild(key);
+                        if (nonNull(lastBuild)) {
+                            rebuild(lastBuild);
+                        }
                     }
                 }
                 result = FormValidation.ok("Rebuild scheduled");
@@ -238,10 +247,9 @@ public class GitHubBranchRepository extends GitHubRepository<GitHubBranchReposit
                 branchName = req.getParameter(param);
             }
 
-            Map<String, List<Run<?, ?>>> allBuilds = getAllBranchBuilds();
-            List<Run<?, ?>> branchBuilds = allBuilds.get(branchName);
-            if (branchBuilds != null && !allBuilds.isEmpty()) {
-                if (rebuild(branchBuilds.get(0))) {
+            Run<?, ?> lastBuild = GitHubBuildIndex.forJob(job).getLastBuild(branchKey(branchName));
+            if (nonNull(lastBuild)) {
+                if (rebuild(lastBuild)) {
                     result = FormValidation.ok("Rebuild scheduled");
                 } else {
                     result = FormValidation.warning("Rebuild not scheduled");
@@ -3,6 +3,7 @@ package com.github.kostyasha.github.integration.branch;
 import com.cloudbees.jenkins.GitHubRepositoryName;
 import com.coravy.hudson.plugins.github.GithubProjectProperty;
 import com.github.kostyasha.github.integration.generic.GitHubRepositoryFactory;
+import com.github.kostyasha.github.integration.generic.GitHubRepositoryRegistry;
 import hudson.Extension;
 import hudson.XmlFile;
 import hudson.model.Action;
@@ -40,7 +41,8 @@ public class GitHubBranchRepositoryFactory
     public Collection<? extends Action> createFor(@NonNull Job job) {
         try {
             if (nonNull(ghBranchTriggerFromJob(job))) {
-                return Collections.singleton(forProject(job));
+                return Collections.singleton(GitHubRepositoryRegistry.get()
+                        .get(job, GitHubBranchRepository.class, GitHubBranchRepositoryFactory::forProject));
             }
         } catch (Exception ex) {
             LOGGER.warn("Bad configured project {} - {}", job.getFullName(), ex.getMessage(), ex);
@@ -49,6 +51,9 @@ public class GitHubBranchRepositoryFactory
         return Collections.emptyList();
     }
 
+    /**
+     * Reads runtime state from disk, called only when registry has no resident state for job.
+     */
     @NonNull
     private static GitHubBranchRepository forProject(@NonNull Job<?, ?> job) throws IOException {
         XmlFile configFile = new XmlFile(new File(job.getRootDir(), GitHubBranchRepository.FILE));
@@ -82,6 +87,8 @@ public class GitHubBranchRepositoryFactory
 
 
         GitHubPRTrigger.DescriptorImpl prTriggerDescriptor = GitHubPRTrigger.DescriptorImpl.get();
+        localRepository.loadJournal(GitHubBranchTrigger.DescriptorImpl.get().isJournalPersistence());
+
         if (prTriggerDescriptor.isActualiseOnFactory()) {
             try {
                 localRepository.actualise(trigger.getRemoteRepository(), TaskListener.NULL);
@@ -4,8 +4,10 @@ import antlr.ANTLRException;
 import com.github.kostyasha.github.integration.branch.events.GitHubBranchEvent;
 import com.github.kostyasha.github.integration.branch.events.GitHubBranchEventDescriptor;
 import com.github.kostyasha.github.integration.branch.trigger.JobRunnerForBranchCause;
+import com.github.kostyasha.github.integration.branch.trigger.check.BranchToCauseConverter;
 import com.github.kostyasha.github.integration.branch.trigger.check.LocalRepoUpdater;
 import com.github.kostyasha.github.integration.branch.utils.ItemHelpers;
+import com.github.kostyasha.github.integration.generic.GitHubResponseCache;
 import com.github.kostyasha.github.integration.generic.GitHubTrigger;
 import com.github.kostyasha.github.integration.generic.GitHubTriggerDescriptor;
 import com.github.kostyasha.github.integration.generic.errors.impl.GitHubHookRegistrationError;
@@ -40,16 +42,18 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import static com.github.kostyasha.github.integration.branch.trigger.check.BranchToCauseConverter.toGitHubBranchCause;
 import static com.github.kostyasha.github.integration.branch.trigger.check.SkipFirstRunForBranchFilter.ifSkippedFirstRun;
 import static com.github.kostyasha.github.integration.branch.webhook.WebhookInfoBranchPredicates.withHookTriggerMode;
-import static com.google.common.base.Charsets.UTF_8;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.branchKey;
+import static com.github.kostyasha.github.integration.generic.GitHubPollingLogRecord.decisionOf;
+import static com.github.kostyasha.github.integration.generic.GitHubTriggerExecutor.POLL;
 import static java.text.DateFormat.getDateTimeInstance;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode.LIGHT_HOOKS;
@@ -137,7 +141,11 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
     @Override
     public void run() {
         if (getTriggerMode() != LIGHT_HOOKS) {
-            queueRun(null);
+            getDescriptor().getExecutor().submit(getExecutorKey(), POLL, () -> {
+                if (isPollAdmitted()) {
+                    doRun(null);
+                }
+            });
         }
     }
 
@@ -176,7 +184,7 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
     }
 
     public void queueRun(final String branch) {
-        getDescriptor().getQueue().execute(() -> doRun(branch));
+        getDescriptor().getExecutor().submit(getExecutorKey(), branch, () -> doRun(branch));
     }
 
     /**
@@ -204,7 +212,7 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
         List<GitHubBranchCause> causes;
 
         try (LoggingTaskListenerWrapper listener =
-                     new LoggingTaskListenerWrapper(getPollingLogAction().getPollingLogFile(), UTF_8)) {
+                     new LoggingTaskListenerWrapper(getPollingLogAction().getPollingLog())) {
             long startTime = System.currentTimeMillis();
             listener.debug("Running GitHub Branch trigger check for {} on {}",
                     getDateTimeInstance().format(new Date(startTime)), localRepository.getFullName());
@@ -217,7 +225,7 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
                 localRepository.saveQuietly();
 
                 // TODO print triggering to listener?
-                from(causes).filter(new JobRunnerForBranchCause(job, this)).toSet();
+                from(causes).filter(new JobRunnerForBranchCause(job, this, listener)).toSet();
             } catch (Throwable t) {
                 listener.error("Can't end trigger check!", t);
             }
@@ -248,7 +256,7 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
 
             // get local and remote list of branches
             GHRepository remoteRepo = getRemoteRepository();
-            Set<GHBranch> remoteBranches = branchesToCheck(requestedBranch, remoteRepo, localRepository);
+            Set<GHBranch> remoteBranches = branchesToCheck(requestedBranch, github, remoteRepo, localRepository);
 
             List<GitHubBranchCause> causes = checkBranches(remoteBranches, localRepository, listener);
 
@@ -263,6 +271,8 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
             int consumed = rateLimitBefore.remaining - rateLimitAfter.remaining;
             LOG.info("GitHub rate limit after check {}: {}, consumed: {}, checked branches: {}",
                     localRepository.getFullName(), rateLimitAfter, consumed, remoteBranches.size());
+            recordRateLimit(github, rateLimitAfter, isNull(requestedBranch) ? consumed : -1, causes.size());
+            listener.apiCalls(consumed);
 
             return causes;
         } catch (IOException e) {
@@ -274,8 +284,8 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
     /**
      * Remote branch for future analysing. null - all remote branches.
      */
-    private Set<GHBranch> branchesToCheck(@CheckForNull String branch, @NonNull GHRepository remoteRepo,
-                                          GitHubBranchRepository localRepository)
+    private Set<GHBranch> branchesToCheck(@CheckForNull String branch, @NonNull GitHub github,
+                                          @NonNull GHRepository remoteRepo, GitHubBranchRepository localRepository)
             throws IOException {
         final LinkedHashSet<GHBranch> ghBranches = new LinkedHashSet<>();
 
@@ -289,7 +299,8 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
             }
 
         } else {
-            ghBranches.addAll(remoteRepo.getBranches().values());
+            ghBranches.addAll(GitHubResponseCache.get().get(github, remoteRepo, GitHubResponseCache.REPO, "branches",
+                    () -> unmodifiableList(new ArrayList<>(remoteRepo.getBranches().values()))));
         }
 
         return ghBranches;
@@ -297,13 +308,21 @@ public class GitHubBranchTrigger extends GitHubTrigger<GitHubBranchTrigger> {
 
     private List<GitHubBranchCause> checkBranches(Set<GHBranch> remoteBranches,
                                                   GitHubBranchRepository localRepository, LoggingTaskListenerWrapper listener) {
-        List<GitHubBranchCause> causes = remoteBranches.stream()
-                // TODO: update user whitelist filter
-                .filter(ifSkippedFirstRun(listener, skipFirstRun))
-                .filter(Objects::nonNull)
-                .map(toGitHubBranchCause(localRepository, listener, this))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        Predicate<GHBranch> skippedFirstRun = ifSkippedFirstRun(listener, skipFirstRun);
+        BranchToCauseConverter toCause = toGitHubBranchCause(localRepository, listener, this);
+
+        // TODO: update user whitelist filter
+        List<GitHubBranchCause> causes = new ArrayList<>();
+        for (GHBranch remoteBranch : remoteBranches) {
+            long startTime = System.currentTimeMillis();
+            listener.subject(branchKey(remoteBranch.getName()));
+            GitHubBranchCause cause = skippedFirstRun.test(remoteBranch) ? toCause.apply(remoteBranch) : null;
+            if (nonNull(cause)) {
+                causes.add(cause);
+            }
+            listener.decision(decisionOf(cause, false), System.currentTimeMillis() - startTime);
+        }
+        listener.subject(null);
 
         LOG.debug("Build trigger count for [{}] : {}", localRepository.getFullName(), causes.size());
         return causes;
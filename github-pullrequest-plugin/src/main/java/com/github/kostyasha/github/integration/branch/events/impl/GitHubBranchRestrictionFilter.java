@@ -7,6 +7,7 @@ import com.github.kostyasha.github.integration.branch.events.GitHubBranchEventDe
 import com.github.kostyasha.github.integration.generic.GitHubBranchDecisionContext;
 import hudson.Extension;
 import org.jenkinsci.Symbol;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.github.GHBranch;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
@@ -16,7 +17,6 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -112,7 +112,7 @@ public class GitHubBranchRestrictionFilter extends GitHubBranchEvent {
 
         try {
             LOGGER.debug("Checking branch [{}] against pattern [{}].", name, pattern);
-            return Pattern.compile(pattern).matcher(name).matches();
+            return PatternCache.matches(pattern, name);
         } catch (PatternSyntaxException e) {
             LOGGER.error("Invalid pattern [{}] detected checking branch [{}]", pattern, name, e);
             return false;
@@ -7,6 +7,7 @@ import com.github.kostyasha.github.integration.branch.events.impl.commitchecks.G
 import hudson.Extension;
 import hudson.ExtensionPoint;
 import org.jenkinsci.Symbol;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.github.GHBranch;
 import org.kohsuke.github.GHCommit;
 import org.kohsuke.github.GHCompare.Commit;
@@ -22,7 +23,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -121,7 +121,7 @@ public class GitHubBranchCommitMessageCheck extends GitHubBranchCommitCheck impl
 
     private boolean matches(String message, String pattern) {
         try {
-            return Pattern.compile(pattern).matcher(message).matches();
+            return PatternCache.matches(pattern, message);
         } catch (PatternSyntaxException e) {
             LOG.error("Invalid pattern [{}] detected checking commit [{}]", pattern, message, e);
             return false;
@@ -3,10 +3,11 @@ package com.github.kostyasha.github.integration.branch.trigger;
 import com.github.kostyasha.github.integration.branch.GitHubBranchBadgeAction;
 import com.github.kostyasha.github.integration.branch.GitHubBranchCause;
 import com.github.kostyasha.github.integration.branch.GitHubBranchTrigger;
-import com.google.common.base.Function;
+import com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex;
+import com.github.kostyasha.github.integration.generic.GitHubCommitStatusQueue;
+import com.github.kostyasha.github.integration.generic.GitHubPollingLogStore;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
-import hudson.model.Action;
 import hudson.model.Cause;
 import hudson.model.CauseAction;
 import hudson.model.Job;
@@ -16,10 +17,12 @@ import hudson.model.Queue;
 import hudson.model.queue.QueueTaskFuture;
 import jenkins.model.ParameterizedJobMixIn;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.jenkinsci.plugins.github.pullrequest.utils.LoggingTaskListenerWrapper;
 import org.kohsuke.github.GHCommitState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -29,9 +32,11 @@ import java.util.List;
 import java.util.Set;
 
 import static com.cloudbees.jenkins.GitHubWebHook.getJenkinsInstance;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.branchKey;
 import static com.google.common.base.Predicates.instanceOf;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.cancelQueued;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.getDefaultParametersValues;
 import static org.jenkinsci.plugins.github.util.FluentIterableWrapper.from;
 import static org.jenkinsci.plugins.github.util.JobInfoHelpers.asParameterizedJobMixIn;
@@ -46,15 +51,33 @@ public class JobRunnerForBranchCause implements Predicate<GitHubBranchCause> {
     private Job job;
     private GitHubBranchTrigger trigger;
 
+    /**
+     * Polling log doesn't change while causes of one check are applied, stored once for all of them.
+     */
+    @CheckForNull
+    private String pollingLogRef;
+
+    /**
+     * Listener of check that produced causes, polling log snapshot is taken from it.
+     */
+    @CheckForNull
+    private LoggingTaskListenerWrapper listener;
+
     public JobRunnerForBranchCause(Job job, GitHubBranchTrigger trigger) {
+        this(job, trigger, null);
+    }
+
+    public JobRunnerForBranchCause(Job job, GitHubBranchTrigger trigger,
+                                   @CheckForNull LoggingTaskListenerWrapper listener) {
         this.job = job;
         this.trigger = trigger;
+        this.listener = listener;
     }
 
     @Override
     public boolean apply(GitHubBranchCause cause) {
         try {
-            cause.setPollingLogFile(trigger.getPollingLogAction().getPollingLogFile());
+            cause.withPollingLogRef(pollingLogRef());
 
             StringBuilder sb = new StringBuilder();
             sb.append("Jenkins queued the run (").append(cause.getReason()).append(")");
@@ -70,14 +93,14 @@ public class JobRunnerForBranchCause implements Predicate<GitHubBranchCause> {
 
             LOGGER.info(sb.toString());
 
-            // remote connection
+            // remote connection, status is sent in background
             if (trigger.isPreStatus()) {
-                trigger.getRemoteRepository()
-                        .createCommitStatus(cause.getCommitSha(),
-                                GHCommitState.PENDING,
-                                null,
-                                sb.toString(),
-                                job.getFullName());
+                GitHubCommitStatusQueue.get().publish(trigger.getRemoteRepository(),
+                        cause.getCommitSha(),
+                        GHCommitState.PENDING,
+                        null,
+                        sb.toString(),
+                        job.getFullName());
             }
         } catch (IOException e) {
             LOGGER.error("Can't trigger build ({})", e.getMessage(), e);
@@ -86,26 +109,39 @@ public class JobRunnerForBranchCause implements Predicate<GitHubBranchCause> {
         return true;
     }
 
+    @CheckForNull
+    private String pollingLogRef() {
+        if (isNull(pollingLogRef)) {
+            try {
+                GitHubPollingLogStore store = new GitHubPollingLogStore(job);
+                pollingLogRef = nonNull(listener)
+                        ? store.store(listener::writeCheckTextTo)
+                        : store.store(trigger.getPollingLogAction().getPollingLogFile());
+            } catch (IOException e) {
+                LOGGER.warn("Can't store polling log for {}", job.getFullName(), e);
+            }
+        }
+        return pollingLogRef;
+    }
+
     /**
-     * Cancel previous builds for specified PR id.
+     * Cancel previous builds of this job for specified branch.
      */
-    private static boolean cancelQueuedBuildByBranchName(final String branch) {
+    private boolean cancelQueuedBuildByBranchName(final String branch) {
         Queue queue = getJenkinsInstance().getQueue();
+        boolean canceled = false;
 
-        for (Queue.Item item : queue.getItems()) {
-            Optional<Cause> cause = from(item.getAllActions())
-                    .filter(instanceOf(CauseAction.class))
-                    .transformAndConcat(new CausesFromAction())
+        for (Queue.Item item : GitHubActiveBuildIndex.get().getQueued(job, branchKey(branch))) {
+            Optional<Cause> cause = from(item.getCauses())
                     .filter(instanceOf(GitHubBranchCause.class))
                     .firstMatch(new CauseHasBranch(branch));
 
-            if (cause.isPresent()) {
-                queue.cancel(item);
-                return true;
+            if (cause.isPresent() && cancelQueued(queue, item)) {
+                canceled = true;
             }
         }
 
-        return false;
+        return canceled;
     }
 
     public QueueTaskFuture<?> startJob(GitHubBranchCause cause) {
@@ -157,13 +193,6 @@ public class JobRunnerForBranchCause implements Predicate<GitHubBranchCause> {
         );
     }
 
-    private static class CausesFromAction implements Function<Action, Iterable<Cause>> {
-        @Override
-        public Iterable<Cause> apply(Action input) {
-            return ((CauseAction) input).getCauses();
-        }
-    }
-
     private static class CauseHasBranch implements Predicate<Cause> {
         private final String branch;
 
@@ -1,12 +1,13 @@
 package com.github.kostyasha.github.integration.branch.webhook;
 
 import com.github.kostyasha.github.integration.branch.GitHubBranchTrigger;
+import com.github.kostyasha.github.integration.generic.GitHubRateLimitScheduler;
+import com.github.kostyasha.github.integration.generic.GitHubResponseCache;
+import com.github.kostyasha.github.integration.generic.GitHubTriggerDescriptor;
+import com.github.kostyasha.github.integration.generic.GitHubTriggerJobIndex;
 import hudson.Extension;
 import hudson.model.Item;
 import hudson.model.Job;
-import hudson.security.ACL;
-import hudson.security.ACLContext;
-import jenkins.model.Jenkins;
 import org.jenkinsci.plugins.github.extension.GHSubscriberEvent;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode;
 import org.jenkinsci.plugins.github.util.FluentIterableWrapper;
@@ -14,15 +15,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import static com.github.kostyasha.github.integration.branch.utils.JobHelper.ghBranchTriggerFromJob;
 import static com.github.kostyasha.github.integration.branch.webhook.WebhookInfoBranchPredicates.withBranchTrigger;
 import static com.github.kostyasha.github.integration.branch.webhook.WebhookInfoBranchPredicates.withBranchTriggerRepo;
-import static hudson.security.ACL.SYSTEM;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.jenkinsci.plugins.github.util.JobInfoHelpers.isBuildable;
 
 /**
@@ -44,6 +43,8 @@ public class GHBranchSubscriber extends AbstractGHBranchSubscriber {
     protected void onEvent(GHSubscriberEvent event) {
         try {
             BranchInfo ref = extractRefInfo(event.getGHEvent(), event.getPayload());
+            GitHubResponseCache.get().invalidate(ref.getRepo());
+            GitHubRateLimitScheduler.get().markActive(ref.getRepo());
 
             for (Job job : getBranchTriggerJobs(ref.getRepo())) {
                 GitHubBranchTrigger trigger = ghBranchTriggerFromJob(job);
@@ -58,7 +59,12 @@ public class GHBranchSubscriber extends AbstractGHBranchSubscriber {
                     case HEAVY_HOOKS: {
                         LOGGER.debug("Queued check for {} (Branch {}) after heavy hook", job.getName(),
                                 ref.getBranchName());
-                        trigger.queueRun(job, ref.getBranchName());
+                        GitHubTriggerDescriptor descriptor = GitHubBranchTrigger.DescriptorImpl.get();
+                        descriptor.getHookCoalescer().submit(
+                                job.getFullName() + "@" + ref.getBranchName(),
+                                descriptor.getHookCoalesceWindow(),
+                                () -> queueRun(job, ref.getBranchName())
+                        );
                         break;
                     }
                     case LIGHT_HOOKS: {
@@ -76,20 +82,21 @@ public class GHBranchSubscriber extends AbstractGHBranchSubscriber {
         }
     }
 
-    static Set<Job> getBranchTriggerJobs(final String repo) {
-        final Set<Job> ret = new HashSet<>();
-
-        try (ACLContext ignored = ACL.as(SYSTEM)) {
-            List<Job> jobs = Jenkins.getInstance().getAllItems(Job.class);
-            ret.addAll(FluentIterableWrapper.from(jobs)
-                    .filter(isBuildable())
-                    .filter(withBranchTrigger())
-                    .filter(withBranchTriggerRepo(repo))
-                    .toSet()
-            );
+    /**
+     * Trigger may be reconfigured while check is coalesced, so it is resolved from job right before queueing.
+     */
+    private static void queueRun(Job job, String branch) {
+        GitHubBranchTrigger trigger = ghBranchTriggerFromJob(job);
+        if (nonNull(trigger)) {
+            trigger.queueRun(job, branch);
         }
-
-        return ret;
     }
 
+    static Set<Job> getBranchTriggerJobs(final String repo) {
+        return FluentIterableWrapper.from(GitHubTriggerJobIndex.get().getJobs(GitHubBranchTrigger.class, repo))
+                .filter(isBuildable())
+                .filter(withBranchTrigger())
+                .filter(withBranchTriggerRepo(repo))
+                .toSet();
+    }
 }
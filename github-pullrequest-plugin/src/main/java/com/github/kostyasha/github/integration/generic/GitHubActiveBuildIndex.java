@@ -0,0 +1,244 @@
+package com.github.kostyasha.github.integration.generic;
+
+import com.github.kostyasha.github.integration.branch.GitHubBranchCause;
+import hudson.Extension;
+import hudson.model.Cause;
+import hudson.model.Computer;
+import hudson.model.Executor;
+import hudson.model.Job;
+import hudson.model.Queue;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.RunListener;
+import hudson.model.queue.QueueListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static hudson.security.ACL.SYSTEM;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Index of queued items and running builds caused by GitHub triggers by job and PR number or branch name,
+ * so cancelQueued and abortRunning don't scan the whole queue and every executor for each triggered cause.
+ * Fed by queue and run listeners, entries are only candidates and are verified before cancel or abort.
+ */
+public class GitHubActiveBuildIndex {
+    public static final String PR_PREFIX = "pr:";
+    public static final String BRANCH_PREFIX = "branch:";
+
+    private static final GitHubActiveBuildIndex INSTANCE = new GitHubActiveBuildIndex();
+
+    /**
+     * Latest item object by queue id, item is replaced on every queue state change.
+     */
+    private final Map<String, Map<Long, Queue.Item>> queued = new HashMap<>();
+    private final Map<Long, Set<String>> queuedKeys = new HashMap<>();
+
+    /**
+     * Executor that runs build, null when build was started not on executor thread.
+     */
+    private final Map<String, Map<Run<?, ?>, Executor>> running = new HashMap<>();
+
+    @NonNull
+    public static GitHubActiveBuildIndex get() {
+        return INSTANCE;
+    }
+
+    @NonNull
+    public static String prKey(int number) {
+        return PR_PREFIX + number;
+    }
+
+    @NonNull
+    public static String branchKey(@NonNull String branch) {
+        return BRANCH_PREFIX + branch;
+    }
+
+    /**
+     * @return snapshot of queued items for job and cause key.
+     */
+    @NonNull
+    public synchronized List<Queue.Item> getQueued(@NonNull Job<?, ?> job, @NonNull String causeKey) {
+        Map<Long, Queue.Item> items = queued.get(key(job, causeKey));
+        return isNull(items) ? new ArrayList<>() : new ArrayList<>(items.values());
+    }
+
+    /**
+     * @return snapshot of running builds for job and cause key with their executors.
+     */
+    @NonNull
+    public synchronized Map<Run<?, ?>, Executor> getRunning(@NonNull Job<?, ?> job, @NonNull String causeKey) {
+        Map<Run<?, ?>, Executor> runs = running.get(key(job, causeKey));
+        return isNull(runs) ? new LinkedHashMap<>() : new LinkedHashMap<>(runs);
+    }
+
+    public void onQueued(@NonNull Queue.Item item) {
+        if (!(item.task instanceof Job)) {
+            return;
+        }
+        Set<String> keys = keys((Job<?, ?>) item.task, item.getCauses());
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            Set<String> known = queuedKeys.computeIfAbsent(item.getId(), id -> new HashSet<>());
+            known.addAll(keys);
+            for (String key : known) {
+                queued.computeIfAbsent(key, k -> new HashMap<>()).put(item.getId(), item);
+            }
+        }
+    }
+
+    public synchronized void onLeft(@NonNull Queue.Item item) {
+        Set<String> keys = queuedKeys.remove(item.getId());
+        if (isNull(keys)) {
+            return;
+        }
+        for (String key : keys) {
+            Map<Long, Queue.Item> items = queued.get(key);
+            if (nonNull(items)) {
+                items.remove(item.getId());
+                if (items.isEmpty()) {
+                    queued.remove(key);
+                }
+            }
+        }
+    }
+
+    public void onStarted(@NonNull Run<?, ?> run, @CheckForNull Executor executor) {
+        Set<String> keys = keys(run.getParent(), run.getCauses());
+        synchronized (this) {
+            for (String key : keys) {
+                running.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(run, executor);
+            }
+        }
+    }
+
+    public void onCompleted(@NonNull Run<?, ?> run) {
+        Set<String> keys = keys(run.getParent(), run.getCauses());
+        synchronized (this) {
+            for (String key : keys) {
+                Map<Run<?, ?>, Executor> runs = running.get(key);
+                if (nonNull(runs)) {
+                    runs.remove(run);
+                    if (runs.isEmpty()) {
+                        running.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes what is already queued and running, builds resumed after restart don't fire listeners.
+     */
+    public void reindex() {
+        Jenkins jenkins = Jenkins.get();
+        for (Queue.Item item : jenkins.getQueue().getItems()) {
+            onQueued(item);
+        }
+        for (Computer computer : jenkins.getComputers()) {
+            List<Executor> executors = new ArrayList<>(computer.getExecutors());
+            executors.addAll(computer.getOneOffExecutors());
+            for (Executor executor : executors) {
+                Queue.Executable executable = executor.getCurrentExecutable();
+                if (executable instanceof Run) {
+                    onStarted((Run<?, ?>) executable, executor);
+                }
+            }
+        }
+    }
+
+    @CheckForNull
+    static String causeKey(Cause cause) {
+        if (cause instanceof GitHubPRCause) {
+            return prKey(((GitHubPRCause) cause).getNumber());
+        }
+        if (cause instanceof GitHubBranchCause) {
+            return branchKey(((GitHubBranchCause) cause).getBranchName());
+        }
+        return null;
+    }
+
+    private static Set<String> keys(Job<?, ?> job, List<Cause> causes) {
+        Set<String> keys = new HashSet<>();
+        for (Cause cause : causes) {
+            String causeKey = causeKey(cause);
+            if (nonNull(causeKey)) {
+                keys.add(key(job, causeKey));
+            }
+        }
+        return keys;
+    }
+
+    private static String key(Job<?, ?> job, String causeKey) {
+        return job.getFullName() + "#" + causeKey;
+    }
+
+    @Extension
+    public static class QueueListenerImpl extends QueueListener {
+        @Override
+        public void onEnterWaiting(Queue.WaitingItem wi) {
+            get().onQueued(wi);
+        }
+
+        @Override
+        public void onEnterBlocked(Queue.BlockedItem bi) {
+            get().onQueued(bi);
+        }
+
+        @Override
+        public void onEnterBuildable(Queue.BuildableItem bi) {
+            get().onQueued(bi);
+        }
+
+        @Override
+        public void onLeft(Queue.LeftItem li) {
+            get().onLeft(li);
+        }
+    }
+
+    @Extension
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+        @Override
+        public void onStarted(Run<?, ?> run, TaskListener listener) {
+            // fired on the executor thread
+            get().onStarted(run, Executor.currentExecutor());
+        }
+
+        @Override
+        public void onCompleted(Run<?, ?> run, @NonNull TaskListener listener) {
+            get().onCompleted(run);
+        }
+
+        @Override
+        public void onDeleted(Run<?, ?> run) {
+            get().onCompleted(run);
+        }
+    }
+
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+        @Override
+        public void onLoaded() {
+            try (ACLContext ignored = ACL.as(SYSTEM)) {
+                get().reindex();
+            }
+        }
+    }
+}
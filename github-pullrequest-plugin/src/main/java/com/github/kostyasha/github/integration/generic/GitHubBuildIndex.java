@@ -0,0 +1,409 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.BulkChange;
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.model.Cause;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Result;
+import hudson.model.Run;
+import hudson.model.Saveable;
+import hudson.model.TaskListener;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.RunListener;
+import hudson.model.listeners.SaveableListener;
+import jenkins.util.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.causeKey;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Persistent index of job builds by PR number or branch name, so repository pages and rebuild actions
+ * load only builds they show or rebuild instead of every lazy loaded build of the job.
+ * Maintained by run listener, rebuilt from job history when index file is absent or broken.
+ * Changes are written in batches at most once per {@link #SAVE_DELAY} and on shutdown.
+ * Keys are {@link GitHubActiveBuildIndex#prKey(int)} and {@link GitHubActiveBuildIndex#branchKey(String)}.
+ */
+public class GitHubBuildIndex implements Saveable {
+    public static final String FILE = GitHubBuildIndex.class.getName() + ".runtime.xml";
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubBuildIndex.class);
+
+    public static final long SAVE_DELAY = Long.getLong(GitHubBuildIndex.class.getName() + ".saveDelay", 5000);
+
+    /**
+     * Keyed by job full name, index references job, so job can't be a weak key.
+     */
+    private static final Map<String, GitHubBuildIndex> INDEXES = new HashMap<>();
+
+    private Map<String, Builds> builds = new HashMap<>();
+
+    private transient Job<?, ?> job;
+    private transient boolean loaded;
+    private transient boolean saveScheduled;
+    private transient boolean detached;
+
+    protected GitHubBuildIndex(@NonNull Job<?, ?> job) {
+        this.job = job;
+    }
+
+    @NonNull
+    public static GitHubBuildIndex forJob(@NonNull Job<?, ?> job) {
+        synchronized (INDEXES) {
+            GitHubBuildIndex index = INDEXES.computeIfAbsent(job.getFullName(), n -> new GitHubBuildIndex(job));
+            // job instance is recreated on configuration reload
+            index.job = job;
+            return index;
+        }
+    }
+
+    /**
+     * @return build numbers for key, newest first.
+     */
+    @NonNull
+    public synchronized List<Integer> getNumbers(@NonNull String key) {
+        load();
+        Builds keyBuilds = builds.get(key);
+        return isNull(keyBuilds) ? new ArrayList<>() : new ArrayList<>(keyBuilds.numbers);
+    }
+
+    /**
+     * @return result of newest build for key, null while it is running or when there are no builds.
+     */
+    @CheckForNull
+    public synchronized Result getLastResult(@NonNull String key) {
+        load();
+        Builds keyBuilds = builds.get(key);
+        return isNull(keyBuilds) || isNull(keyBuilds.lastResult) ? null : Result.fromString(keyBuilds.lastResult);
+    }
+
+    /**
+     * @return keys starting with prefix.
+     */
+    @NonNull
+    public synchronized Set<String> getKeys(@NonNull String prefix) {
+        load();
+        Set<String> keys = new HashSet<>();
+        for (String key : builds.keySet()) {
+            if (key.startsWith(prefix)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Loads only builds of this key.
+     *
+     * @return builds for key, newest first.
+     */
+    @NonNull
+    public List<Run<?, ?>> getBuilds(@NonNull String key) {
+        List<Run<?, ?>> runs = new ArrayList<>();
+        for (Integer number : getNumbers(key)) {
+            Run<?, ?> run = job.getBuildByNumber(number);
+            if (nonNull(run)) {
+                runs.add(run);
+            }
+        }
+        return runs;
+    }
+
+    @CheckForNull
+    public Run<?, ?> getLastBuild(@NonNull String key) {
+        for (Integer number : getNumbers(key)) {
+            Run<?, ?> run = job.getBuildByNumber(number);
+            if (nonNull(run)) {
+                return run;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Re-creates index from job history, loads every build of job.
+     */
+    public synchronized void rebuild() {
+        loaded = true;
+        builds = new HashMap<>();
+        for (Run<?, ?> run : job.getBuilds()) {
+            for (String key : keys(run)) {
+                add(key, run);
+            }
+        }
+        LOG.debug("Rebuilt build index for {}", job.getFullName());
+        saveQuietly();
+    }
+
+    public synchronized void onStarted(@NonNull Run<?, ?> run) {
+        load();
+        for (String key : keys(run)) {
+            add(key, run);
+        }
+        saveLater();
+    }
+
+    public synchronized void onCompleted(@NonNull Run<?, ?> run) {
+        load();
+        for (String key : keys(run)) {
+            Builds keyBuilds = builds.get(key);
+            if (isNull(keyBuilds) || !keyBuilds.numbers.contains(run.getNumber())) {
+                add(key, run);
+            } else if (keyBuilds.numbers.get(0) == run.getNumber()) {
+                keyBuilds.lastResult = resultName(run);
+            }
+        }
+        saveLater();
+    }
+
+    public synchronized void onDeleted(@NonNull Run<?, ?> run) {
+        load();
+        for (String key : keys(run)) {
+            Builds keyBuilds = builds.get(key);
+            if (isNull(keyBuilds)) {
+                continue;
+            }
+            int position = keyBuilds.numbers.indexOf(run.getNumber());
+            if (position < 0) {
+                continue;
+            }
+            keyBuilds.numbers.remove(position);
+            if (keyBuilds.numbers.isEmpty()) {
+                builds.remove(key);
+            } else if (position == 0) {
+                keyBuilds.lastResult = resultName(job.getBuildByNumber(keyBuilds.numbers.get(0)));
+            }
+        }
+        saveLater();
+    }
+
+    private void add(String key, Run<?, ?> run) {
+        Builds keyBuilds = builds.computeIfAbsent(key, k -> new Builds());
+        int position = Collections.binarySearch(keyBuilds.numbers, run.getNumber(), Collections.reverseOrder());
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        keyBuilds.numbers.add(position, run.getNumber());
+        if (position == 0) {
+            keyBuilds.lastResult = resultName(run);
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        XmlFile file = getFile();
+        if (file.exists()) {
+            try {
+                file.unmarshal(this);
+                if (nonNull(builds)) {
+                    return;
+                }
+            } catch (IOException e) {
+                LOG.warn("Can't read build index for {}, rebuilding", job.getFullName(), e);
+            }
+        }
+        rebuild();
+    }
+
+    @NonNull
+    private XmlFile getFile() {
+        // job may be renamed, resolve directory on every access
+        return new XmlFile(new File(job.getRootDir(), FILE));
+    }
+
+    /**
+     * Merges index changes of builds that start and complete close to each other into one write.
+     */
+    private void saveLater() {
+        if (saveScheduled) {
+            return;
+        }
+        saveScheduled = true;
+        Timer.get().schedule(this::saveQuietly, SAVE_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes pending changes now.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (!saveScheduled) {
+                return;
+            }
+        }
+        saveQuietly();
+    }
+
+    @Override
+    public void save() throws IOException {
+        XmlFile file;
+        synchronized (this) {
+            saveScheduled = false;
+            if (detached || BulkChange.contains(this)) {
+                return;
+            }
+            file = getFile();
+            file.write(this);
+        }
+        SaveableListener.fireOnChange(this, file);
+    }
+
+    public void saveQuietly() {
+        try {
+            save();
+        } catch (IOException e) {
+            LOG.error("Can't save build index for {}", job.getFullName(), e);
+        }
+    }
+
+    @CheckForNull
+    private static String resultName(@CheckForNull Run<?, ?> run) {
+        if (isNull(run)) {
+            return null;
+        }
+        Result result = run.getResult();
+        return isNull(result) ? null : result.toString();
+    }
+
+    @NonNull
+    private static Set<String> keys(@NonNull Run<?, ?> run) {
+        Set<String> keys = new HashSet<>();
+        for (Cause cause : run.getCauses()) {
+            String key = causeKey(cause);
+            if (nonNull(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Build numbers of one PR or branch.
+     */
+    public static class Builds {
+        /**
+         * Newest first.
+         */
+        private List<Integer> numbers = new ArrayList<>();
+        @CheckForNull
+        private String lastResult;
+
+        protected Object readResolve() {
+            if (isNull(numbers)) {
+                numbers = new ArrayList<>();
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Drops index of deleted job or jobs of deleted folder, pending changes are discarded with job directory.
+     */
+    private static void remove(@NonNull String fullName) {
+        synchronized (INDEXES) {
+            Iterator<Map.Entry<String, GitHubBuildIndex>> entries = INDEXES.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, GitHubBuildIndex> entry = entries.next();
+                if (entry.getKey().equals(fullName) || entry.getKey().startsWith(fullName + "/")) {
+                    synchronized (entry.getValue()) {
+                        entry.getValue().detached = true;
+                    }
+                    entries.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves index of renamed job or jobs of renamed folder, file moves with job directory.
+     */
+    private static void rename(@NonNull String oldFullName, @NonNull String newFullName) {
+        synchronized (INDEXES) {
+            Map<String, GitHubBuildIndex> moved = new HashMap<>();
+            Iterator<Map.Entry<String, GitHubBuildIndex>> entries = INDEXES.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, GitHubBuildIndex> entry = entries.next();
+                if (entry.getKey().equals(oldFullName)) {
+                    moved.put(newFullName, entry.getValue());
+                    entries.remove();
+                } else if (entry.getKey().startsWith(oldFullName + "/")) {
+                    moved.put(newFullName + entry.getKey().substring(oldFullName.length()), entry.getValue());
+                    entries.remove();
+                }
+            }
+            INDEXES.putAll(moved);
+        }
+    }
+
+    private static void flushAll() {
+        List<GitHubBuildIndex> indexes;
+        synchronized (INDEXES) {
+            indexes = new ArrayList<>(INDEXES.values());
+        }
+        indexes.forEach(GitHubBuildIndex::flush);
+    }
+
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+        @Override
+        public void onLocationChanged(Item item, String oldFullName, String newFullName) {
+            rename(oldFullName, newFullName);
+        }
+
+        @Override
+        public void onDeleted(Item item) {
+            remove(item.getFullName());
+        }
+
+        @Override
+        public void onBeforeShutdown() {
+            flushAll();
+        }
+    }
+
+    @Extension
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+        @Override
+        public void onStarted(Run<?, ?> run, TaskListener listener) {
+            if (!keys(run).isEmpty()) {
+                forJob(run.getParent()).onStarted(run);
+            }
+        }
+
+        @Override
+        public void onCompleted(Run<?, ?> run, @NonNull TaskListener listener) {
+            if (!keys(run).isEmpty()) {
+                forJob(run.getParent()).onCompleted(run);
+            }
+        }
+
+        @Override
+        public void onDeleted(Run<?, ?> run) {
+            if (!keys(run).isEmpty()) {
+                forJob(run.getParent()).onDeleted(run);
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.List;
+import java.util.Objects;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -40,8 +41,17 @@ public abstract class GitHubCause<T extends GitHubCause<T>> extends Cause {
     private String gitUrl;
     private String sshUrl;
 
+    /**
+     * Whole polling log text, only in causes persisted before {@link #pollingLogRef}.
+     */
     private String pollingLog;
 
+    /**
+     * Reference to polling log snapshot in {@link GitHubPollingLogStore}.
+     */
+    @CheckForNull
+    private String pollingLogRef;
+
     private transient Object remoteData;
 
     public GitHubCause withLocalRepo(@NonNull GitHubRepository localRepo) {
@@ -107,10 +117,24 @@ public abstract class GitHubCause<T extends GitHubCause<T>> extends Cause {
         this.pollingLog = pollingLog;
     }
 
+    /**
+     * @deprecated embeds whole log into cause and so into every build, use {@link #withPollingLogRef(String)}.
+     */
+    @Deprecated
     public void setPollingLogFile(File logFile) throws IOException {
         this.pollingLog = readFileToString(logFile);
     }
 
+    @CheckForNull
+    public String getPollingLogRef() {
+        return pollingLogRef;
+    }
+
+    public GitHubCause<T> withPollingLogRef(@CheckForNull String pollingLogRef) {
+        this.pollingLogRef = pollingLogRef;
+        return this;
+    }
+
     public String getReason() {
         return reason;
     }
@@ -169,4 +193,37 @@ public abstract class GitHubCause<T extends GitHubCause<T>> extends Cause {
 
         return cause;
     }
+
+    /**
+     * Compares fields of this class, subclasses add their own fields.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GitHubCause<?> that = (GitHubCause<?>) o;
+        return skip == that.skip
+                && Objects.equals(reason, that.reason)
+                && Objects.equals(title, that.title)
+                // URL.equals() resolves hosts
+                && Objects.equals(urlString(htmlUrl), urlString(that.htmlUrl))
+                && Objects.equals(gitUrl, that.gitUrl)
+                && Objects.equals(sshUrl, that.sshUrl)
+                && Objects.equals(pollingLog, that.pollingLog)
+                && Objects.equals(pollingLogRef, that.pollingLogRef);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reason, title, gitUrl);
+    }
+
+    @CheckForNull
+    private static String urlString(@CheckForNull URL url) {
+        return isNull(url) ? null : url.toExternalForm();
+    }
 }
@@ -0,0 +1,230 @@
+package com.github.kostyasha.github.integration.generic;
+
+import jenkins.util.Timer;
+import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Sends commit statuses in background, so builds and trigger checks don't wait for GitHub.
+ * Statuses for different repositories are sent in parallel, statuses for one repository one after another.
+ * Not yet sent status for the same commit and context is replaced by the newer one,
+ * because GitHub shows only the latest state anyway.
+ * When too many statuses wait, caller sends its status itself.
+ * Failed status is queued again after backoff delay, so retries don't hold repository worker.
+ */
+public class GitHubCommitStatusQueue {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubCommitStatusQueue.class);
+
+    private static final GitHubCommitStatusQueue INSTANCE = new GitHubCommitStatusQueue(
+            Integer.getInteger(GitHubCommitStatusQueue.class.getName() + ".parallelism", 4),
+            Integer.getInteger(GitHubCommitStatusQueue.class.getName() + ".capacity", 1000),
+            3,
+            1000L
+    );
+
+    private final GitHubTriggerExecutor executor;
+    private final int capacity;
+    private final int retries;
+    private final long backoffMillis;
+
+    /**
+     * Statuses waiting for sending by repository, commit and context.
+     */
+    private final Map<String, Status> pending = new HashMap<>();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * @param parallelism   repositories served in parallel.
+     * @param capacity      max amount of waiting statuses.
+     * @param retries       attempts to send one status.
+     * @param backoffMillis delay after first failed attempt, doubled after every next one.
+     */
+    public GitHubCommitStatusQueue(int parallelism, int capacity, int retries, long backoffMillis) {
+        this.executor = new GitHubTriggerExecutor("GitHub commit status", parallelism);
+        this.capacity = Math.max(1, capacity);
+        this.retries = Math.max(1, retries);
+        this.backoffMillis = backoffMillis;
+    }
+
+    @NonNull
+    public static GitHubCommitStatusQueue get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues commit status.
+     *
+     * @return completes when status is sent or replaced by newer one,
+     * completes exceptionally with {@link IOException} when all attempts failed.
+     */
+    @NonNull
+    public CompletableFuture<Void> publish(@NonNull GHRepository repo, @NonNull String sha,
+                                           @NonNull GHCommitState state, @CheckForNull String targetUrl,
+                                           @CheckForNull String description, @NonNull String context) {
+        String repoName = String.valueOf(repo.getFullName());
+        String task = sha + "@" + context;
+        String key = repoName + "/" + task;
+        Status status = new Status(repo, repoName, task, sha, state, targetUrl, description, context);
+
+        boolean full;
+        synchronized (this) {
+            Status previous = pending.get(key);
+            full = isNull(previous) && pending.size() >= capacity;
+            if (!full) {
+                pending.put(key, status);
+                if (nonNull(previous)) {
+                    superseded.incrementAndGet();
+                    previous.result.complete(null);
+                }
+            }
+        }
+
+        if (full) {
+            LOG.debug("Commit status queue is full, sending {} for {} directly", state, key);
+            send(key, status);
+        } else {
+            executor.submit(repoName, task, () -> sendPending(key));
+        }
+        return status.result;
+    }
+
+    /**
+     * Queues commit status and waits until it is sent.
+     * For callers that have to react on failure while the build is still running.
+     */
+    public void publishAndWait(@NonNull GHRepository repo, @NonNull String sha, @NonNull GHCommitState state,
+                               @CheckForNull String targetUrl, @CheckForNull String description,
+                               @NonNull String context) throws IOException, InterruptedException {
+        try {
+            publish(repo, sha, state, targetUrl, description, context).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Can't set commit status for " + sha, e.getCause());
+        }
+    }
+
+    private void sendPending(String key) {
+        Status status;
+        synchronized (this) {
+            status = pending.remove(key);
+        }
+        if (nonNull(status)) {
+            send(key, status);
+        }
+    }
+
+    private void send(String key, Status status) {
+        try {
+            status.attempts++;
+            status.repo.createCommitStatus(status.sha, status.state, status.targetUrl, status.description,
+                    status.context);
+            sent.incrementAndGet();
+            status.result.complete(null);
+        } catch (IOException e) {
+            if (isReplaced(key)) {
+                LOG.debug("Failed to set {} for {}, newer status is queued", status.state, key, e);
+                status.result.complete(null);
+                return;
+            }
+            if (status.attempts >= retries) {
+                LOG.error("Can't set commit status {} for {}", status.state, key, e);
+                failed.incrementAndGet();
+                status.result.completeExceptionally(e);
+                return;
+            }
+            long delay = backoffMillis << (status.attempts - 1);
+            LOG.debug("Failed to set commit status for {}, retrying in {}ms", key, delay, e);
+            Timer.get().schedule(() -> requeue(key, status), delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            LOG.error("Can't set commit status {} for {}", status.state, key, e);
+            failed.incrementAndGet();
+            status.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Puts failed status back unless newer one came while it waited.
+     */
+    private void requeue(String key, Status status) {
+        synchronized (this) {
+            if (pending.containsKey(key)) {
+                superseded.incrementAndGet();
+                status.result.complete(null);
+                return;
+            }
+            pending.put(key, status);
+        }
+        executor.submit(status.repoName, status.task, () -> sendPending(key));
+    }
+
+    private synchronized boolean isReplaced(String key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * @return statuses waiting for sending.
+     */
+    public synchronized int getPending() {
+        return pending.size();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    /**
+     * @return statuses that were not sent because newer status for the same commit and context came.
+     */
+    public long getSuperseded() {
+        return superseded.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    private static class Status {
+        private final GHRepository repo;
+        private final String repoName;
+        private final String task;
+        private final String sha;
+        private final GHCommitState state;
+        private final String targetUrl;
+        private final String description;
+        private final String context;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private int attempts;
+
+        Status(GHRepository repo, String repoName, String task, String sha, GHCommitState state, String targetUrl,
+               String description, String context) {
+            this.repo = repo;
+            this.repoName = repoName;
+            this.task = task;
+            this.sha = sha;
+            this.state = state;
+            this.targetUrl = targetUrl;
+            this.description = description;
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.kostyasha.github.integration.generic;
+
+import jenkins.util.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Merges hook-initiated checks with the same key (job + PR number or branch) that arrive within window,
+ * so burst of hooks for one change results in one check that sees the latest remote state.
+ */
+public class GitHubHookCoalescer {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubHookCoalescer.class);
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong absorbed = new AtomicLong();
+
+    /**
+     * @param key           checks with equal keys are merged while first one waits.
+     * @param windowSeconds how long to wait for more hooks, 0 or less runs check immediately.
+     * @param check         action that schedules the real check.
+     */
+    public void submit(@NonNull String key, int windowSeconds, @NonNull Runnable check) {
+        received.incrementAndGet();
+
+        if (windowSeconds <= 0) {
+            check.run();
+            return;
+        }
+
+        if (!pending.add(key)) {
+            absorbed.incrementAndGet();
+            LOG.debug("Hook for {} merged with pending check", key);
+            return;
+        }
+
+        Timer.get().schedule(() -> {
+            // hooks that come after this point need new check
+            pending.remove(key);
+            try {
+                check.run();
+            } catch (Exception e) {
+                LOG.error("Can't run coalesced check for {}", key, e);
+            }
+        }, windowSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return hooks that requested check.
+     */
+    public long getReceived() {
+        return received.get();
+    }
+
+    /**
+     * @return hooks that were merged into already pending check.
+     */
+    public long getAbsorbed() {
+        return absorbed.get();
+    }
+
+    public int getPending() {
+        return pending.size();
+    }
+}
@@ -7,6 +7,8 @@ import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPREnv;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.restrictions.GitHubPRUserRestriction;
 import org.kohsuke.github.GHPullRequest;
@@ -14,6 +16,7 @@ import org.kohsuke.github.GHPullRequest;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.Set;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
@@ -26,6 +29,7 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
     private final GitHubPRPullRequest localPR;
     private final GitHubPRUserRestriction prUserRestriction;
     private final GitHubPRRepository localRepo;
+    private final GitHubPRFieldLoader fieldLoader;
 
     protected GitHubPRDecisionContext(@CheckForNull GHPullRequest remotePR,
                                       @CheckForNull GitHubPRPullRequest localPR,
@@ -34,12 +38,26 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
                                       GitHubSCMSource source,
                                       GitHubPRHandler prHandler,
                                       GitHubPRTrigger prTrigger,
-                                      @NonNull TaskListener listener) {
+                                      @NonNull TaskListener listener,
+                                      @NonNull GitHubPRFieldLoader fieldLoader) {
         super(listener, prTrigger, source, prHandler);
         this.remotePR = remotePR;
         this.localPR = localPR;
         this.localRepo = localRepo;
         this.prUserRestriction = prUserRestriction;
+        this.fieldLoader = fieldLoader;
+    }
+
+    protected GitHubPRDecisionContext(@CheckForNull GHPullRequest remotePR,
+                                      @CheckForNull GitHubPRPullRequest localPR,
+                                      @CheckForNull GitHubPRRepository localRepo,
+                                      @CheckForNull GitHubPRUserRestriction prUserRestriction,
+                                      GitHubSCMSource source,
+                                      GitHubPRHandler prHandler,
+                                      GitHubPRTrigger prTrigger,
+                                      @NonNull TaskListener listener) {
+        this(remotePR, localPR, localRepo, prUserRestriction, source, prHandler, prTrigger, listener,
+                new GitHubPRFieldLoader());
     }
 
     @Deprecated
@@ -75,6 +93,22 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
         return localRepo;
     }
 
+    /**
+     * Memoizing loader of expensive remote PR data, shared by everything that looks at remotePR during this run.
+     */
+    @NonNull
+    public GitHubPRFieldLoader getFieldLoader() {
+        return fieldLoader;
+    }
+
+    /**
+     * Names of remote PR labels. Fetched at most once per check and shared by all label events and PR snapshot.
+     */
+    @NonNull
+    public Set<String> getLabels() throws IOException {
+        return fieldLoader.getLabels(remotePR);
+    }
+
     @CheckForNull
     public GitHubPRUserRestriction getPrUserRestriction() {
         return prUserRestriction;
@@ -104,7 +138,8 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
     @Override
     public GitHubPRCause newCause(String reason, boolean skip) {
         if (remotePR != null) {
-            return new GitHubPRCause(remotePR, localRepo, reason, skip);
+            GitHubPRPullRequest pr = new GitHubPRPullRequest(remotePR, GitHubPREnv.getRequiredFields(), fieldLoader);
+            return new GitHubPRCause(pr, remotePR, localRepo, reason, skip);
         }
         return new GitHubPRCause(localPR, null, localRepo, skip, reason);
     }
@@ -120,7 +155,7 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
         private GitHubPRHandler prHandler = null;
         private GitHubPRTrigger prTrigger = null;
         private GitHubSCMSource source;
-
+        private GitHubPRFieldLoader fieldLoader = new GitHubPRFieldLoader();
 
         public Builder() {
         }
@@ -161,6 +196,11 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
             return this;
         }
 
+        public Builder withFieldLoader(@NonNull GitHubPRFieldLoader fieldLoader) {
+            this.fieldLoader = fieldLoader;
+            return this;
+        }
+
         public GitHubPRDecisionContext build() {
             if (isNull(prHandler)) {
                 requireNonNull(prTrigger);
@@ -171,7 +211,8 @@ public class GitHubPRDecisionContext extends GitHubDecisionContext<GitHubPREvent
 
             requireNonNull(listener);
 
-            return new GitHubPRDecisionContext(remotePR, localPR, localRepo, prUserRestriction, source, prHandler, prTrigger, listener);
+            return new GitHubPRDecisionContext(remotePR, localPR, localRepo, prUserRestriction, source, prHandler, prTrigger,
+                    listener, fieldLoader);
         }
 
     }
@@ -0,0 +1,305 @@
+package com.github.kostyasha.github.integration.generic;
+
+import com.google.common.util.concurrent.Striped;
+import hudson.console.LineTransformationOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.substringBefore;
+
+/**
+ * Polling log of trigger that keeps last checks. Every check is written as {@link GitHubPollingLogRecord} lines
+ * into own file, finished check is compressed. Oldest checks are deleted when there are more than
+ * {@link #MAX_CHECKS} or they take more than {@link #MAX_BYTES}, one check is cut at {@link #MAX_CHECK_BYTES}
+ * that is never above {@link #MAX_BYTES}.
+ */
+public class GitHubPollingLog {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubPollingLog.class);
+
+    public static final int MAX_CHECKS = Integer.getInteger(GitHubPollingLog.class.getName() + ".maxChecks", 10);
+    public static final long MAX_BYTES =
+            Long.getLong(GitHubPollingLog.class.getName() + ".maxBytes", 10L * 1024 * 1024);
+    public static final long MAX_CHECK_BYTES =
+            Math.min(Long.getLong(GitHubPollingLog.class.getName() + ".maxCheckBytes", MAX_BYTES), MAX_BYTES);
+
+    private static final String ACTIVE_SUFFIX = ".tsv";
+    private static final String SEGMENT_SUFFIX = ".tsv.gz";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Checks being written in all jobs, other not compressed files are leftovers of interrupted checks.
+     */
+    private static final Set<File> ACTIVE = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Serializes compression and retention in one directory, checks of different jobs finish in parallel.
+     */
+    private static final Striped<Lock> DIR_LOCKS = Striped.lazyWeakLock(64);
+
+    /**
+     * Newest first.
+     */
+    private static final Comparator<File> BY_START = Comparator.comparingLong(GitHubPollingLog::startOf)
+            .thenComparingLong(GitHubPollingLog::sequenceOf)
+            .reversed();
+
+    private final File dir;
+
+    public GitHubPollingLog(@NonNull File dir) {
+        this.dir = dir;
+    }
+
+    @NonNull
+    public File getDir() {
+        return dir;
+    }
+
+    @NonNull
+    public Check openCheck() throws IOException {
+        Files.createDirectories(dir.toPath());
+        File file = new File(dir, System.currentTimeMillis() + "-" + SEQUENCE.incrementAndGet() + ACTIVE_SUFFIX);
+        ACTIVE.add(file);
+        return new Check(file);
+    }
+
+    /**
+     * @return files of kept checks, newest first.
+     */
+    @NonNull
+    public List<File> getChecks() {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(ACTIVE_SUFFIX) || name.endsWith(SEGMENT_SUFFIX));
+        if (isNull(files)) {
+            return new ArrayList<>();
+        }
+        List<File> checks = new ArrayList<>(Arrays.asList(files));
+        checks.sort(BY_START);
+        return checks;
+    }
+
+    @CheckForNull
+    public File getCheck(int index) {
+        List<File> checks = getChecks();
+        return index >= 0 && index < checks.size() ? checks.get(index) : null;
+    }
+
+    @NonNull
+    public static Date getStart(@NonNull File check) {
+        return new Date(startOf(check));
+    }
+
+    /**
+     * Streams records of check.
+     *
+     * @param start records to skip.
+     * @param limit max records to pass to consumer.
+     * @return index of next not passed record or -1 when all records were passed.
+     */
+    public static long readRecords(@NonNull File check, long start, long limit,
+                                   @NonNull RecordConsumer consumer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(check), UTF_8))) {
+            long index = 0;
+            String line;
+            while (nonNull(line = reader.readLine())) {
+                if (index >= start) {
+                    if (index - start >= limit) {
+                        return index;
+                    }
+                    consumer.accept(GitHubPollingLogRecord.fromLine(line));
+                }
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes messages of check as plain text.
+     */
+    public static void writeText(@NonNull File check, @NonNull OutputStream out) throws IOException {
+        readRecords(check, 0, Long.MAX_VALUE, record -> out.write((record.getMessage() + "\n").getBytes(UTF_8)));
+    }
+
+    private static InputStream open(File check) throws IOException {
+        InputStream is = new FileInputStream(check);
+        return check.getName().endsWith(SEGMENT_SUFFIX) ? new GZIPInputStream(is) : is;
+    }
+
+    /**
+     * Compresses finished check and deletes checks over limits.
+     */
+    private void finish(File active) {
+        Lock lock = DIR_LOCKS.get(dir.getAbsolutePath());
+        lock.lock();
+        try {
+            ACTIVE.remove(active);
+            compress(active);
+            retain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void retain() {
+        // checks interrupted by restart
+        for (File check : getChecks()) {
+            if (check.getName().endsWith(ACTIVE_SUFFIX) && !ACTIVE.contains(check)) {
+                compress(check);
+            }
+        }
+
+        long size = 0;
+        int count = 0;
+        for (File check : getChecks()) {
+            if (!check.getName().endsWith(SEGMENT_SUFFIX)) {
+                continue;
+            }
+            count++;
+            size += check.length();
+            // newest check is kept even when it is over size limit
+            if (count > 1 && (count > MAX_CHECKS || size > MAX_BYTES)) {
+                if (!check.delete()) {
+                    LOG.debug("Can't delete polling log {}", check);
+                }
+            }
+        }
+    }
+
+    private static void compress(File active) {
+        File segment = new File(active.getParentFile(), substringBefore(active.getName(), ".") + SEGMENT_SUFFIX);
+        File tmp = new File(segment.getPath() + ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(new FileOutputStream(tmp))) {
+                Files.copy(active.toPath(), out);
+            }
+            Files.move(tmp.toPath(), segment.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(active.toPath());
+        } catch (IOException e) {
+            LOG.warn("Can't compress polling log {}", active, e);
+            tmp.delete();
+        }
+    }
+
+    private static long startOf(File check) {
+        try {
+            return Long.parseLong(substringBefore(check.getName(), "-"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long sequenceOf(File check) {
+        try {
+            return Long.parseLong(substringBefore(check.getName().substring(check.getName().indexOf('-') + 1), "."));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            return 0;
+        }
+    }
+
+    public interface RecordConsumer {
+        void accept(@NonNull GitHubPollingLogRecord record) throws IOException;
+    }
+
+    /**
+     * Check being written. Plain lines written to stream become message records of current subject.
+     */
+    public class Check extends LineTransformationOutputStream {
+        private final File file;
+        private final OutputStream out;
+        private long written;
+        private boolean truncated;
+        @CheckForNull
+        private volatile String subject;
+
+        protected Check(@NonNull File file) throws IOException {
+            this.file = file;
+            this.out = new BufferedOutputStream(new FileOutputStream(file));
+        }
+
+        @NonNull
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * @param subject PR or branch key for following lines, null for check wide lines.
+         */
+        public void setSubject(@CheckForNull String subject) {
+            this.subject = subject;
+        }
+
+        @CheckForNull
+        public String getSubject() {
+            return subject;
+        }
+
+        @Override
+        protected void eol(byte[] b, int len) throws IOException {
+            write(GitHubPollingLogRecord.line(subject, trimEOL(new String(b, 0, len, UTF_8))));
+        }
+
+        public synchronized void write(@NonNull GitHubPollingLogRecord record) throws IOException {
+            if (truncated) {
+                return;
+            }
+            byte[] bytes = (record.toLine() + "\n").getBytes(UTF_8);
+            if (written + bytes.length > MAX_CHECK_BYTES) {
+                truncated = true;
+                bytes = (GitHubPollingLogRecord.line(null, "Polling log is truncated at " + MAX_CHECK_BYTES
+                        + " bytes").toLine() + "\n").getBytes(UTF_8);
+            }
+            out.write(bytes);
+            written += bytes.length;
+        }
+
+        /**
+         * Writes messages written so far as plain text.
+         */
+        public synchronized void writeTextTo(@NonNull OutputStream target) throws IOException {
+            out.flush();
+            writeText(file, target);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            synchronized (this) {
+                out.close();
+            }
+            finish(file);
+        }
+    }
+}
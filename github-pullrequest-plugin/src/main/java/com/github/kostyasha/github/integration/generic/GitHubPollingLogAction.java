@@ -5,27 +5,46 @@ import hudson.console.AnnotatedLargeText;
 import hudson.matrix.MatrixBuild;
 import hudson.matrix.MatrixChildAction;
 import hudson.matrix.MatrixRun;
+import hudson.model.Cause;
 import hudson.model.Job;
 import hudson.model.Run;
 import hudson.util.FlushProofOutputStream;
 import jenkins.model.RunAction2;
 import org.apache.commons.jelly.XMLOutput;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.kohsuke.stapler.StaplerRequest;
 import org.kohsuke.stapler.StaplerResponse;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletResponse;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.io.IOUtils.closeQuietly;
+import static org.apache.commons.lang3.StringUtils.removeEnd;
 
 /**
  * @author Kanstantsin Shautsou
  */
 public abstract class GitHubPollingLogAction implements MatrixChildAction, RunAction2 {
+    /**
+     * Page of records served by {@link #doPollingLog(StaplerRequest, StaplerResponse)}.
+     */
+    public static final int PAGE_SIZE = 5000;
+
     @CheckForNull
     private transient Job<?, ?> job;
 
@@ -60,18 +79,56 @@ public abstract class GitHubPollingLogAction implements MatrixChildAction, RunAc
         this.run = run;
     }
 
+    /**
+     * @return text of the first {@link #PAGE_SIZE} records of the latest check, full log is served by
+     * {@link #doPollingLog(StaplerRequest, StaplerResponse)}.
+     */
     public String getLog() throws IOException {
-        return Util.loadFile(getPollingLogFile());
+        File check = getLatestCheck();
+        if (isNull(check)) {
+            return Util.loadFile(getPollingLogFile());
+        }
+        try {
+            return firstPage(check);
+        } catch (FileNotFoundException e) {
+            // finished check was compressed meanwhile, compressed one stays until retention
+            File compressed = getLatestCheck();
+            if (isNull(compressed)) {
+                throw e;
+            }
+            return firstPage(compressed);
+        }
+    }
+
+    private static String firstPage(File check) throws IOException {
+        StringBuilder text = new StringBuilder();
+        long next = GitHubPollingLog.readRecords(check, 0, PAGE_SIZE, record ->
+                text.append(record.getMessage()).append('\n'));
+        if (next >= 0) {
+            text.append("... see full log as plain text\n");
+        }
+        return text.toString();
     }
 
     public boolean isLogExists() {
+        if (nonNull(getLatestCheck())) {
+            return true;
+        }
         return getPollingLogFile() != null && getPollingLogFile().isFile();
     }
 
     /**
+     * Job polling log is served by pages of {@link #PAGE_SIZE} records. Parameters: {@code check} - index of check,
+     * newest first, {@code start} - first record, {@code limit} - records on page, up to {@link #PAGE_SIZE},
+     * {@code format=json} - record per line as json. Start of next page is returned in {@code X-Next-Start} header.
      * TODO is it secure?
      */
     public void doPollingLog(StaplerRequest req, StaplerResponse rsp) throws IOException {
+        if (nonNull(getLatestCheck())) {
+            writeCheck(getPollingLog(), req, rsp);
+            return;
+        }
+
         rsp.setContentType("text/plain;charset=UTF-8");
         // Prevent jelly from flushing stream so Content-Length header can be added afterwards
         FlushProofOutputStream out = new FlushProofOutputStream(rsp.getCompressedOutputStream(req));
@@ -82,6 +139,41 @@ public abstract class GitHubPollingLogAction implements MatrixChildAction, RunAc
         }
     }
 
+    private void writeCheck(GitHubPollingLog pollingLog, StaplerRequest req, StaplerResponse rsp) throws IOException {
+        File check = pollingLog.getCheck(intParam(req, "check", 0));
+        if (isNull(check)) {
+            rsp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long start = Math.max(0, intParam(req, "start", 0));
+        long limit = Math.max(1, Math.min(PAGE_SIZE, intParam(req, "limit", PAGE_SIZE)));
+        boolean json = "json".equals(req.getParameter("format"));
+
+        rsp.setContentType(json ? "application/x-ndjson;charset=UTF-8" : "text/plain;charset=UTF-8");
+        // records are streamed, next page start is known after the last one, so page is buffered
+        ByteArrayOutputStream page = new ByteArrayOutputStream();
+        long next = GitHubPollingLog.readRecords(check, start, limit, record ->
+                page.write(((json ? record.toJson() : record.getMessage()) + "\n").getBytes(UTF_8)));
+        if (next >= 0) {
+            rsp.setHeader("X-Next-Start", Long.toString(next));
+            if (!json) {
+                page.write(("... more records: " + req.getRequestURI() + "?check=" + intParam(req, "check", 0)
+                        + "&start=" + next + "&limit=" + limit + "\n").getBytes(UTF_8));
+            }
+        }
+
+        OutputStream out = rsp.getCompressedOutputStream(req);
+        try {
+            page.writeTo(out);
+        } finally {
+            closeQuietly(out);
+        }
+    }
+
+    private static int intParam(StaplerRequest req, String name, int defaultValue) {
+        return NumberUtils.toInt(req.getParameter(name), defaultValue);
+    }
+
     public AnnotatedLargeText getPollingLogText() {
         return new AnnotatedLargeText<>(getPollingLogFile(), Charset.defaultCharset(), true, this);
     }
@@ -90,9 +182,46 @@ public abstract class GitHubPollingLogAction implements MatrixChildAction, RunAc
      * Writes the annotated log to the given output.
      */
     public void writePollingLogTo(XMLOutput out) throws IOException {
+        File check = getLatestCheck();
+        if (nonNull(check)) {
+            Writer writer = out.asWriter();
+            long next = GitHubPollingLog.readRecords(check, 0, PAGE_SIZE, record ->
+                    writer.write(Util.escape(record.getMessage()) + "\n"));
+            if (next >= 0) {
+                writer.write("... see full log as plain text\n");
+            }
+            return;
+        }
         new AnnotatedLargeText<>(getPollingLogFile(), Charset.defaultCharset(), true, this).writeHtmlTo(0, out.asWriter());
     }
 
+    /**
+     * Rotating log of checks, available for job action only.
+     */
+    @NonNull
+    public GitHubPollingLog getPollingLog() {
+        if (isNull(job)) {
+            throw new IllegalStateException("Polling log of checks is kept for job only");
+        }
+        return new GitHubPollingLog(new File(job.getRootDir(), removeEnd(getPollingFileName(), ".log") + "-checks"));
+    }
+
+    /**
+     * @return start dates of kept checks, newest first.
+     */
+    @NonNull
+    public List<Date> getCheckDates() {
+        if (isNull(job)) {
+            return new ArrayList<>();
+        }
+        return getPollingLog().getChecks().stream().map(GitHubPollingLog::getStart).collect(Collectors.toList());
+    }
+
+    @CheckForNull
+    private File getLatestCheck() {
+        return isNull(job) ? null : getPollingLog().getCheck(0);
+    }
+
     @NonNull
     public File getPollingLogFile() {
         File pollingFile;
@@ -109,7 +238,32 @@ public abstract class GitHubPollingLogAction implements MatrixChildAction, RunAc
             throw new IllegalStateException("Can't get polling log file: no run or job initialised");
         }
 
-        return new File(pollingFile, getPollingFileName());
+        File file = new File(pollingFile, getPollingFileName());
+        if (isNull(job) && !file.isFile()) {
+            File stored = getStoredPollingLogFile();
+            if (nonNull(stored)) {
+                return stored;
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Builds triggered with log reference don't have own copy of log, resolve it from cause.
+     */
+    @CheckForNull
+    private File getStoredPollingLogFile() {
+        Run<?, ?> build = run instanceof MatrixRun ? ((MatrixRun) run).getParentBuild() : run;
+        if (isNull(build)) {
+            return null;
+        }
+        for (Cause cause : build.getCauses()) {
+            if (cause instanceof GitHubCause && nonNull(((GitHubCause<?>) cause).getPollingLogRef())) {
+                return new GitHubPollingLogStore(build.getParent())
+                        .getFile(((GitHubCause<?>) cause).getPollingLogRef());
+            }
+        }
+        return null;
     }
 
     @Override
@@ -0,0 +1,204 @@
+package com.github.kostyasha.github.integration.generic;
+
+import net.sf.json.util.JSONUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+
+/**
+ * One record of trigger check in {@link GitHubPollingLog}, stored as single tab separated line.
+ * Plain log lines become records with message only, evaluation of PR or branch adds decision and duration,
+ * check summary adds consumed API calls.
+ */
+public class GitHubPollingLogRecord {
+    public static final String TRIGGER = "trigger";
+    public static final String SKIP = "skip";
+    public static final String NONE = "none";
+    public static final String FAILED = "failed";
+
+    private static final int FIELDS = 6;
+
+    private final long time;
+    /**
+     * PR or branch key, see {@link GitHubActiveBuildIndex#prKey(int)}.
+     */
+    @CheckForNull
+    private final String subject;
+    @CheckForNull
+    private final String decision;
+    private final long durationMillis;
+    private final int apiCalls;
+    @NonNull
+    private final String message;
+
+    public GitHubPollingLogRecord(long time, @CheckForNull String subject, @CheckForNull String decision,
+                                  long durationMillis, int apiCalls, @NonNull String message) {
+        this.time = time;
+        this.subject = subject;
+        this.decision = decision;
+        this.durationMillis = durationMillis;
+        this.apiCalls = apiCalls;
+        this.message = message;
+    }
+
+    @NonNull
+    public static GitHubPollingLogRecord line(@CheckForNull String subject, @NonNull String message) {
+        return new GitHubPollingLogRecord(System.currentTimeMillis(), subject, null, -1, -1, message);
+    }
+
+    @NonNull
+    public static GitHubPollingLogRecord decision(@NonNull String subject, @NonNull String decision,
+                                                  long durationMillis) {
+        return new GitHubPollingLogRecord(System.currentTimeMillis(), subject, decision, durationMillis, -1,
+                subject + " decision: " + decision + (durationMillis >= 0 ? " (" + durationMillis + "ms)" : ""));
+    }
+
+    @NonNull
+    public static GitHubPollingLogRecord apiCalls(int apiCalls) {
+        return new GitHubPollingLogRecord(System.currentTimeMillis(), null, null, -1, apiCalls,
+                "GitHub API calls consumed: " + apiCalls);
+    }
+
+    /**
+     * @return decision for evaluated cause.
+     */
+    @NonNull
+    public static String decisionOf(@CheckForNull GitHubCause<?> cause, boolean failed) {
+        if (failed) {
+            return FAILED;
+        }
+        if (isNull(cause)) {
+            return NONE;
+        }
+        return cause.isSkip() ? SKIP : TRIGGER;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    @CheckForNull
+    public String getSubject() {
+        return subject;
+    }
+
+    @CheckForNull
+    public String getDecision() {
+        return decision;
+    }
+
+    /**
+     * @return evaluation duration or -1.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return consumed API calls or -1.
+     */
+    public int getApiCalls() {
+        return apiCalls;
+    }
+
+    @NonNull
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Tab separated fields, absent fields are empty. Not json-lib, it parses json looking messages.
+     */
+    @NonNull
+    public String toLine() {
+        return time + "\t" + escape(subject) + "\t" + escape(decision)
+                + "\t" + (durationMillis >= 0 ? durationMillis : "")
+                + "\t" + (apiCalls >= 0 ? apiCalls : "")
+                + "\t" + escape(message);
+    }
+
+    @NonNull
+    public static GitHubPollingLogRecord fromLine(@NonNull String line) {
+        String[] fields = line.split("\t", FIELDS);
+        if (fields.length == FIELDS) {
+            try {
+                return new GitHubPollingLogRecord(Long.parseLong(fields[0]),
+                        unescape(fields[1]),
+                        unescape(fields[2]),
+                        fields[3].isEmpty() ? -1 : Long.parseLong(fields[3]),
+                        fields[4].isEmpty() ? -1 : Integer.parseInt(fields[4]),
+                        defaultString(unescape(fields[5])));
+            } catch (NumberFormatException ignore) {
+                // fall through
+            }
+        }
+        // not a record, keep as message
+        return new GitHubPollingLogRecord(0, null, null, -1, -1, line);
+    }
+
+    @NonNull
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\"time\":").append(time);
+        if (nonNull(subject)) {
+            sb.append(",\"subject\":").append(JSONUtils.quote(subject));
+        }
+        if (nonNull(decision)) {
+            sb.append(",\"decision\":").append(JSONUtils.quote(decision));
+        }
+        if (durationMillis >= 0) {
+            sb.append(",\"durationMillis\":").append(durationMillis);
+        }
+        if (apiCalls >= 0) {
+            sb.append(",\"apiCalls\":").append(apiCalls);
+        }
+        return sb.append(",\"message\":").append(JSONUtils.quote(message)).append("}").toString();
+    }
+
+    private static String escape(@CheckForNull String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @CheckForNull
+    private static String unescape(@NonNull String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
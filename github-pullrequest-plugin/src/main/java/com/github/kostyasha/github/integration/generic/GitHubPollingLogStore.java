@@ -0,0 +1,133 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.model.Job;
+import hudson.model.Run;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Polling log snapshots in job directory addressed by sha256 of their content.
+ * Causes of one check share the same snapshot and keep only its reference instead of the whole log text.
+ * Snapshots not used since the oldest kept build of job was scheduled are deleted.
+ */
+public class GitHubPollingLogStore {
+    public static final String DIR = "github-polling-logs";
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubPollingLogStore.class);
+
+    private static final Pattern REF = Pattern.compile("[0-9a-f]{64}");
+    private static final String SUFFIX = ".log";
+
+    /**
+     * Time build may wait in queue, snapshot is written before build is scheduled.
+     */
+    private static final long QUEUE_MARGIN = TimeUnit.DAYS.toMillis(1);
+
+    private final Job<?, ?> job;
+    private final File dir;
+
+    public GitHubPollingLogStore(@NonNull Job<?, ?> job) {
+        this.job = job;
+        this.dir = new File(job.getRootDir(), DIR);
+    }
+
+    /**
+     * Copies current content of log into the store.
+     *
+     * @return reference to snapshot.
+     */
+    @NonNull
+    public String store(@NonNull File log) throws IOException {
+        return store(out -> Files.copy(log.toPath(), out));
+    }
+
+    /**
+     * Stores content written by writer.
+     *
+     * @return reference to snapshot.
+     */
+    @NonNull
+    public String store(@NonNull LogWriter writer) throws IOException {
+        Files.createDirectories(dir.toPath());
+
+        // log may be rewritten by next check, hash the copy
+        Path tmp = Files.createTempFile(dir.toPath(), "polling", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.writeTo(out);
+            }
+            String ref;
+            try (InputStream is = Files.newInputStream(tmp)) {
+                ref = DigestUtils.sha256Hex(is);
+            }
+
+            File target = file(ref);
+            if (target.isFile()) {
+                // same content already stored, mark as used for retention
+                target.setLastModified(System.currentTimeMillis());
+            } else {
+                Files.move(tmp, target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
+            return ref;
+        } finally {
+            Files.deleteIfExists(tmp);
+            deleteUnused();
+        }
+    }
+
+    /**
+     * @return snapshot file or null when reference is unknown or snapshot was deleted.
+     */
+    @CheckForNull
+    public File getFile(@CheckForNull String ref) {
+        if (isNull(ref) || !REF.matcher(ref).matches()) {
+            return null;
+        }
+        File file = file(ref);
+        return file.isFile() ? file : null;
+    }
+
+    /**
+     * Deletes snapshots that no kept build can reference.
+     */
+    public void deleteUnused() {
+        Run<?, ?> firstBuild = job.getFirstBuild();
+        if (isNull(firstBuild)) {
+            // snapshots may be referenced only by queued items
+            return;
+        }
+
+        long cutoff = firstBuild.getTimeInMillis() - QUEUE_MARGIN;
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SUFFIX));
+        if (nonNull(files)) {
+            for (File file : files) {
+                if (file.lastModified() < cutoff && !file.delete()) {
+                    LOG.debug("Can't delete polling log {}", file);
+                }
+            }
+        }
+    }
+
+    private File file(String ref) {
+        return new File(dir, ref + SUFFIX);
+    }
+
+    public interface LogWriter {
+        void writeTo(@NonNull OutputStream out) throws IOException;
+    }
+}
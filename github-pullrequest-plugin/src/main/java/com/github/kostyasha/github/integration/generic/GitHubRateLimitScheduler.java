@@ -0,0 +1,287 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Decides whether periodic trigger checks may run now, based on remaining GitHub quota of connection.
+ * While quota is spent faster than it is restored, checks of repositories without recent activity
+ * are deferred proportionally to overspending, so remaining quota lasts until reset.
+ * Checks are stopped when quota is almost exhausted. Hook and manual checks are not affected.
+ * Quota is known only after first check made with connection, until that all checks are admitted.
+ * Quota is kept while connection client is alive, state of idle jobs and repositories is evicted.
+ */
+public class GitHubRateLimitScheduler {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubRateLimitScheduler.class);
+
+    private static final GitHubRateLimitScheduler INSTANCE = new GitHubRateLimitScheduler();
+
+    /**
+     * Repository with hook or triggered build within this period is checked as usual.
+     */
+    public static final long ACTIVE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Max amount of skipped periodic checks in a row.
+     */
+    public static final int MAX_DEFER = 8;
+
+    /**
+     * Minimal amount of requests kept for hooks and manual checks.
+     */
+    public static final int MIN_RESERVE = 50;
+
+    public static final int MAX_DECISIONS = 100;
+
+    /**
+     * Job without checks within this period is forgotten.
+     */
+    public static final long IDLE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private static final long WINDOW_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long PRUNE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * github-plugin keeps one client per server config and credentials, so client identifies quota.
+     * Weak keys drop quota of replaced clients.
+     */
+    private final Map<GitHub, Quota> quotas = new WeakHashMap<>();
+    private final Map<String, Long> activity = new HashMap<>();
+    private final Map<String, JobStats> jobs = new HashMap<>();
+    private final Deque<Decision> decisions = new ArrayDeque<>();
+    private long pruned;
+
+    @NonNull
+    public static GitHubRateLimitScheduler get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return connection name for status page.
+     */
+    @NonNull
+    private static String displayKey(@NonNull GitHub github) {
+        return github.getApiUrl() + "#" + Integer.toHexString(System.identityHashCode(github));
+    }
+
+    /**
+     * Updates quota with rate limit observed after check.
+     *
+     * @param consumed requests spent by check.
+     */
+    public void record(@NonNull GitHub github, @NonNull String jobName, @NonNull GHRateLimit rateLimit,
+                       int consumed) {
+        record(github, jobName, rateLimit, consumed, System.currentTimeMillis());
+    }
+
+    synchronized void record(GitHub github, String jobName, GHRateLimit rateLimit, int consumed, long now) {
+        prune(now);
+        Date reset = rateLimit.getResetDate();
+        if (nonNull(reset) && rateLimit.getLimit() > 0) {
+            quotas.put(github, new Quota(displayKey(github), rateLimit.getLimit(), rateLimit.getRemaining(),
+                    reset.getTime()));
+        }
+        JobStats stats = stats(jobName, now);
+        if (consumed >= 0) {
+            stats.cost = isNull(stats.cost) ? consumed : 0.7 * stats.cost + 0.3 * consumed;
+        }
+    }
+
+    /**
+     * Repository had hook or triggered build, its checks have priority.
+     */
+    public synchronized void markActive(@NonNull String repoFullName) {
+        activity.put(repoFullName.toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    }
+
+    /**
+     * @return true when periodic check of job should run now.
+     */
+    public boolean admit(@NonNull GitHub github, @NonNull String jobName, @NonNull String repoFullName) {
+        return admit(github, jobName, repoFullName, System.currentTimeMillis());
+    }
+
+    synchronized boolean admit(GitHub github, String jobName, String repoFullName, long now) {
+        prune(now);
+        JobStats stats = stats(jobName, now);
+        Quota quota = quotas.get(github);
+        if (isNull(quota) || quota.reset <= now) {
+            return decide(jobName, true, "no quota data since last reset");
+        }
+
+        double cost = Math.max(1, isNull(stats.cost) ? 1.0 : stats.cost);
+        int reserve = Math.max(MIN_RESERVE, quota.limit / 20);
+        int available = quota.remaining - reserve;
+        if (available < cost) {
+            return decide(jobName, false, String.format("quota exhausted (%d left), waiting for reset at %s",
+                    quota.remaining, new Date(quota.reset)));
+        }
+
+        // budget proportional to time left until reset
+        double budget = quota.limit * Math.min(1.0, (double) (quota.reset - now) / WINDOW_MILLIS);
+        boolean admitted;
+        String reason;
+        if (available >= budget) {
+            admitted = true;
+            reason = "on budget";
+        } else if (isActive(repoFullName, now)) {
+            admitted = true;
+            reason = "over budget, but repository has recent activity";
+        } else {
+            int factor = (int) Math.min(MAX_DEFER, Math.ceil(budget / available));
+            admitted = stats.deferred + 1 >= factor;
+            reason = String.format("over budget (%d left, %.0f planned), runs every %d polls", quota.remaining,
+                    budget, factor);
+        }
+
+        if (admitted) {
+            stats.deferred = 0;
+            // other jobs with the same quota see expected spending before real one is recorded
+            quota.remaining -= (int) Math.ceil(cost);
+        } else {
+            stats.deferred++;
+        }
+        return decide(jobName, admitted, reason);
+    }
+
+    private JobStats stats(String jobName, long now) {
+        JobStats stats = jobs.computeIfAbsent(jobName, n -> new JobStats());
+        stats.lastSeen = now;
+        return stats;
+    }
+
+    /**
+     * Forgets deleted or idle jobs, old activity and expired quotas.
+     */
+    private void prune(long now) {
+        if (now - pruned < PRUNE_MILLIS) {
+            return;
+        }
+        pruned = now;
+        jobs.values().removeIf(stats -> now - stats.lastSeen > IDLE_MILLIS);
+        activity.values().removeIf(last -> now - last >= ACTIVE_MILLIS);
+        quotas.values().removeIf(quota -> quota.reset <= now);
+    }
+
+    private boolean isActive(String repoFullName, long now) {
+        Long last = activity.get(repoFullName.toLowerCase(Locale.ENGLISH));
+        return !isNull(last) && now - last < ACTIVE_MILLIS;
+    }
+
+    private boolean decide(String jobName, boolean admitted, String reason) {
+        Decision decision = new Decision(jobName, admitted, reason);
+        decisions.addFirst(decision);
+        while (decisions.size() > MAX_DECISIONS) {
+            decisions.removeLast();
+        }
+        if (!admitted) {
+            LOG.debug("Deferred periodic check of {}: {}", jobName, reason);
+        }
+        return admitted;
+    }
+
+    @NonNull
+    public synchronized List<Decision> getDecisions() {
+        return new ArrayList<>(decisions);
+    }
+
+    @NonNull
+    public synchronized Collection<Quota> getQuotas() {
+        List<Quota> result = new ArrayList<>();
+        for (Quota quota : quotas.values()) {
+            result.add(new Quota(quota.key, quota.limit, quota.remaining, quota.reset));
+        }
+        return result;
+    }
+
+    @CheckForNull
+    public synchronized Quota getQuota(@NonNull GitHub github) {
+        Quota quota = quotas.get(github);
+        return isNull(quota) ? null : new Quota(quota.key, quota.limit, quota.remaining, quota.reset);
+    }
+
+    private static class JobStats {
+        @CheckForNull
+        private Double cost;
+        private int deferred;
+        private long lastSeen;
+    }
+
+    public static class Quota {
+        private final String key;
+        private final int limit;
+        private int remaining;
+        private final long reset;
+
+        Quota(String key, int limit, int remaining, long reset) {
+            this.key = key;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.reset = reset;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public int getRemaining() {
+            return remaining;
+        }
+
+        public Date getReset() {
+            return new Date(reset);
+        }
+    }
+
+    public static class Decision {
+        private final long time = System.currentTimeMillis();
+        private final String jobName;
+        private final boolean admitted;
+        private final String reason;
+
+        Decision(String jobName, boolean admitted, String reason) {
+            this.jobName = jobName;
+            this.admitted = admitted;
+            this.reason = reason;
+        }
+
+        public Date getTime() {
+            return new Date(time);
+        }
+
+        public String getJobName() {
+            return jobName;
+        }
+
+        public boolean isAdmitted() {
+            return admitted;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.Extension;
+import hudson.model.ManagementLink;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Status page with GitHub quotas known by {@link GitHubRateLimitScheduler} and its recent decisions.
+ */
+@Extension
+public class GitHubRateLimitSchedulerLink extends ManagementLink {
+
+    @Override
+    public String getIconFileName() {
+        return "clipboard.png";
+    }
+
+    @Override
+    public String getUrlName() {
+        return "github-trigger-scheduler";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "GitHub Trigger Scheduler";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Remaining GitHub quota and deferred periodic checks of GitHub triggers.";
+    }
+
+    @NonNull
+    @Override
+    public Category getCategory() {
+        return Category.STATUS;
+    }
+
+    @NonNull
+    public GitHubRateLimitScheduler getScheduler() {
+        return GitHubRateLimitScheduler.get();
+    }
+}
@@ -5,11 +5,14 @@ import hudson.ExtensionPoint;
 import hudson.model.AbstractDescribableImpl;
 import hudson.model.Descriptor;
 import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
 
 /**
  * Extension for providing GH connection for specified repository with job context.
@@ -52,6 +55,17 @@ public abstract class GitHubRepoProvider extends AbstractDescribableImpl<GitHubR
     @CheckForNull
     public abstract GHRepository getGHRepository(GitHubTrigger trigger);
 
+    /**
+     * Loader of expensive pull request fields for one check of all open pull requests.
+     * Provider may return loader that gets fields of all pull requests in bulk.
+     *
+     * @param fields fields required by trigger events and environment.
+     */
+    @NonNull
+    public GitHubPRFieldLoader getFieldLoader(GitHubTrigger trigger, Set<GitHubPRField> fields) {
+        return new GitHubPRFieldLoader().withConnection(getGitHub(trigger));
+    }
+
 
     public abstract static class GitHubRepoProviderDescriptor
             extends Descriptor<GitHubRepoProvider> {
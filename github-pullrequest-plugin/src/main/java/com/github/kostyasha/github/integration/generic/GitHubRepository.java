@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.net.URL;
@@ -32,6 +33,8 @@ public abstract class GitHubRepository<T extends GitHubRepository> implements Ac
     protected transient XmlFile configFile; // for save()
     protected transient Job<?, ?> job;  // for UI
     protected transient boolean changed; // for actualisation
+    @CheckForNull
+    protected transient GitHubRepositoryJournal<?, ?> journal; // for append-only save()
 
     @CheckForNull
     private String fullName;
@@ -141,6 +144,38 @@ public abstract class GitHubRepository<T extends GitHubRepository> implements Ac
         this.configFile = configFile;
     }
 
+    /**
+     * Journal for repository entries or null when repository doesn't support append-only persistence.
+     */
+    @CheckForNull
+    protected GitHubRepositoryJournal<?, ?> createJournal(@NonNull File file) {
+        return null;
+    }
+
+    /**
+     * Replays journal left by append-only persistence over state read from {@link #configFile}.
+     * When enabled, following {@link #save()} calls append only changes to journal.
+     * When disabled, existing journal is folded into {@link #configFile}.
+     */
+    public synchronized void loadJournal(boolean enabled) throws IOException {
+        GitHubRepositoryJournal<?, ?> newJournal =
+                createJournal(new File(configFile.getFile().getPath() + GitHubRepositoryJournal.SUFFIX));
+        if (isNull(newJournal)) {
+            return;
+        }
+
+        boolean replayed = newJournal.replay();
+        if (enabled) {
+            newJournal.attach();
+            journal = newJournal;
+        } else {
+            journal = null;
+            if (replayed) {
+                newJournal.compact();
+            }
+        }
+    }
+
     public void saveQuietly() {
         try {
             save();
@@ -156,7 +191,11 @@ public abstract class GitHubRepository<T extends GitHubRepository> implements Ac
                 return;
             }
 
-            configFile.write(this);
+            if (isNull(journal)) {
+                configFile.write(this);
+            } else {
+                journal.save();
+            }
         }
         SaveableListener.fireOnChange(this, configFile);
     }
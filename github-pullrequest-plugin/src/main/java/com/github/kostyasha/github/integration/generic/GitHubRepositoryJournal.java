@@ -0,0 +1,320 @@
+package com.github.kostyasha.github.integration.generic;
+
+import com.thoughtworks.xstream.XStreamException;
+import hudson.util.XStream2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Append-only persistence for {@link GitHubRepository}.
+ * Repository xml file is used as snapshot, journal next to it stores changed and removed entries
+ * and repository fields (header) changes since snapshot. Journal is folded into snapshot when it grows.
+ * Load = read snapshot + replay journal. Torn last record (crash during append) is ignored.
+ *
+ * @param <K> entry key, must survive String round trip.
+ * @param <V> entry value.
+ */
+public class GitHubRepositoryJournal<K, V> {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubRepositoryJournal.class);
+
+    public static final String SUFFIX = ".journal";
+
+    /**
+     * Minimal amount of appended records before compaction.
+     */
+    public static final int COMPACT_RECORDS = 1024;
+
+    private static final byte PUT = 'P';
+    private static final byte REMOVE = 'R';
+    private static final byte HEADER = 'H';
+
+    private static final XStream2 ENTRIES_XSTREAM = new XStream2();
+    private static final XStream2 HEADER_XSTREAM = new XStream2();
+    private static final Set<Class<?>> HEADER_CLASSES = new HashSet<>();
+
+    private final GitHubRepository<?> repository;
+    private final File file;
+    private final String entriesField;
+    private final Supplier<Map<K, V>> entries;
+    private final Function<String, K> keyParser;
+    private final Function<V, Integer> fingerprint;
+    /**
+     * Persisted repository fields, except entries.
+     */
+    private final List<Field> headerFields;
+
+    /**
+     * Last persisted state, compared by reference and fingerprint to find changed entries.
+     */
+    private final Map<K, V> persistedValues = new HashMap<>();
+    private final Map<K, Integer> persistedHashes = new HashMap<>();
+    private List<Object> persistedHeader;
+    private int records;
+
+    /**
+     * @param entriesField name of repository field with entries, excluded from header.
+     * @param entries      live entries map of repository.
+     * @param fingerprint  value based hash of entry, used to notice entries modified in place.
+     */
+    public GitHubRepositoryJournal(@NonNull GitHubRepository<?> repository,
+                                   @NonNull File file,
+                                   @NonNull String entriesField,
+                                   @NonNull Supplier<Map<K, V>> entries,
+                                   @NonNull Function<String, K> keyParser,
+                                   @NonNull Function<V, Integer> fingerprint) {
+        this.repository = repository;
+        this.file = file;
+        this.entriesField = entriesField;
+        this.entries = entries;
+        this.keyParser = keyParser;
+        this.fingerprint = fingerprint;
+        this.headerFields = headerFields(repository.getClass(), entriesField);
+
+        synchronized (HEADER_CLASSES) {
+            if (HEADER_CLASSES.add(repository.getClass())) {
+                HEADER_XSTREAM.omitField(repository.getClass(), entriesField);
+            }
+        }
+    }
+
+    @NonNull
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Applies journal records over current repository state.
+     *
+     * @return true when journal existed.
+     */
+    public boolean replay() throws IOException {
+        if (!file.exists()) {
+            return false;
+        }
+
+        Map<K, V> map = entries.get();
+        String header = null;
+        records = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                byte type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+
+                try {
+                    String key = in.readUTF();
+                    if (type == REMOVE) {
+                        map.remove(keyParser.apply(key));
+                    } else {
+                        byte[] body = new byte[in.readInt()];
+                        in.readFully(body);
+                        if (type == PUT) {
+                            @SuppressWarnings("unchecked")
+                            V value = (V) ENTRIES_XSTREAM.fromXML(new String(body, UTF_8));
+                            map.put(keyParser.apply(key), value);
+                        } else if (type == HEADER) {
+                            header = new String(body, UTF_8);
+                        }
+                    }
+                    records++;
+                } catch (EOFException e) {
+                    LOG.warn("Journal {} ends with incomplete record, ignoring it", file);
+                    break;
+                } catch (XStreamException e) {
+                    LOG.warn("Journal {} has broken record, ignoring rest of journal", file, e);
+                    break;
+                }
+            }
+        }
+
+        if (header != null) {
+            copyHeader(HEADER_XSTREAM.fromXML(header));
+        }
+
+        LOG.debug("Replayed {} records from {}", records, file);
+        return true;
+    }
+
+    /**
+     * Remembers current state as persisted, next {@link #save()} will write only changes after this point.
+     */
+    public void attach() throws IOException {
+        persistedValues.clear();
+        persistedHashes.clear();
+        for (Map.Entry<K, V> entry : entries.get().entrySet()) {
+            persistedValues.put(entry.getKey(), entry.getValue());
+            persistedHashes.put(entry.getKey(), fingerprint.apply(entry.getValue()));
+        }
+        persistedHeader = headerValues();
+
+        if (!repository.getConfigFile().exists()) {
+            compact();
+        }
+    }
+
+    /**
+     * Appends changes since last save, compacts when journal grows over snapshot size.
+     */
+    public void save() throws IOException {
+        Map<K, V> map = entries.get();
+        List<Record> changes = new ArrayList<>();
+
+        // header is serialized only when some of its fields changed
+        List<Object> header = headerValues();
+        if (!header.equals(persistedHeader)) {
+            changes.add(new Record(HEADER, "", HEADER_XSTREAM.toXML(repository)));
+        }
+
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            K key = entry.getKey();
+            V value = entry.getValue();
+            Integer hash = fingerprint.apply(value);
+            if (persistedValues.get(key) != value || !hash.equals(persistedHashes.get(key))) {
+                changes.add(new Record(PUT, key.toString(), ENTRIES_XSTREAM.toXML(value)));
+                persistedValues.put(key, value);
+                persistedHashes.put(key, hash);
+            }
+        }
+
+        for (K key : new ArrayList<>(persistedValues.keySet())) {
+            if (!map.containsKey(key)) {
+                changes.add(new Record(REMOVE, key.toString(), null));
+                persistedValues.remove(key);
+                persistedHashes.remove(key);
+            }
+        }
+        persistedHeader = header;
+
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // journal must reach final state before snapshot replaces it, in case of crash between
+        append(changes);
+
+        if (records > Math.max(COMPACT_RECORDS, 2 * map.size())) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes full snapshot and drops journal.
+     */
+    public void compact() throws IOException {
+        repository.getConfigFile().write(repository);
+        delete();
+        LOG.debug("Compacted journal {}", file);
+    }
+
+    public void delete() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        records = 0;
+    }
+
+    private void append(List<Record> changes) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            for (Record record : changes) {
+                out.writeByte(record.type);
+                out.writeUTF(record.key);
+                if (record.type != REMOVE) {
+                    byte[] body = record.body.getBytes(UTF_8);
+                    out.writeInt(body.length);
+                    out.write(body);
+                }
+            }
+        }
+        records += changes.size();
+    }
+
+    /**
+     * Unmarshalling into existing object can't reset fields that became null, so copy all persisted fields.
+     */
+    private void copyHeader(Object header) {
+        for (Field field : headerFields) {
+            try {
+                field.set(repository, field.get(header));
+            } catch (IllegalAccessException e) {
+                LOG.warn("Can't restore field {} from journal {}", field.getName(), file, e);
+            }
+        }
+    }
+
+    /**
+     * Values to compare header with last written one. Only simple immutable values are kept as is,
+     * others (dates, urls) are compared by their xml form, as {@link java.net.URL#equals(Object)} resolves hosts.
+     */
+    private List<Object> headerValues() {
+        List<Object> values = new ArrayList<>(headerFields.size());
+        for (Field field : headerFields) {
+            try {
+                Object value = field.get(repository);
+                if (isNull(value) || value instanceof String || value instanceof Number
+                        || value instanceof Boolean || value instanceof Enum) {
+                    values.add(value);
+                } else {
+                    values.add(HEADER_XSTREAM.toXML(value));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't read field " + field.getName(), e);
+            }
+        }
+        return values;
+    }
+
+    private static List<Field> headerFields(Class<?> repositoryClass, String entriesField) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type = repositoryClass; !isNull(type) && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+                        || field.getName().equals(entriesField)) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static class Record {
+        private final byte type;
+        private final String key;
+        private final String body;
+
+        Record(byte type, String key, String body) {
+            this.type = type;
+            this.key = key;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.listeners.ItemListener;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Resident local repository state per job, so repository factories don't re-read runtime xml
+ * on every action computation. State is loaded once and kept while job exists under the same name.
+ * Reloaded or reconfigured job gets the same live instance, so a running check never competes
+ * with a second instance writing the same files. Entries are dropped on job or folder rename and delete.
+ */
+public class GitHubRepositoryRegistry {
+    private static final GitHubRepositoryRegistry INSTANCE = new GitHubRepositoryRegistry();
+
+    /**
+     * Keyed by job full name, repository references job, so job can't be a weak key.
+     */
+    private final Map<String, Map<Class<?>, GitHubRepository<?>>> repositories = new HashMap<>();
+
+    @NonNull
+    public static GitHubRepositoryRegistry get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return resident repository for job, loaded with loader when absent.
+     */
+    @NonNull
+    public <R extends GitHubRepository<?>> R get(@NonNull Job<?, ?> job, @NonNull Class<R> type,
+                                                 @NonNull Loader<R> loader) throws IOException {
+        String name = job.getFullName();
+        if (isNull(name)) {
+            // job not attached to item tree yet, listeners can't track it
+            return loader.load(job);
+        }
+
+        synchronized (this) {
+            GitHubRepository<?> repository = repositories.getOrDefault(name, new HashMap<>()).get(type);
+            if (nonNull(repository)) {
+                return type.cast(bind(repository, job));
+            }
+        }
+
+        // load outside of lock, disk read and actualisation may be slow
+        R loaded = loader.load(job);
+
+        synchronized (this) {
+            GitHubRepository<?> repository = repositories.computeIfAbsent(name, n -> new HashMap<>())
+                    .putIfAbsent(type, loaded);
+            return nonNull(repository) ? type.cast(bind(repository, job)) : loaded;
+        }
+    }
+
+    /**
+     * Job instance is recreated on configuration reload, live state follows the current one.
+     */
+    private static GitHubRepository<?> bind(GitHubRepository<?> repository, Job<?, ?> job) {
+        if (repository.getJob() != job) {
+            repository.setJob(job);
+        }
+        return repository;
+    }
+
+    public void invalidate(@NonNull Job<?, ?> job) {
+        invalidate(job.getFullName());
+    }
+
+    /**
+     * Drops state of item and of all jobs inside it when item is folder.
+     */
+    public synchronized void invalidate(@CheckForNull String fullName) {
+        if (nonNull(fullName)) {
+            repositories.remove(fullName);
+            repositories.keySet().removeIf(name -> name.startsWith(fullName + "/"));
+        }
+    }
+
+    public interface Loader<R extends GitHubRepository<?>> {
+        @NonNull
+        R load(@NonNull Job<?, ?> job) throws IOException;
+    }
+
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+        @Override
+        public void onLocationChanged(Item item, String oldFullName, String newFullName) {
+            get().invalidate(oldFullName);
+        }
+
+        @Override
+        public void onDeleted(Item item) {
+            get().invalidate(item.getFullName());
+        }
+    }
+}
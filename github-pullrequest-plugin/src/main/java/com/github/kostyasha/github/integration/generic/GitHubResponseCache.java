@@ -0,0 +1,185 @@
+package com.github.kostyasha.github.integration.generic;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Controller wide cache of GitHub responses shared by all triggers,
+ * so jobs watching the same repository within TTL do one remote call instead of one call per job.
+ * Keyed by GitHub connection, repository, PR number and resource name. Cached objects stay bound to connection
+ * that loaded them, so they are shared only between jobs that use the same connection and so the same credentials.
+ * Disabled (pass-through) until configured with positive TTL.
+ * Hooks invalidate repository entries, so hook-initiated checks see fresh state.
+ */
+public class GitHubResponseCache {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubResponseCache.class);
+
+    /**
+     * Number for resources that belong to whole repository (PR list, branches).
+     */
+    public static final int REPO = 0;
+
+    private static final GitHubResponseCache INSTANCE = new GitHubResponseCache();
+
+    @CheckForNull
+    private volatile Cache<Key, Optional<Object>> cache; // Optional because guava can't hold nulls
+    private long ttlSeconds;
+    private long maxSize;
+
+    @NonNull
+    public static GitHubResponseCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Recreates cache when settings changed.
+     *
+     * @param ttlSeconds how long response is shared, 0 or less disables cache.
+     * @param maxSize    max amount of cached responses.
+     */
+    public synchronized void configure(long ttlSeconds, long maxSize) {
+        if (this.ttlSeconds == ttlSeconds && this.maxSize == maxSize) {
+            return;
+        }
+        this.ttlSeconds = ttlSeconds;
+        this.maxSize = maxSize;
+
+        cache = ttlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(Math.max(1, maxSize))
+                .recordStats()
+                .build();
+        LOG.debug("GitHub response cache configured with ttl {}s and size {}", ttlSeconds, maxSize);
+    }
+
+    public boolean isEnabled() {
+        return !isNull(cache);
+    }
+
+    /**
+     * Returns shared response or calls loader. Loaded value must not be modified by callers.
+     *
+     * @param connection connection that repo was got from, null disables sharing.
+     * @param number     PR number or {@link #REPO}.
+     * @param resource   resource name, like "comments".
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@CheckForNull GitHub connection, @NonNull GHRepository repo, int number,
+                     @NonNull String resource, @NonNull Callable<T> loader) throws IOException {
+        Cache<Key, Optional<Object>> current = cache;
+        if (isNull(current) || isNull(connection)) {
+            return call(loader);
+        }
+
+        try {
+            return (T) current.get(new Key(connection, repo, number, resource),
+                    () -> Optional.<Object>ofNullable(loader.call())).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Can't load " + resource + " for " + repo.getFullName(), cause);
+        }
+    }
+
+    /**
+     * Drops all responses for repository.
+     */
+    public void invalidate(@NonNull String repoFullName) {
+        Cache<Key, Optional<Object>> current = cache;
+        if (!isNull(current)) {
+            String repo = repoFullName.toLowerCase(Locale.ENGLISH);
+            current.asMap().keySet().removeIf(key -> key.repo.equals(repo));
+        }
+    }
+
+    /**
+     * Drops responses for pull request and repository wide responses that include it.
+     */
+    public void invalidate(@NonNull String repoFullName, int number) {
+        Cache<Key, Optional<Object>> current = cache;
+        if (!isNull(current)) {
+            String repo = repoFullName.toLowerCase(Locale.ENGLISH);
+            current.asMap().keySet()
+                    .removeIf(key -> key.repo.equals(repo) && (key.number == number || key.number == REPO));
+        }
+    }
+
+    @NonNull
+    public CacheStats getStats() {
+        Cache<Key, Optional<Object>> current = cache;
+        return isNull(current) ? new CacheStats(0, 0, 0, 0, 0, 0) : current.stats();
+    }
+
+    public long getSize() {
+        Cache<Key, Optional<Object>> current = cache;
+        return isNull(current) ? 0 : current.size();
+    }
+
+    private static <T> T call(Callable<T> loader) throws IOException {
+        try {
+            return loader.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static final class Key {
+        /**
+         * Compared by identity, connection holds credentials and rate limit of loaded objects.
+         */
+        private final GitHub connection;
+        private final String repo;
+        private final int number;
+        private final String resource;
+
+        Key(GitHub connection, GHRepository repository, int number, String resource) {
+            this.connection = connection;
+            this.repo = repository.getFullName().toLowerCase(Locale.ENGLISH);
+            this.number = number;
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return number == key.number
+                    && connection == key.connection
+                    && repo.equals(key.repo)
+                    && resource.equals(key.resource);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(connection), repo, number, resource);
+        }
+    }
+}
@@ -11,7 +11,9 @@ import hudson.model.Action;
 import hudson.model.Job;
 import hudson.triggers.Trigger;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode;
+import org.kohsuke.github.GHRateLimit;
 import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
 import org.kohsuke.stapler.DataBoundSetter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +31,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.codehaus.groovy.runtime.InvokerHelper.asList;
 import static org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode.CRON;
+import static org.jenkinsci.plugins.github.pullrequest.utils.PRHelperFunctions.asFullRepoName;
 
 /**
  * @author Kanstantsin Shautsou
@@ -114,6 +117,7 @@ public abstract class GitHubTrigger<T extends GitHubTrigger<T>> extends Trigger<
         repoName = null; // reset cache
         getRepoProviders().forEach(GitHubRepoProvider::onTriggerStart);
         super.start(project, newInstance);
+        GitHubTriggerJobIndex.get().reindex(project);
     }
 
     @Beta
@@ -193,10 +197,58 @@ public abstract class GitHubTrigger<T extends GitHubTrigger<T>> extends Trigger<
         //TODO clean hooks?
         if (nonNull(job)) {
             LOG.info("Stopping '{}' for project '{}'", getDescriptor().getDisplayName(), job.getFullName());
+            // restarted triggers index job again
+            GitHubTriggerJobIndex.get().remove(job);
         }
         super.stop();
     }
 
+    /**
+     * Checks of triggers with the same key are serialized by {@link GitHubTriggerExecutor}.
+     */
+    @NonNull
+    protected String getExecutorKey() {
+        return isNull(job) ? getClass().getName() + "@" + System.identityHashCode(this) : job.getFullName();
+    }
+
+    /**
+     * Whether periodic check may run now according to remaining GitHub quota.
+     * Admits check when quota can't be determined.
+     *
+     * @see GitHubRateLimitScheduler
+     */
+    protected boolean isPollAdmitted() {
+        try {
+            GitHub github = getRepoProvider().getGitHub(this);
+            if (isNull(github) || isNull(job)) {
+                return true;
+            }
+            return GitHubRateLimitScheduler.get()
+                    .admit(github, job.getFullName(), asFullRepoName(getRepoFullName()));
+        } catch (Exception e) {
+            LOG.debug("Can't check GitHub quota for {}, running check", job, e);
+            return true;
+        }
+    }
+
+    /**
+     * Shares quota observed after check with {@link GitHubRateLimitScheduler}.
+     *
+     * @param consumed requests spent by full check, negative for partial (hook) checks.
+     * @param causes   amount of found build causes, repository with builds gets priority.
+     */
+    protected void recordRateLimit(@NonNull GitHub github, @NonNull GHRateLimit rateLimit, int consumed,
+                                   int causes) {
+        if (isNull(job)) {
+            return;
+        }
+        GitHubRateLimitScheduler scheduler = GitHubRateLimitScheduler.get();
+        scheduler.record(github, job.getFullName(), rateLimit, consumed);
+        if (causes > 0) {
+            scheduler.markActive(asFullRepoName(getRepoFullName()));
+        }
+    }
+
     public abstract String getFinishMsg();
 
     public abstract GitHubPollingLogAction getPollingLogAction();
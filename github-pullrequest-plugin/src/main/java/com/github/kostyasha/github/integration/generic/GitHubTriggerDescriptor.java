@@ -31,6 +31,10 @@ public abstract class GitHubTriggerDescriptor extends TriggerDescriptor {
     private transient SequentialExecutionQueue queue =
             new SequentialExecutionQueue(Jenkins.MasterComputer.threadPoolForRemoting);
 
+    /**
+     * @deprecated checks are run with {@link #getExecutor()}.
+     */
+    @Deprecated
     @NonNull
     public SequentialExecutionQueue getQueue() {
         if (isNull(queue)) {
@@ -39,10 +43,56 @@ public abstract class GitHubTriggerDescriptor extends TriggerDescriptor {
         return queue;
     }
 
+    private transient GitHubTriggerExecutor executor;
+
+    /**
+     * Pool for trigger checks of this trigger type, checks of one job are never run concurrently.
+     */
+    @NonNull
+    public synchronized GitHubTriggerExecutor getExecutor() {
+        if (isNull(executor)) {
+            executor = new GitHubTriggerExecutor(getClass().getSimpleName() + ".trigger", getTriggerParallelism());
+        }
+        return executor;
+    }
+
+    private transient GitHubHookCoalescer hookCoalescer = new GitHubHookCoalescer();
+
+    @NonNull
+    public GitHubHookCoalescer getHookCoalescer() {
+        if (isNull(hookCoalescer)) {
+            hookCoalescer = new GitHubHookCoalescer();
+        }
+        return hookCoalescer;
+    }
+
+    /**
+     * Scheduler shared by all GitHub triggers, quota is per connection and not per trigger type.
+     */
+    @NonNull
+    public GitHubRateLimitScheduler getRateLimitScheduler() {
+        return GitHubRateLimitScheduler.get();
+    }
+
     private String publishedURL;
 
     private boolean actualiseOnFactory = false;
 
+    /**
+     * Append changed entries of local repository state to journal instead of rewriting whole xml file.
+     */
+    private boolean journalPersistence = false;
+
+    /**
+     * Seconds to wait for more hooks about the same PR/branch before running check.
+     */
+    private int hookCoalesceWindow = 0;
+
+    /**
+     * Jobs checked in parallel.
+     */
+    private int triggerParallelism = 5;
+
     public String getPublishedURL() {
         return publishedURL;
     }
@@ -59,6 +109,33 @@ public abstract class GitHubTriggerDescriptor extends TriggerDescriptor {
         this.actualiseOnFactory = actualiseOnFactory;
     }
 
+    public boolean isJournalPersistence() {
+        return journalPersistence;
+    }
+
+    public void setJournalPersistence(boolean journalPersistence) {
+        this.journalPersistence = journalPersistence;
+    }
+
+    public int getHookCoalesceWindow() {
+        return Math.max(0, hookCoalesceWindow);
+    }
+
+    public void setHookCoalesceWindow(int hookCoalesceWindow) {
+        this.hookCoalesceWindow = hookCoalesceWindow;
+    }
+
+    public int getTriggerParallelism() {
+        return Math.max(1, triggerParallelism);
+    }
+
+    public synchronized void setTriggerParallelism(int triggerParallelism) {
+        this.triggerParallelism = triggerParallelism;
+        if (nonNull(executor)) {
+            executor.setParallelism(getTriggerParallelism());
+        }
+    }
+
     public String getJenkinsURL() {
         String url = getPublishedURL();
         if (isNotBlank(url)) {
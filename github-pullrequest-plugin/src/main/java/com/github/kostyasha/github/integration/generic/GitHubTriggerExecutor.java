@@ -0,0 +1,185 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Runs trigger checks on bounded pool.
+ * Checks with different keys (jobs) run in parallel, checks with the same key run one after another.
+ * Queued check that equals already queued one for the same key (full scan, the same PR or branch)
+ * is dropped, because queued check will see the latest remote state anyway.
+ */
+public class GitHubTriggerExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubTriggerExecutor.class);
+
+    private static final String FULL = ":all";
+
+    /**
+     * Task of periodic check, kept apart from full check requested manually, because periodic check may be deferred.
+     */
+    public static final String POLL = ":poll";
+
+    private final ThreadPoolExecutor pool;
+
+    /**
+     * Queued checks per key, key is present while it has queued or running check.
+     */
+    private final Map<String, Map<String, Check>> queues = new HashMap<>();
+    private int queued;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong waitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+
+    public GitHubTriggerExecutor(@NonNull String name, int parallelism) {
+        int threads = Math.max(1, parallelism);
+        pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamingThreadFactory(new DaemonThreadFactory(), name));
+        pool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Changes amount of checks running in parallel, running checks are not affected.
+     */
+    public synchronized void setParallelism(int parallelism) {
+        int threads = Math.max(1, parallelism);
+        if (threads > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(threads);
+            pool.setCorePoolSize(threads);
+        } else {
+            pool.setCorePoolSize(threads);
+            pool.setMaximumPoolSize(threads);
+        }
+    }
+
+    public int getParallelism() {
+        return pool.getMaximumPoolSize();
+    }
+
+    /**
+     * @param key   checks with the same key never run concurrently, usually job full name.
+     * @param task  what is checked (PR number or branch), null for full check.
+     *              Equal task already queued for key absorbs this one.
+     * @param check check to run.
+     */
+    public synchronized void submit(@NonNull String key, @CheckForNull String task, @NonNull Runnable check) {
+        submitted.incrementAndGet();
+
+        String taskKey = isNull(task) ? FULL : task;
+        Map<String, Check> queue = queues.get(key);
+        boolean idle = isNull(queue);
+        if (idle) {
+            queue = new LinkedHashMap<>();
+            queues.put(key, queue);
+        } else if (queue.containsKey(taskKey)) {
+            collapsed.incrementAndGet();
+            LOG.debug("Check {} for {} merged with queued one", taskKey, key);
+            return;
+        }
+
+        queue.put(taskKey, new Check(check));
+        queued++;
+
+        if (idle) {
+            pool.execute(() -> runNext(key));
+        }
+    }
+
+    /**
+     * Runs one check for key and puts key back to the end of pool queue,
+     * so busy job doesn't hold thread while other jobs wait.
+     */
+    private void runNext(String key) {
+        Check check;
+        synchronized (this) {
+            Iterator<Check> iterator = queues.get(key).values().iterator();
+            check = iterator.next();
+            iterator.remove();
+            queued--;
+        }
+
+        long wait = System.currentTimeMillis() - check.queuedAt;
+        waitMillis.addAndGet(wait);
+        maxWaitMillis.accumulateAndGet(wait, Math::max);
+        executed.incrementAndGet();
+
+        try {
+            check.action.run();
+        } catch (Throwable t) {
+            LOG.error("Trigger check for {} failed", key, t);
+        } finally {
+            synchronized (this) {
+                if (queues.get(key).isEmpty()) {
+                    queues.remove(key);
+                } else {
+                    pool.execute(() -> runNext(key));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return checks waiting for thread.
+     */
+    public synchronized int getQueueDepth() {
+        return queued;
+    }
+
+    /**
+     * @return keys with queued or running checks.
+     */
+    public synchronized int getActiveKeys() {
+        return queues.size();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    /**
+     * @return checks dropped because equal check was already queued.
+     */
+    public long getCollapsed() {
+        return collapsed.get();
+    }
+
+    public long getExecuted() {
+        return executed.get();
+    }
+
+    public long getAverageWaitMillis() {
+        long count = executed.get();
+        return count == 0 ? 0 : waitMillis.get() / count;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis.get();
+    }
+
+    private static class Check {
+        private final long queuedAt = System.currentTimeMillis();
+        private final Runnable action;
+
+        Check(Runnable action) {
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.model.Item;
+import hudson.model.Job;
+import hudson.model.Saveable;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.SaveableListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.triggers.Trigger;
+import jenkins.model.Jenkins;
+import jenkins.model.ParameterizedJobMixIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static hudson.security.ACL.SYSTEM;
+import static java.util.Objects.isNull;
+import static org.jenkinsci.plugins.github.pullrequest.utils.PRHelperFunctions.asFullRepoName;
+
+/**
+ * Index of jobs with {@link GitHubTrigger} by trigger type and repository full name,
+ * so webhook dispatch doesn't iterate over all Jenkins items.
+ * Job entries are recalculated on trigger start, job load, creation, save and removed on trigger stop
+ * and deletion of job or any folder containing it.
+ * Index is only a candidates source, subscribers still verify trigger mode and repository.
+ */
+public class GitHubTriggerJobIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubTriggerJobIndex.class);
+
+    private static final GitHubTriggerJobIndex INSTANCE = new GitHubTriggerJobIndex();
+
+    private final Map<String, Set<Job<?, ?>>> jobsByKey = new HashMap<>();
+    private final Map<Job<?, ?>, Set<String>> keysByJob = new HashMap<>();
+
+    @NonNull
+    public static GitHubTriggerJobIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param repo full repository name in "owner/name" form, case insensitive.
+     * @return snapshot of jobs that had trigger of this type for repo during last indexing.
+     */
+    @NonNull
+    public synchronized Set<Job> getJobs(@NonNull Class<? extends GitHubTrigger> type, @NonNull String repo) {
+        Set<Job<?, ?>> jobs = jobsByKey.get(key(type, repo));
+        return isNull(jobs) ? Collections.emptySet() : new HashSet<Job>(jobs);
+    }
+
+    /**
+     * Recalculates entries for job from its current triggers.
+     */
+    public void reindex(@NonNull Job<?, ?> job) {
+        Set<String> keys = new HashSet<>();
+        if (job instanceof ParameterizedJobMixIn.ParameterizedJob) {
+            Map<?, Trigger<?>> triggers = ((ParameterizedJobMixIn.ParameterizedJob<?, ?>) job).getTriggers();
+            for (Trigger<?> trigger : triggers.values()) {
+                if (trigger instanceof GitHubTrigger) {
+                    try {
+                        String repo = asFullRepoName(((GitHubTrigger<?>) trigger).getRepoFullName(job));
+                        // lookup by any trigger type in hierarchy
+                        for (Class<?> type = trigger.getClass(); GitHubTrigger.class.isAssignableFrom(type);
+                             type = type.getSuperclass()) {
+                            keys.add(key(type, repo));
+                        }
+                    } catch (Exception ex) {
+                        LOG.debug("Can't get GitHub repository name for {}, not indexed", job.getFullName(), ex);
+                    }
+                }
+            }
+        }
+
+        synchronized (this) {
+            removeKeys(job);
+            if (!keys.isEmpty()) {
+                keysByJob.put(job, keys);
+                for (String key : keys) {
+                    jobsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(job);
+                }
+            }
+        }
+    }
+
+    public synchronized void remove(@NonNull Job<?, ?> job) {
+        removeKeys(job);
+    }
+
+    /**
+     * Removes job with this full name and all jobs inside item with this full name.
+     */
+    public synchronized void removeAll(@NonNull String fullName) {
+        List<Job<?, ?>> removed = new ArrayList<>();
+        for (Job<?, ?> job : keysByJob.keySet()) {
+            String jobName = job.getFullName();
+            if (jobName.equals(fullName) || jobName.startsWith(fullName + "/")) {
+                removed.add(job);
+            }
+        }
+        removed.forEach(this::removeKeys);
+    }
+
+    private void removeKeys(Job<?, ?> job) {
+        Set<String> keys = keysByJob.remove(job);
+        if (isNull(keys)) {
+            return;
+        }
+
+        for (String key : keys) {
+            Set<Job<?, ?>> jobs = jobsByKey.get(key);
+            if (jobs != null) {
+                jobs.remove(job);
+                if (jobs.isEmpty()) {
+                    jobsByKey.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String key(Class<?> type, String repo) {
+        return type.getName() + ":" + repo.toLowerCase(Locale.ENGLISH);
+    }
+
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+        @Override
+        public void onLoaded() {
+            try (ACLContext ignored = ACL.as(SYSTEM)) {
+                for (Job<?, ?> job : Jenkins.get().getAllItems(Job.class)) {
+                    get().reindex(job);
+                }
+            }
+        }
+
+        @Override
+        public void onCreated(Item item) {
+            if (item instanceof Job) {
+                get().reindex((Job<?, ?>) item);
+            }
+        }
+
+        @Override
+        public void onUpdated(Item item) {
+            onCreated(item);
+        }
+
+        @Override
+        public void onDeleted(Item item) {
+            // folder deletion may not report every nested job
+            for (Job<?, ?> job : item.getAllJobs()) {
+                get().remove(job);
+            }
+            get().removeAll(item.getFullName());
+        }
+    }
+
+    /**
+     * Catches programmatic trigger and property changes that end with job save.
+     */
+    @Extension
+    public static class SaveableListenerImpl extends SaveableListener {
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof Job) {
+                get().reindex((Job<?, ?>) o);
+            }
+        }
+    }
+}
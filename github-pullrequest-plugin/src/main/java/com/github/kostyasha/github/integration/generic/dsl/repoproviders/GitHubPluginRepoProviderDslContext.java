@@ -19,6 +19,10 @@ public class GitHubPluginRepoProviderDslContext implements Context {
         provider.setManageHooks(manageHooks);
     }
 
+    public void graphqlFetch(boolean graphqlFetch) {
+        provider.setGraphqlFetch(graphqlFetch);
+    }
+
     public void permission(Runnable closure) {
         GHRepoPermissionDslContext permissionContext = new GHRepoPermissionDslContext();
         ContextExtensionPoint.executeInContext(closure, permissionContext);
@@ -9,7 +9,11 @@ import hudson.Extension;
 import org.apache.commons.lang3.BooleanUtils;
 import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.GitHubPlugin;
+import org.jenkinsci.plugins.github.config.GitHubServerConfig;
 import org.jenkinsci.plugins.github.internal.GHPluginConfigException;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRGraphQLFieldLoader;
 import org.jenkinsci.plugins.github.util.misc.NullSafePredicate;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
@@ -21,11 +25,13 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.Set;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.BooleanUtils.isNotFalse;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.jenkinsci.plugins.github.config.GitHubServerConfig.withHost;
 import static org.jenkinsci.plugins.github.util.FluentIterableWrapper.from;
 
@@ -45,6 +51,8 @@ public class GitHubPluginRepoProvider extends GitHubRepoProvider {
 
     private GHPermission repoPermission = GHPermission.ADMIN;
 
+    private Boolean graphqlFetch = false;
+
     private transient GHRepository remoteRepository;
     private transient GitHub gitHub;
 
@@ -79,6 +87,15 @@ public class GitHubPluginRepoProvider extends GitHubRepoProvider {
         this.repoPermission = repoPermission;
     }
 
+    public boolean isGraphqlFetch() {
+        return isTrue(graphqlFetch);
+    }
+
+    @DataBoundSetter
+    public void setGraphqlFetch(boolean graphqlFetch) {
+        this.graphqlFetch = graphqlFetch;
+    }
+
     @Override
     public void registerHookFor(GitHubTrigger trigger) {
         GitHubWebHook.get().registerHookFor(trigger.getJob());
@@ -161,10 +178,38 @@ public class GitHubPluginRepoProvider extends GitHubRepoProvider {
         return remoteRepository;
     }
 
+    @NonNull
+    @Override
+    public GitHubPRFieldLoader getFieldLoader(GitHubTrigger trigger, Set<GitHubPRField> fields) {
+        if (!isGraphqlFetch() || fields.isEmpty()) {
+            return super.getFieldLoader(trigger, fields);
+        }
+
+        final GitHubRepositoryName name = trigger.getRepoFullName();
+        Optional<GitHubServerConfig> config = from(GitHubPlugin.configuration().getConfigs())
+                .firstMatch(withHost(name.getHost()));
+        if (!config.isPresent()) {
+            return super.getFieldLoader(trigger, fields);
+        }
+
+        try {
+            String token = GitHubServerConfig.tokenFor(config.get().getCredentialsId());
+            if (isNotEmpty(token)) {
+                return new GitHubPRGraphQLFieldLoader(config.get().getApiUrl(), token,
+                        name.getUserName(), name.getRepositoryName(), fields).withConnection(getGitHub(trigger));
+            }
+        } catch (Exception ex) {
+            LOG.warn("Can't use GraphQL for {}, fields will be loaded with REST", name, ex);
+        }
+
+        return super.getFieldLoader(trigger, fields);
+    }
+
     protected Object readResolve() {
         if (isNull(cacheConnection)) cacheConnection = true;
         if (isNull(repoPermission)) repoPermission = GHPermission.ADMIN;
         if (isNull(manageHooks)) manageHooks = true;
+        if (isNull(graphqlFetch)) graphqlFetch = false;
         return this;
     }
 
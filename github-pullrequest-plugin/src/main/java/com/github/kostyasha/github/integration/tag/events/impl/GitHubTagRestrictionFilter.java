@@ -6,6 +6,7 @@ import com.github.kostyasha.github.integration.tag.events.GitHubTagEvent;
 import com.github.kostyasha.github.integration.tag.events.GitHubTagEventDescriptor;
 import hudson.Extension;
 import org.jenkinsci.Symbol;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.github.GHTag;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
@@ -15,7 +16,6 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -110,7 +110,7 @@ public class GitHubTagRestrictionFilter extends GitHubTagEvent {
 
         try {
             LOGGER.debug("Checking tag [{}] against pattern [{}].", name, pattern);
-            return Pattern.compile(pattern).matcher(name).matches();
+            return PatternCache.matches(pattern, name);
         } catch (PatternSyntaxException e) {
             LOGGER.error("Invalid pattern [{}] detected checking tag [{}]", pattern, name, e);
             return false;
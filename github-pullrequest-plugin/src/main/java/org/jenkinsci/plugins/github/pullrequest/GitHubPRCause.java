@@ -8,8 +8,6 @@ import hudson.model.ParameterValue;
 import hudson.model.Run;
 import jenkins.scm.api.SCMSourceOwner;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jenkinsci.plugins.github.pullrequest.data.GitHubPREnv;
@@ -24,6 +22,7 @@ import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import static java.util.Objects.isNull;
@@ -65,7 +64,18 @@ public class GitHubPRCause extends GitHubCause<GitHubPRCause> {
                          GitHubPRRepository localRepo,
                          String reason,
                          boolean skip) {
-        this(new GitHubPRPullRequest(remotePr), unwrapUser(remotePr), localRepo, skip, reason);
+        this(new GitHubPRPullRequest(remotePr), remotePr, localRepo, reason, skip);
+    }
+
+    /**
+     * @param pr snapshot of remotePr, allows to reuse already loaded data.
+     */
+    public GitHubPRCause(GitHubPRPullRequest pr,
+                         GHPullRequest remotePr,
+                         GitHubPRRepository localRepo,
+                         String reason,
+                         boolean skip) {
+        this(pr, unwrapUser(remotePr), localRepo, skip, reason);
         withRemoteData(remotePr);
         if (localRepo != null) {
             withLocalRepo(localRepo);
@@ -185,6 +195,7 @@ public class GitHubPRCause extends GitHubCause<GitHubPRCause> {
         withGitUrl(orig.getGitUrl());
         withSshUrl(orig.getSshUrl());
         withPollingLog(orig.getPollingLog());
+        withPollingLogRef(orig.getPollingLogRef());
     }
 
     public static GitHubPRCause newGitHubPRCause() {
@@ -436,10 +447,12 @@ public class GitHubPRCause extends GitHubCause<GitHubPRCause> {
             return;
         }
 
-        // move polling log from cause to action
+        // move polling log from cause to action, referenced log is resolved by action
         try {
             GitHubPRPollingLogAction action = new GitHubPRPollingLogAction(run);
-            FileUtils.writeStringToFile(action.getPollingLogFile(), getPollingLog());
+            if (isNull(getPollingLogRef())) {
+                FileUtils.writeStringToFile(action.getPollingLogFile(), getPollingLog());
+            }
             run.replaceAction(action);
         } catch (IOException e) {
             LOGGER.warn("Failed to persist the polling log", e);
@@ -449,17 +462,52 @@ public class GitHubPRCause extends GitHubCause<GitHubPRCause> {
 
     @Override
     public boolean equals(Object o) {
-        return EqualsBuilder.reflectionEquals(this, o);
+        if (!super.equals(o)) {
+            return false;
+        }
+        GitHubPRCause that = (GitHubPRCause) o;
+        return number == that.number
+                && mergeable == that.mergeable
+                && Objects.equals(headSha, that.headSha)
+                && Objects.equals(state, that.state)
+                && Objects.equals(targetBranch, that.targetBranch)
+                && Objects.equals(sourceBranch, that.sourceBranch)
+                && Objects.equals(condRef, that.condRef)
+                && Objects.equals(labels, that.labels)
+                && Objects.equals(prAuthorEmail, that.prAuthorEmail)
+                && Objects.equals(sourceRepoOwner, that.sourceRepoOwner)
+                && Objects.equals(triggerSenderName, that.triggerSenderName)
+                && Objects.equals(triggerSenderEmail, that.triggerSenderEmail)
+                && Objects.equals(commitAuthorName, that.commitAuthorName)
+                && Objects.equals(commitAuthorEmail, that.commitAuthorEmail)
+                && Objects.equals(commentAuthorName, that.commentAuthorName)
+                && Objects.equals(commentAuthorEmail, that.commentAuthorEmail)
+                && Objects.equals(commentBodyMatch, that.commentBodyMatch)
+                && Objects.equals(commentBody, that.commentBody)
+                && Objects.equals(body, that.body);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return 31 * super.hashCode() + Objects.hash(number, headSha);
     }
 
     @Override
     public String toString() {
-        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("number", number)
+                .append("headSha", headSha)
+                .append("state", state)
+                .append("targetBranch", targetBranch)
+                .append("sourceBranch", sourceBranch)
+                .append("condRef", condRef)
+                .append("mergeable", mergeable)
+                .append("labels", labels)
+                .append("triggerSenderName", triggerSenderName)
+                .append("commentAuthorName", commentAuthorName)
+                .append("reason", getReason())
+                .append("skip", isSkip())
+                .toString();
     }
 
 }
@@ -1,31 +1,39 @@
 package org.jenkinsci.plugins.github.pullrequest;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.io.BaseEncoding;
 import hudson.Functions;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
 import org.kohsuke.github.GHCommitPointer;
-import org.kohsuke.github.GHIssueComment;
-import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHPullRequest;
-import org.kohsuke.github.GHRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 
-import static com.github.kostyasha.github.integration.generic.utils.RetryableGitHubOperation.execute;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.COMMENTS;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.LABELS;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.MERGEABLE;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.USER_EMAIL;
 
 /**
  * Maintains state about a Pull Request for a particular Jenkins job.  This is what understands the current state
@@ -35,98 +43,179 @@ import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 public class GitHubPRPullRequest {
     private static final Logger LOGGER = LoggerFactory.getLogger(GitHubPRPullRequest.class);
 
+    /**
+     * Values that repeat between pull requests and jobs: refs, logins, states, labels.
+     */
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+    private static final BaseEncoding HEX = BaseEncoding.base16().lowerCase();
+    private static final int SHA_LENGTH = 40;
+
     private final int number;
     // https://github.com/kohsuke/github-api/issues/178
-    private final Date issueUpdatedAt;
+    private long issueUpdatedAtMillis;
     private String title;
     private String body;
-    private Date prUpdatedAt;
+    private long prUpdatedAtMillis;
+    /**
+     * Head sha packed to 20 bytes, {@link #headSha} keeps only values that are not usual lowercase hex sha.
+     */
+    @CheckForNull
+    private byte[] headCommit;
     private String headSha;
     private String headRef;
     private Boolean mergeable;
     private String baseRef;
     private String userEmail;
     private String userLogin;
-    private URL htmlUrl;
-    private Set<String> labels;
+    private String htmlUrl;
+    /**
+     * Sorted interned label names, null when labels weren't loaded.
+     */
     @CheckForNull
-    private Date lastCommentCreatedAt;
+    private String[] labelNames;
+    /**
+     * Comments created up to this date were seen, next check fetches only newer comments.
+     */
+    private long lastCommentCreatedAtMillis;
     private String sourceRepoOwner;
     private String state;
 
     private boolean inBadState = false;
 
+    // fields of old format, moved to compact ones in readResolve()
+    @Deprecated
+    private Date issueUpdatedAt;
+    @Deprecated
+    private Date prUpdatedAt;
+    @Deprecated
+    private Date lastCommentCreatedAt;
+    @Deprecated
+    private Set<String> labels;
+
     /**
      * Save only what we need for next comparison
      */
     public GitHubPRPullRequest(GHPullRequest pr) {
+        this(pr, EnumSet.allOf(GitHubPRField.class), new GitHubPRFieldLoader());
+    }
+
+    /**
+     * Snapshot that loads only requested expensive fields.
+     * Not loaded comments are assumed seen up to issue update time, not loaded labels are unknown.
+     *
+     * @param fields fields that something declared dependency on.
+     * @param loader memoizing loader of current run.
+     */
+    public GitHubPRPullRequest(@NonNull GHPullRequest pr,
+                               @NonNull Set<GitHubPRField> fields,
+                               @NonNull GitHubPRFieldLoader loader) {
         try {
-            userLogin = pr.getUser().getLogin();
+            userLogin = intern(pr.getUser().getLogin());
             number = pr.getNumber();
-            prUpdatedAt = pr.getUpdatedAt();
-            issueUpdatedAt = pr.getIssueUpdatedAt();
+            prUpdatedAtMillis = millis(pr.getUpdatedAt());
+            issueUpdatedAtMillis = millis(pr.getIssueUpdatedAt());
         } catch (IOException e) {
             // those methods never actually throw IOExceptions
             throw new IllegalStateException(e);
         }
 
         GHCommitPointer prHead = pr.getHead();
-        headSha = prHead.getSha();
-        headRef = prHead.getRef();
-        sourceRepoOwner = prHead.getRepository() == null ? null : prHead.getRepository().getOwnerName();
+        setHeadSha(prHead.getSha());
+        headRef = intern(prHead.getRef());
+        sourceRepoOwner = prHead.getRepository() == null ? null : intern(prHead.getRepository().getOwnerName());
 
         title = pr.getTitle();
-        baseRef = pr.getBase().getRef();
-        htmlUrl = pr.getHtmlUrl();
-
-        try {
-            Date maxDate = new Date(0);
-            List<GHIssueComment> comments = execute(pr::getComments);
-            for (GHIssueComment comment : comments) {
-                if (comment.getCreatedAt().compareTo(maxDate) > 0) {
-                    maxDate = comment.getCreatedAt();
-                }
+        baseRef = intern(pr.getBase().getRef());
+        URL prUrl = pr.getHtmlUrl();
+        htmlUrl = isNull(prUrl) ? null : prUrl.toString();
+
+        if (fields.contains(COMMENTS)) {
+            try {
+                lastCommentCreatedAtMillis = millis(loader.getLastCommentCreatedAt(pr));
+            } catch (IOException e) {
+                LOGGER.error("Can't get comments for PR: {}", pr.getNumber(), e);
+                lastCommentCreatedAtMillis = 0;
             }
-            lastCommentCreatedAt = maxDate.getTime() == 0 ? null : new Date(maxDate.getTime());
-        } catch (IOException e) {
-            LOGGER.error("Can't get comments for PR: {}", pr.getNumber(), e);
-            lastCommentCreatedAt = null;
+        } else {
+            // any newer comment will bump issue update time
+            lastCommentCreatedAtMillis = issueUpdatedAtMillis;
         }
 
-        try {
-            userEmail = execute(() -> pr.getUser().getEmail());
-        } catch (Exception e) {
-            LOGGER.error("Can't get GitHub user email.", e);
-            userEmail = "";
+        if (fields.contains(USER_EMAIL)) {
+            try {
+                userEmail = intern(loader.getUserEmail(pr));
+            } catch (Exception e) {
+                LOGGER.error("Can't get GitHub user email.", e);
+                userEmail = "";
+            }
         }
 
-        GHRepository remoteRepo = pr.getRepository();
-
-        try {
-            updateLabels(execute(() -> remoteRepo.getIssue(number).getLabels()));
-        } catch (IOException e) {
-            LOGGER.error("Can't retrieve label list: {}", e);
-            inBadState = true;
+        if (fields.contains(LABELS)) {
+            try {
+                labelNames = internLabels(loader.getLabels(pr));
+            } catch (IOException e) {
+                LOGGER.error("Can't retrieve label list: {}", e);
+                inBadState = true;
+            }
         }
 
-        // see https://github.com/kohsuke/github-api/issues/111
-        try {
-            mergeable = execute(pr::getMergeable);
-        } catch (IOException e) {
-            LOGGER.error("Can't get mergeable status.", e);
-            mergeable = false;
+        if (fields.contains(MERGEABLE)) {
+            try {
+                mergeable = loader.getMergeable(pr);
+            } catch (IOException e) {
+                LOGGER.error("Can't get mergeable status.", e);
+                mergeable = false;
+            }
         }
 
-        state = pr.getState().toString();
+        state = intern(pr.getState().toString());
         body = pr.getBody();
     }
 
+    /**
+     * Moves state stored in old format to compact fields and interns repeated strings.
+     */
+    protected Object readResolve() {
+        // old format always stored labels, missing ones mean broken snapshot
+        if (nonNull(prUpdatedAt) && isNull(labels) && isNull(labelNames)) {
+            inBadState = true;
+        }
+        if (nonNull(issueUpdatedAt)) {
+            issueUpdatedAtMillis = millis(issueUpdatedAt);
+            issueUpdatedAt = null;
+        }
+        if (nonNull(prUpdatedAt)) {
+            prUpdatedAtMillis = millis(prUpdatedAt);
+            prUpdatedAt = null;
+        }
+        if (nonNull(lastCommentCreatedAt)) {
+            lastCommentCreatedAtMillis = millis(lastCommentCreatedAt);
+            lastCommentCreatedAt = null;
+        }
+        if (nonNull(labels)) {
+            labelNames = internLabels(labels);
+            labels = null;
+        } else if (nonNull(labelNames)) {
+            labelNames = internLabels(Arrays.asList(labelNames));
+        }
+        if (nonNull(headSha)) {
+            setHeadSha(headSha);
+        }
+        headRef = intern(headRef);
+        baseRef = intern(baseRef);
+        userEmail = intern(userEmail);
+        userLogin = intern(userLogin);
+        sourceRepoOwner = intern(sourceRepoOwner);
+        state = intern(state);
+        return this;
+    }
+
     public int getNumber() {
         return number;
     }
 
     public String getHeadSha() {
-        return headSha;
+        return isNull(headCommit) ? headSha : HEX.encode(headCommit);
     }
 
     public boolean isMergeable() {
@@ -153,29 +242,45 @@ public class GitHubPRPullRequest {
         return body;
     }
 
+    /**
+     * @return false when labels weren't loaded, {@link #getLabels()} is empty then but says nothing.
+     */
+    public boolean isLabelsLoaded() {
+        return nonNull(labelNames);
+    }
+
     @NonNull
     public Set<String> getLabels() {
-        return isNull(labels) ? Collections.<String>emptySet() : labels;
+        return isNull(labelNames) ? Collections.<String>emptySet() : new HashSet<>(Arrays.asList(labelNames));
     }
 
     @CheckForNull
     public Date getLastCommentCreatedAt() {
-        return lastCommentCreatedAt;
+        return date(lastCommentCreatedAtMillis);
     }
 
     /**
      * URL to the Github Pull Request.
      */
+    @CheckForNull
     public URL getHtmlUrl() {
-        return htmlUrl;
+        if (isNull(htmlUrl)) {
+            return null;
+        }
+        try {
+            return new URL(htmlUrl);
+        } catch (MalformedURLException e) {
+            LOGGER.error("Bad url of PR: {}", number, e);
+            return null;
+        }
     }
 
     public Date getPrUpdatedAt() {
-        return new Date(prUpdatedAt.getTime());
+        return date(prUpdatedAtMillis);
     }
 
     public Date getIssueUpdatedAt() {
-        return issueUpdatedAt;
+        return date(issueUpdatedAtMillis);
     }
 
     public String getUserLogin() {
@@ -198,21 +303,50 @@ public class GitHubPRPullRequest {
      * as is
      */
     public void setLabels(Set<String> labels) {
-        this.labels = labels;
+        this.labelNames = isNull(labels) ? null : internLabels(labels);
     }
 
-    private void updateLabels(Collection<GHLabel> labels) {
-        this.labels = new HashSet<>();
-        for (GHLabel label : labels) {
-            this.labels.add(label.getName());
+    /**
+     * Indicates that remote PR wasn't fully saved locally during last check.
+     * Not requested labels are unknown, but snapshot is still complete.
+     */
+    public boolean isInBadState() {
+        return inBadState;
+    }
+
+    private void setHeadSha(@CheckForNull String sha) {
+        if (nonNull(sha) && sha.length() == SHA_LENGTH && HEX.canDecode(sha)) {
+            headCommit = HEX.decode(sha);
+            headSha = null;
+        } else {
+            headCommit = null;
+            headSha = sha;
+        }
+    }
+
+    @CheckForNull
+    private static String intern(@CheckForNull String value) {
+        return isNull(value) ? null : STRINGS.intern(value);
+    }
+
+    private static String[] internLabels(@NonNull Collection<String> names) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String name : names) {
+            sorted.add(STRINGS.intern(name));
         }
+        return sorted.toArray(new String[0]);
     }
 
     /**
-     * Indicates that remote PR wasn't fully saved locally during last check.
+     * GitHub has nothing dated 1970, so 0 means no date.
      */
-    public boolean isInBadState() {
-        return inBadState || isNull(labels);
+    private static long millis(@CheckForNull Date date) {
+        return isNull(date) ? 0 : date.getTime();
+    }
+
+    @CheckForNull
+    private static Date date(long millis) {
+        return millis == 0 ? null : new Date(millis);
     }
 
     public static String getIconFileName() {
@@ -221,16 +355,73 @@ public class GitHubPRPullRequest {
 
     @Override
     public String toString() {
-        return ToStringBuilder.reflectionToString(this, SHORT_PREFIX_STYLE);
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("number", number)
+                .append("headSha", getHeadSha())
+                .append("headRef", headRef)
+                .append("baseRef", baseRef)
+                .append("userLogin", userLogin)
+                .append("state", state)
+                .append("prUpdatedAt", getPrUpdatedAt())
+                .append("issueUpdatedAt", getIssueUpdatedAt())
+                .append("lastCommentCreatedAt", getLastCommentCreatedAt())
+                .append("labels", labelNames)
+                .append("mergeable", mergeable)
+                .append("inBadState", inBadState)
+                .toString();
     }
 
     @Override
     public boolean equals(Object o) {
-        return EqualsBuilder.reflectionEquals(this, o);
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GitHubPRPullRequest that = (GitHubPRPullRequest) o;
+        // cheap and most often different fields first
+        return number == that.number
+                && prUpdatedAtMillis == that.prUpdatedAtMillis
+                && issueUpdatedAtMillis == that.issueUpdatedAtMillis
+                && lastCommentCreatedAtMillis == that.lastCommentCreatedAtMillis
+                && inBadState == that.inBadState
+                && Arrays.equals(headCommit, that.headCommit)
+                && Objects.equals(headSha, that.headSha)
+                && Objects.equals(state, that.state)
+                && Objects.equals(mergeable, that.mergeable)
+                && Arrays.equals(labelNames, that.labelNames)
+                && Objects.equals(headRef, that.headRef)
+                && Objects.equals(baseRef, that.baseRef)
+                && Objects.equals(userLogin, that.userLogin)
+                && Objects.equals(userEmail, that.userEmail)
+                && Objects.equals(sourceRepoOwner, that.sourceRepoOwner)
+                && Objects.equals(htmlUrl, that.htmlUrl)
+                && Objects.equals(title, that.title)
+                && Objects.equals(body, that.body);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = number;
+        result = 31 * result + Long.hashCode(prUpdatedAtMillis);
+        result = 31 * result + Arrays.hashCode(headCommit);
+        result = 31 * result + Objects.hashCode(headSha);
+        return result;
+    }
+
+    /**
+     * Hash of every field compared by {@link #equals(Object)}, unlike cheap {@link #hashCode()}
+     * it changes when labels, comments or other fields are modified in place.
+     */
+    public int fingerprint() {
+        int result = hashCode();
+        result = 31 * result + Long.hashCode(issueUpdatedAtMillis);
+        result = 31 * result + Long.hashCode(lastCommentCreatedAtMillis);
+        result = 31 * result + Boolean.hashCode(inBadState);
+        result = 31 * result + Arrays.hashCode(labelNames);
+        result = 31 * result + Objects.hash(state, mergeable, headRef, baseRef, userLogin, userEmail,
+                sourceRepoOwner, htmlUrl, title, body);
+        return result;
     }
 }
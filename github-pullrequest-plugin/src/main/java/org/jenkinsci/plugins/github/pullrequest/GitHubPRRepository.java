@@ -1,6 +1,9 @@
 package org.jenkinsci.plugins.github.pullrequest;
 
+import com.github.kostyasha.github.integration.generic.GitHubBuildIndex;
 import com.github.kostyasha.github.integration.generic.GitHubRepository;
+import com.github.kostyasha.github.integration.generic.GitHubRepositoryJournal;
+import hudson.BulkChange;
 import hudson.XmlFile;
 import hudson.model.Item;
 import hudson.model.Job;
@@ -9,7 +12,6 @@ import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.model.queue.QueueTaskFuture;
 import hudson.util.FormValidation;
-import hudson.util.RunList;
 import org.jenkinsci.plugins.github.pullrequest.trigger.JobRunnerForCause;
 import org.jenkinsci.plugins.github.pullrequest.utils.JobHelper;
 import org.kohsuke.github.GHRepository;
@@ -18,18 +20,21 @@ import org.kohsuke.stapler.interceptor.RequirePOST;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.PR_PREFIX;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.prKey;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.ghPRCauseFromRun;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.ghPRTriggerFromJob;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.rebuild;
 
@@ -48,6 +53,27 @@ public class GitHubPRRepository extends GitHubRepository<GitHubPRRepository> {
 
     private Map<Integer, GitHubPRPullRequest> pulls = new ConcurrentHashMap<>();
 
+    /**
+     * Fingerprint of open PRs list that was fully processed by last check.
+     *
+     * @see org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestListFingerprint
+     */
+    @CheckForNull
+    private String pullsFingerprint;
+
+    /**
+     * Newest update time of remote PRs processed by successful checks, delta checks list only PRs updated since.
+     *
+     * @see org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestDeltaQuery
+     */
+    @CheckForNull
+    private Date pullsUpdatedAt;
+
+    /**
+     * Time of last successful check of all open PRs.
+     */
+    private long lastFullCheck;
+
     /**
      * Object that represent GitHub repository to work with
      *
@@ -70,34 +96,115 @@ public class GitHubPRRepository extends GitHubRepository<GitHubPRRepository> {
         return pulls;
     }
 
+    @CheckForNull
+    public String getPullsFingerprint() {
+        return pullsFingerprint;
+    }
+
+    public void setPullsFingerprint(@CheckForNull String pullsFingerprint) {
+        this.pullsFingerprint = pullsFingerprint;
+    }
+
+    @CheckForNull
+    public Date getPullsUpdatedAt() {
+        return pullsUpdatedAt;
+    }
+
+    public long getLastFullCheck() {
+        return lastFullCheck;
+    }
+
+    /**
+     * Delta check can't be made without mark and full check reconciles PRs that delta checks could miss.
+     */
+    public boolean isFullCheckDue(long intervalMillis) {
+        return isNull(pullsUpdatedAt) || System.currentTimeMillis() - lastFullCheck >= intervalMillis;
+    }
+
+    /**
+     * Records successful check.
+     *
+     * @param updatedAt newest update time of checked PRs.
+     * @param startTime time when full check started, 0 for delta check.
+     */
+    public void markChecked(@CheckForNull Date updatedAt, long startTime) {
+        if (nonNull(updatedAt) && (isNull(pullsUpdatedAt) || updatedAt.after(pullsUpdatedAt))) {
+            pullsUpdatedAt = updatedAt;
+        }
+        if (startTime > 0) {
+            lastFullCheck = startTime;
+        }
+    }
+
+    /**
+     * Moves pulls into shard files next to repository file or back into repository file.
+     * Should be called after {@link #loadJournal(boolean)}, sharded pulls don't use journal.
+     */
+    public synchronized void loadShards(boolean enabled) throws IOException {
+        File dir = new File(configFile.getFile().getPath() + GitHubPRShardedPulls.SUFFIX);
+        Map<Integer, GitHubPRPullRequest> current = getPulls();
+
+        if (current instanceof GitHubPRShardedPulls) {
+            GitHubPRShardedPulls sharded = (GitHubPRShardedPulls) current;
+            sharded.attach(dir);
+            if (!enabled) {
+                pulls = new ConcurrentHashMap<>(sharded);
+                save();
+                sharded.deleteFiles();
+            }
+        } else if (enabled) {
+            GitHubPRShardedPulls sharded = new GitHubPRShardedPulls();
+            sharded.attach(dir);
+            sharded.clear(); // leftovers of previous sharded period
+            sharded.putAll(current);
+            pulls = sharded;
+            save();
+        }
+    }
+
+    @Override
+    public void save() throws IOException {
+        Map<Integer, GitHubPRPullRequest> current = pulls;
+        if (current instanceof GitHubPRShardedPulls && !BulkChange.contains(this)) {
+            // shards first, repository file must not reference PRs that aren't on disk
+            ((GitHubPRShardedPulls) current).flush();
+        }
+        super.save();
+    }
+
+    @Override
+    protected GitHubRepositoryJournal<Integer, GitHubPRPullRequest> createJournal(@NonNull File file) {
+        if (getPulls() instanceof GitHubPRShardedPulls) {
+            return null;
+        }
+        return new GitHubRepositoryJournal<>(this, file, "pulls", this::getPulls, Integer::valueOf,
+                GitHubPRPullRequest::fingerprint);
+    }
+
     /**
      * Searches for all builds performed in the runs of current job.
+     * Loads every indexed PR build, prefer {@link #getPrBuilds(int)}.
      *
      * @return map with keys - numbers of built PRs and values - lists of related builds.
      */
     @NonNull
     public Map<Integer, List<Run<?, ?>>> getAllPrBuilds() {
-
         Map<Integer, List<Run<?, ?>>> map = new HashMap<>();
-        final RunList<?> runs = job.getBuilds();
-        LOG.debug("Got builds for job {}", job.getFullName());
-
-        for (Run<?, ?> run : runs) {
-            GitHubPRCause cause = ghPRCauseFromRun(run);
-            if (cause != null) {
-                int number = cause.getNumber();
-                List<Run<?, ?>> buildsByNumber = map.get(number);
-                if (isNull(buildsByNumber)) {
-                    buildsByNumber = new ArrayList<>();
-                    map.put(number, buildsByNumber);
-                }
-                buildsByNumber.add(run);
-            }
+        GitHubBuildIndex index = GitHubBuildIndex.forJob(job);
+        for (String key : index.getKeys(PR_PREFIX)) {
+            map.put(Integer.valueOf(key.substring(PR_PREFIX.length())), index.getBuilds(key));
         }
-
         return map;
     }
 
+    /**
+     * @return builds of PR, newest first.
+     */
+    @NonNull
+    public List<Run<?, ?>> getPrBuilds(int number) {
+        return GitHubBuildIndex.forJob(job).getBuilds(prKey(number));
+    }
+
     @Override
     public String getIconFileName() {
         return GitHubPRPullRequest.getIconFileName();
@@ -119,6 +226,8 @@ public class GitHubPRRepository extends GitHubRepository<GitHubPRRepository> {
         if (changed) {
             listener.getLogger().println("Local settings changed, removing PRs in repository!");
             getPulls().clear();
+            pullsFingerprint = null;
+            pullsUpdatedAt = null;
         }
     }
 
@@ -128,6 +237,8 @@ public class GitHubPRRepository extends GitHubRepository<GitHubPRRepository> {
         try {
             if (job.hasPermission(Item.DELETE)) {
                 pulls.clear();
+                pullsFingerprint = null;
+                pullsUpdatedAt = null;
                 save();
                 result = FormValidation.ok("Pulls deleted");
             } else {
@@ -174,11 +285,13 @@ public class GitHubPRRepository extends GitHubRepository<GitHubPRRepository> {
         FormValidation result;
         try {
             if (job.hasPermission(Item.BUILD)) {
-                Map<Integer, List<Run<?, ?>>> builds = getAllPrBuilds();
-                for (List<Run<?, ?>> buildList : builds.values()) {
-                    if (!buildList.isEmpty() && Result.FAILURE.equals(buildList.get(0).getResult())) {
-                        Run<?, ?> lastBuild = buildList.get(0);
-                        rebuild(lastBuild);
+                GitHubBuildIndex index = GitHubBuildIndex.forJob(job);
+                for (String key : index.getKeys(PR_PREFIX)) {
+                    if (Result.FAILURE.equals(index.getLastResult(key))) {
+                        Run<?, ?> lastBuild = index.getLastBuild(key);
+                        if (nonNull(lastBuild)) {
+                            rebuild(lastBuild);
+                        }
                     }
                 }
                 result = FormValidation.ok("Rebuild scheduled");
@@ -245,10 +358,9 @@ public class GitHubPRRepository extends GitHubRepository<GitHubPRRepository> {
                 prId = Integer.valueOf(req.getParameter(prNumberParam));
             }
 
-            Map<Integer, List<Run<?, ?>>> builds = getAllPrBuilds();
-            List<Run<?, ?>> prBuilds = builds.get(prId);
-            if (prBuilds != null && !prBuilds.isEmpty()) {
-                if (rebuild(prBuilds.get(0))) {
+            Run<?, ?> lastBuild = GitHubBuildIndex.forJob(job).getLastBuild(prKey(prId));
+            if (nonNull(lastBuild)) {
+                if (rebuild(lastBuild)) {
                     result = FormValidation.ok("Rebuild scheduled");
                 } else {
                     result = FormValidation.warning("Rebuild not scheduled");
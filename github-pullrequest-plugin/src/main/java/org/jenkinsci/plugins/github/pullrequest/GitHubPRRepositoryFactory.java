@@ -3,6 +3,7 @@ package org.jenkinsci.plugins.github.pullrequest;
 import com.cloudbees.jenkins.GitHubRepositoryName;
 import com.coravy.hudson.plugins.github.GithubProjectProperty;
 import com.github.kostyasha.github.integration.generic.GitHubRepositoryFactory;
+import com.github.kostyasha.github.integration.generic.GitHubRepositoryRegistry;
 import hudson.Extension;
 import hudson.XmlFile;
 import hudson.model.Action;
@@ -38,7 +39,8 @@ public class GitHubPRRepositoryFactory extends GitHubRepositoryFactory<GitHubPRR
     public Collection<? extends Action> createFor(@NonNull Job job) {
         try {
             if (nonNull(ghPRTriggerFromJob(job))) {
-                return singleton(forProject(job));
+                return singleton(GitHubRepositoryRegistry.get()
+                        .get(job, GitHubPRRepository.class, GitHubPRRepositoryFactory::forProject));
             }
         } catch (Exception ex) {
             LOGGER.error("Bad configured project {} - {}", job.getFullName(), ex.getMessage(), ex);
@@ -47,6 +49,9 @@ public class GitHubPRRepositoryFactory extends GitHubRepositoryFactory<GitHubPRR
         return Collections.emptyList();
     }
 
+    /**
+     * Reads runtime state from disk, called only when registry has no resident state for job.
+     */
     @NonNull
     private static GitHubPRRepository forProject(Job<?, ?> job) throws IOException {
         XmlFile configFile = new XmlFile(new File(job.getRootDir(), GitHubPRRepository.FILE));
@@ -77,6 +82,10 @@ public class GitHubPRRepositoryFactory extends GitHubRepositoryFactory<GitHubPRR
         localRepository.setConfigFile(configFile);
 
         GitHubPRTrigger.DescriptorImpl prTriggerDescriptor = GitHubPRTrigger.DescriptorImpl.get();
+        localRepository.loadJournal(prTriggerDescriptor.isJournalPersistence()
+                && !prTriggerDescriptor.isShardedPersistence());
+        localRepository.loadShards(prTriggerDescriptor.isShardedPersistence());
+
         if (prTriggerDescriptor.isActualiseOnFactory()) {
             try {
                 localRepository.actualise(trigger.getRemoteRepository(), TaskListener.NULL);
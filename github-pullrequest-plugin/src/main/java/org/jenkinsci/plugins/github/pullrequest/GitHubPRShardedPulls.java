@@ -0,0 +1,235 @@
+package org.jenkinsci.plugins.github.pullrequest;
+
+import hudson.XmlFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Pull requests of {@link GitHubPRRepository} stored in separate files by ranges of PR numbers.
+ * Repository file keeps only PR numbers, shards are loaded on first access and only recently used ones stay in heap.
+ * Changed shards are written on {@link #flush()} or when they leave heap, untouched shards are never rewritten.
+ * {@link #entrySet()} and {@link #values()} are snapshots that read every shard, use them only for UI.
+ */
+public class GitHubPRShardedPulls extends AbstractMap<Integer, GitHubPRPullRequest> {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubPRShardedPulls.class);
+
+    public static final String SUFFIX = ".shards";
+
+    /**
+     * Pull requests with number / SHARD_SIZE in one file.
+     */
+    public static final int SHARD_SIZE = 256;
+
+    /**
+     * Shards kept in heap.
+     */
+    public static final int RESIDENT_SHARDS = 16;
+
+    /**
+     * Numbers of all stored pull requests, the only part persisted with repository.
+     */
+    private TreeSet<Integer> numbers = new TreeSet<>();
+
+    private transient File dir;
+    private transient Map<Integer, Shard> resident;
+
+    public GitHubPRShardedPulls() {
+        readResolve();
+    }
+
+    protected Object readResolve() {
+        if (isNull(numbers)) {
+            numbers = new TreeSet<>();
+        }
+        resident = new LinkedHashMap<Integer, Shard>(RESIDENT_SHARDS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Shard> eldest) {
+                return size() > RESIDENT_SHARDS && write(eldest.getValue());
+            }
+        };
+        return this;
+    }
+
+    /**
+     * @param dir directory with shard files, should be set before any access.
+     */
+    public synchronized void attach(@NonNull File dir) {
+        this.dir = dir;
+        resident.clear();
+    }
+
+    @CheckForNull
+    public File getDir() {
+        return dir;
+    }
+
+    @Override
+    public synchronized GitHubPRPullRequest get(Object key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+        int number = (Integer) key;
+        return shard(number).pulls.get(number);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return key instanceof Integer && numbers.contains(key);
+    }
+
+    @Override
+    public synchronized GitHubPRPullRequest put(Integer number, GitHubPRPullRequest pr) {
+        numbers.add(number);
+        Shard shard = shard(number);
+        shard.dirty = true;
+        return shard.pulls.put(number, pr);
+    }
+
+    @Override
+    public synchronized GitHubPRPullRequest remove(Object key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+        int number = (Integer) key;
+        numbers.remove(number);
+        Shard shard = shard(number);
+        shard.dirty = true;
+        return shard.pulls.remove(number);
+    }
+
+    @Override
+    public synchronized void clear() {
+        numbers.clear();
+        resident.clear();
+        File[] files = isNull(dir) ? null : dir.listFiles();
+        if (!isNull(files)) {
+            for (File file : files) {
+                try {
+                    Files.deleteIfExists(file.toPath());
+                } catch (IOException e) {
+                    LOG.error("Can't delete shard {}", file, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return numbers.size();
+    }
+
+    /**
+     * @return snapshot of stored numbers, doesn't read shards.
+     */
+    @NonNull
+    @Override
+    public synchronized Set<Integer> keySet() {
+        return Collections.unmodifiableSet(new TreeSet<>(numbers));
+    }
+
+    @NonNull
+    @Override
+    public synchronized Set<Map.Entry<Integer, GitHubPRPullRequest>> entrySet() {
+        Map<Integer, GitHubPRPullRequest> snapshot = new LinkedHashMap<>();
+        for (Integer number : numbers) {
+            snapshot.put(number, shard(number).pulls.get(number));
+        }
+        return Collections.unmodifiableMap(snapshot).entrySet();
+    }
+
+    /**
+     * Writes changed shards.
+     */
+    public synchronized void flush() throws IOException {
+        for (Shard shard : resident.values()) {
+            if (!write(shard)) {
+                throw new IOException("Can't write shard " + shard.id + " to " + dir);
+            }
+        }
+    }
+
+    /**
+     * Removes shard files, used when pulls are moved back to repository file.
+     */
+    public synchronized void deleteFiles() throws IOException {
+        clear();
+        Files.deleteIfExists(dir.toPath());
+    }
+
+    private Shard shard(int number) {
+        int id = number / SHARD_SIZE;
+        Shard shard = resident.get(id);
+        if (isNull(shard)) {
+            shard = new Shard(id, read(id));
+            resident.put(id, shard);
+        }
+        return shard;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TreeMap<Integer, GitHubPRPullRequest> read(int id) {
+        XmlFile file = file(id);
+        if (file.exists()) {
+            try {
+                return (TreeMap<Integer, GitHubPRPullRequest>) file.read();
+            } catch (IOException e) {
+                // PRs will look new and will be refreshed by the next check
+                LOG.error("Can't read shard {}, its pull requests are lost", file, e);
+            }
+        }
+        return new TreeMap<>();
+    }
+
+    /**
+     * @return false when shard is changed and can't be written.
+     */
+    private boolean write(Shard shard) {
+        if (!shard.dirty) {
+            return true;
+        }
+
+        XmlFile file = file(shard.id);
+        try {
+            if (shard.pulls.isEmpty()) {
+                file.delete();
+            } else {
+                file.write(shard.pulls);
+            }
+            shard.dirty = false;
+            return true;
+        } catch (IOException e) {
+            LOG.error("Can't write shard {}", file, e);
+            return false;
+        }
+    }
+
+    private XmlFile file(int id) {
+        return new XmlFile(new File(dir, "pulls-" + id + ".xml"));
+    }
+
+    private static class Shard {
+        private final int id;
+        private final TreeMap<Integer, GitHubPRPullRequest> pulls;
+        private boolean dirty;
+
+        Shard(int id, TreeMap<Integer, GitHubPRPullRequest> pulls) {
+            this.id = id;
+            this.pulls = pulls;
+        }
+    }
+}
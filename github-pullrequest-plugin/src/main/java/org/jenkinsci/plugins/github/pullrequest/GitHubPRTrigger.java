@@ -1,6 +1,7 @@
 package org.jenkinsci.plugins.github.pullrequest;
 
 import antlr.ANTLRException;
+import com.github.kostyasha.github.integration.generic.GitHubResponseCache;
 import com.github.kostyasha.github.integration.generic.GitHubTrigger;
 import com.github.kostyasha.github.integration.generic.GitHubTriggerDescriptor;
 import com.github.kostyasha.github.integration.generic.errors.impl.GitHubHookRegistrationError;
@@ -8,21 +9,30 @@ import hudson.Extension;
 import hudson.Util;
 import hudson.model.Job;
 import hudson.triggers.Trigger;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
 import jenkins.model.Jenkins;
 import org.jenkinsci.Symbol;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
 import org.jenkinsci.plugins.github.pullrequest.restrictions.GitHubPRBranchRestriction;
 import org.jenkinsci.plugins.github.pullrequest.restrictions.GitHubPRUserRestriction;
 import org.jenkinsci.plugins.github.pullrequest.trigger.JobRunnerForCause;
+import org.jenkinsci.plugins.github.pullrequest.trigger.check.NotUpdatedPRFilter;
+import org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestCheckResult;
+import org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestListFingerprint;
 import org.jenkinsci.plugins.github.pullrequest.utils.LoggingTaskListenerWrapper;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.github.GHException;
 import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHRateLimit;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterator;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 import org.slf4j.Logger;
@@ -31,12 +41,28 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.prKey;
+import static com.github.kostyasha.github.integration.generic.GitHubPollingLogRecord.decisionOf;
+import static com.github.kostyasha.github.integration.generic.GitHubTriggerExecutor.POLL;
 import static com.github.kostyasha.github.integration.generic.utils.RetryableGitHubOperation.execute;
 import static com.google.common.base.Charsets.UTF_8;
 import static com.google.common.base.Predicates.and;
@@ -46,12 +72,14 @@ import static com.google.common.base.Predicates.notNull;
 import static java.text.DateFormat.getDateTimeInstance;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode.LIGHT_HOOKS;
 import static org.jenkinsci.plugins.github.pullrequest.trigger.check.BranchRestrictionFilter.withBranchRestriction;
-import static org.jenkinsci.plugins.github.pullrequest.trigger.check.LocalRepoUpdater.updateLocalRepo;
 import static org.jenkinsci.plugins.github.pullrequest.trigger.check.NotUpdatedPRFilter.notUpdated;
+import static org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestDeltaQuery.newestUpdatedAt;
+import static org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestDeltaQuery.updatedSince;
 import static org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestToCauseConverter.toGitHubPRCause;
 import static org.jenkinsci.plugins.github.pullrequest.trigger.check.SkipFirstRunForPRFilter.ifSkippedFirstRun;
 import static org.jenkinsci.plugins.github.pullrequest.trigger.check.SkipPRInBadState.badState;
@@ -61,6 +89,7 @@ import static org.jenkinsci.plugins.github.pullrequest.utils.PRHelperFunctions.f
 import static org.jenkinsci.plugins.github.pullrequest.webhook.WebhookInfoPredicates.withHookTriggerMode;
 import static org.jenkinsci.plugins.github.util.FluentIterableWrapper.from;
 import static org.jenkinsci.plugins.github.util.JobInfoHelpers.isBuildable;
+import static org.kohsuke.github.GHIssueState.OPEN;
 
 /**
  * GitHub Pull Request trigger.
@@ -102,6 +131,11 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
 
     @CheckForNull
     private transient GitHubPRPollingLogAction pollingLogAction;
+    /**
+     * Guards whole check, see {@link #doRun(Integer)}.
+     */
+    @CheckForNull
+    private transient Object checkLock;
 
     /**
      * For groovy UI
@@ -152,6 +186,18 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
         return branchRestriction;
     }
 
+    /**
+     * @return expensive PR fields that configured events need in locally stored PR state.
+     */
+    @NonNull
+    public Set<GitHubPRField> getRequiredFields() {
+        Set<GitHubPRField> fields = EnumSet.noneOf(GitHubPRField.class);
+        for (GitHubPREvent event : getEvents()) {
+            fields.addAll(event.getRequiredFields());
+        }
+        return fields;
+    }
+
     @Override
     public void start(Job<?, ?> job, boolean newInstance) {
         LOG.info("Starting GitHub Pull Request trigger for project {}", job.getFullName());
@@ -186,7 +232,11 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
     public void run() {
         if (getTriggerMode() != LIGHT_HOOKS) {
             // don't consume Timer threads
-            queueRun(null);
+            getDescriptor().getExecutor().submit(getExecutorKey(), POLL, () -> {
+                if (isPollAdmitted()) {
+                    doRun(null);
+                }
+            });
         }
     }
 
@@ -200,6 +250,13 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
         return pollingLogAction;
     }
 
+    private synchronized Object getCheckLock() {
+        if (isNull(checkLock)) {
+            checkLock = new Object();
+        }
+        return checkLock;
+    }
+
     @Override
     public DescriptorImpl getDescriptor() {
         return (DescriptorImpl) Jenkins.getInstance().getDescriptor(this.getClass());
@@ -218,18 +275,19 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
     }
 
     public void queueRun(final Integer prNumber) {
-        getDescriptor().getQueue().execute(() -> doRun(prNumber));
+        getDescriptor().getExecutor().submit(getExecutorKey(), isNull(prNumber) ? null : "#" + prNumber,
+                () -> doRun(prNumber));
     }
 
     /**
      * Runs check.
-     * Synchronised because localRepository state is persisted after trigger decisions were made.
-     * When multiple events triggering runs in queue they triggering builds in parallel.
-     * TODO implement special queue for parallel prNumbers scans and make polling long async.
+     * Checks of one trigger never overlap, whatever entry point started them.
+     * Pull requests are evaluated outside of trigger lock (in parallel when configured),
+     * trigger lock is held only while decisions are committed into localRepository and persisted.
      *
      * @param prNumber - PR number for check, if null - then all PRs
      */
-    public synchronized void doRun(Integer prNumber) {
+    public void doRun(Integer prNumber) {
         if (not(isBuildable()).apply(job)) {
             LOG.debug("Job {} is disabled, but trigger run!", isNull(job) ? "<no job>" : job.getFullName());
             return;
@@ -246,32 +304,31 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
             return;
         }
 
-        List<GitHubPRCause> causes;
-
-        try (LoggingTaskListenerWrapper listener =
-                     new LoggingTaskListenerWrapper(getPollingLogAction().getPollingLogFile(), UTF_8)) {
-            long startTime = System.currentTimeMillis();
-            listener.debug("Running GitHub Pull Request trigger check for {} on {}",
-                    getDateTimeInstance().format(new Date(startTime)), localRepository.getFullName());
-            try {
-                localRepository.actualise(getRemoteRepository(), listener);
-
-                causes = readyToBuildCauses(localRepository, listener, prNumber);
-
-                localRepository.saveQuietly();
-
-                // TODO print triggering to listener?
-                from(causes).filter(new JobRunnerForCause(job, this)).toSet();
-            } catch (Throwable t) {
-                listener.error("Can't end trigger check!", t);
+        // serialize hook, queued and direct checks, evaluation itself doesn't hold trigger lock
+        synchronized (getCheckLock()) {
+            try (LoggingTaskListenerWrapper listener =
+                         new LoggingTaskListenerWrapper(getPollingLogAction().getPollingLog())) {
+                long startTime = System.currentTimeMillis();
+                listener.debug("Running GitHub Pull Request trigger check for {} on {}",
+                        getDateTimeInstance().format(new Date(startTime)), localRepository.getFullName());
+                try {
+                    localRepository.actualise(getRemoteRepository(), listener);
+
+                    List<GitHubPRCause> causes = readyToBuildCauses(localRepository, listener, prNumber);
+
+                    // TODO print triggering to listener?
+                    from(causes).filter(new JobRunnerForCause(job, this, listener)).toSet();
+                } catch (Throwable t) {
+                    listener.error("Can't end trigger check!", t);
+                }
+
+                long duration = System.currentTimeMillis() - startTime;
+                listener.info(FINISH_MSG + " for {} at {}. Duration: {}ms",
+                        localRepository.getFullName(), getDateTimeInstance().format(new Date()), duration);
+            } catch (Exception e) {
+                // out of UI/user viewable error
+                LOG.error("Can't process check ({})", e.getMessage(), e);
             }
-
-            long duration = System.currentTimeMillis() - startTime;
-            listener.info(FINISH_MSG + " for {} at {}. Duration: {}ms",
-                    localRepository.getFullName(), getDateTimeInstance().format(new Date()), duration);
-        } catch (Exception e) {
-            // out of UI/user viewable error
-            LOG.error("Can't process check ({})", e.getMessage(), e);
         }
     }
 
@@ -289,7 +346,7 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
      */
     private List<GitHubPRCause> readyToBuildCauses(@NonNull GitHubPRRepository localRepository,
                                                    @NonNull LoggingTaskListenerWrapper listener,
-                                                   @Nullable Integer prNumber) {
+                                                   @Nullable Integer prNumber) throws InterruptedException {
         try {
             GitHub github = getRepoProvider().getGitHub(this);
             if (isNull(github)) {
@@ -303,34 +360,88 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
             // get local and remote list of PRs
             //FIXME HiddenField: 'remoteRepository' hides a field? renamed to `remoteRepo`
             GHRepository remoteRepo = getRemoteRepository();
-            Set<GHPullRequest> remotePulls = pullRequestsToCheck(prNumber, remoteRepo, localRepository);
-
-            Set<GHPullRequest> prepared = from(remotePulls)
-                    .filter(badState(localRepository, listener))
-                    .filter(notUpdated(localRepository, listener))
-                    .toSet();
-
-            List<GitHubPRCause> causes = from(prepared)
-                    .filter(and(
-                            ifSkippedFirstRun(listener, isSkipFirstRun()),
-                            withBranchRestriction(listener, getBranchRestriction()),
-                            withUserRestriction(listener, getUserRestriction())
-                    ))
-                    .transform(toGitHubPRCause(localRepository, listener, this))
-                    .filter(notNull())
-                    .toList();
-
-            LOG.trace("Causes count for {}: {}", localRepository.getFullName(), causes.size());
-
-            // refresh all PRs because user may add events that may trigger unexpected builds.
-            from(remotePulls).transform(updateLocalRepo(localRepository)).toSet();
+            Set<GHPullRequest> remotePulls;
+            // stored state is fresh for listed PRs, not changed ones need no evaluation
+            boolean skipNotUpdated = false;
+            String fingerprint = null;
+            // newest update time of listed PRs, high-water mark for next delta check
+            Date updatedMark = null;
+            long fullCheckStart = 0;
+            Date pullsUpdatedAt = localRepository.getPullsUpdatedAt();
+            long fullCheckInterval = TimeUnit.HOURS.toMillis(getDescriptor().getFullCheckInterval());
+
+            if (nonNull(prNumber)) {
+                remotePulls = execute(() -> singleton(remoteRepo.getPullRequest(prNumber)));
+            } else if (getDescriptor().isDeltaPolling() && nonNull(pullsUpdatedAt)
+                    && !localRepository.isFullCheckDue(fullCheckInterval)) {
+                List<GHPullRequest> updatedPulls = updatedSince(remoteRepo, pullsUpdatedAt);
+                listener.debug("Pull requests updated since {}: {}", pullsUpdatedAt, updatedPulls.size());
+                updatedMark = newestUpdatedAt(updatedPulls, null);
+                remotePulls = from(updatedPulls)
+                        // closed PRs matter only when they are known locally
+                        .filter(pr -> pr.getState() == OPEN || localRepository.getPulls().containsKey(pr.getNumber()))
+                        .toSet();
+                skipNotUpdated = true;
+            } else if (getDescriptor().getPullsPageSize() > 0) {
+                StreamingCheck check = new StreamingCheck(localRepository, listener);
+                check.run(remoteRepo, getDescriptor().getPullsPageSize());
+
+                GHRateLimit rateLimitAfter = github.getRateLimit();
+                int consumed = rateLimitBefore.remaining - rateLimitAfter.remaining;
+                LOG.info("GitHub rate limit after check {}: {}, consumed: {}, checked PRs: {}",
+                        localRepository.getFullName(), rateLimitAfter, consumed, check.checked);
+                recordRateLimit(github, rateLimitAfter, consumed, check.causes.size());
+                listener.apiCalls(consumed);
+                return check.causes;
+            } else {
+                fullCheckStart = System.currentTimeMillis();
+                List<GHPullRequest> openPulls = GitHubResponseCache.get().get(github, remoteRepo,
+                        GitHubResponseCache.REPO, "pulls",
+                        () -> unmodifiableList(execute(() -> remoteRepo.getPullRequests(GHIssueState.OPEN))));
+                fingerprint = PullRequestListFingerprint.of(openPulls, getRequiredFields());
+                updatedMark = newestUpdatedAt(openPulls, null);
+
+                if (fingerprint.equals(localRepository.getPullsFingerprint())
+                        && localRepository.getPulls().keySet()
+                        .equals(from(openPulls).transform(extractPRNumber()).toSet())) {
+                    listener.debug("Open pull requests list not changed since last check for {}",
+                            localRepository.getFullName());
+                    // nothing closed, stored state is fresh, only double check with light local comparison
+                    remotePulls = new LinkedHashSet<>(openPulls);
+                    skipNotUpdated = true;
+                } else {
+                    remotePulls = withClosedPulls(openPulls, remoteRepo, localRepository);
+                }
+            }
 
-            saveIfSkipFirstRun();
+            // single PR check doesn't benefit from bulk loading
+            GitHubPRFieldLoader fieldLoader = nonNull(prNumber)
+                    ? new GitHubPRFieldLoader().withConnection(github)
+                    : getRepoProvider().getFieldLoader(this, getRequiredFields());
+            List<PullRequestCheckResult> results = evaluate(remotePulls, skipNotUpdated, localRepository, listener,
+                    fieldLoader);
+
+            List<GitHubPRCause> causes;
+            synchronized (this) {
+                causes = commitResults(localRepository, results, listener);
+                if (results.stream().noneMatch(PullRequestCheckResult::isFailed)) {
+                    if (nonNull(fingerprint)) {
+                        localRepository.setPullsFingerprint(fingerprint);
+                    }
+                    if (isNull(prNumber)) {
+                        localRepository.markChecked(updatedMark, fullCheckStart);
+                    }
+                }
+                saveIfSkipFirstRun();
+                localRepository.saveQuietly();
+            }
 
             GHRateLimit rateLimitAfter = github.getRateLimit();
             int consumed = rateLimitBefore.remaining - rateLimitAfter.remaining;
             LOG.info("GitHub rate limit after check {}: {}, consumed: {}, checked PRs: {}",
-                    localRepository.getFullName(), rateLimitAfter, consumed, remotePulls.size());
+                    localRepository.getFullName(), rateLimitAfter, consumed, results.size());
+            recordRateLimit(github, rateLimitAfter, isNull(prNumber) ? consumed : -1, causes.size());
+            listener.apiCalls(consumed);
 
             return causes;
         } catch (IOException e) {
@@ -339,31 +450,260 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
         }
     }
 
-    private static boolean isSupportedTriggerMode(GitHubPRTriggerMode mode) {
-        return mode != LIGHT_HOOKS;
+    /**
+     * Evaluates every PR in isolation. Uses shared worker pool when descriptor allows parallel checks.
+     * Per PR logs are buffered and written in remote order, so polling log stays readable.
+     * Light "not changed" comparison is done here, once per PR.
+     *
+     * @param skipNotUpdated stored state of listed PRs is fresh, so not changed PRs (unless in bad state)
+     *                       are not evaluated at all. Otherwise they are only refreshed without triggering.
+     */
+    private List<PullRequestCheckResult> evaluate(@NonNull Collection<GHPullRequest> remotePulls,
+                                                  boolean skipNotUpdated,
+                                                  @NonNull GitHubPRRepository localRepository,
+                                                  @NonNull LoggingTaskListenerWrapper listener,
+                                                  @NonNull GitHubPRFieldLoader fieldLoader)
+            throws InterruptedException {
+        Set<GitHubPRField> requiredFields = getRequiredFields();
+        NotUpdatedPRFilter notUpdated = notUpdated(localRepository, listener);
+        List<GHPullRequest> pulls = new ArrayList<>(remotePulls.size());
+        Set<Integer> updated = new HashSet<>();
+        for (GHPullRequest remotePR : remotePulls) {
+            if (notUpdated.apply(remotePR)) {
+                updated.add(remotePR.getNumber());
+                pulls.add(remotePR);
+            } else if (!skipNotUpdated || isInBadState(localRepository, remotePR)) {
+                pulls.add(remotePR);
+            }
+        }
+        List<PullRequestCheckResult> results = new ArrayList<>(pulls.size());
+
+        if (pulls.size() <= 1 || getDescriptor().getCheckParallelism() <= 1) {
+            for (GHPullRequest remotePR : pulls) {
+                results.add(checkPullRequest(remotePR, updated.contains(remotePR.getNumber()), localRepository,
+                        requiredFields, fieldLoader));
+            }
+        } else {
+            List<Callable<PullRequestCheckResult>> tasks = new ArrayList<>(pulls.size());
+            for (GHPullRequest remotePR : pulls) {
+                boolean prUpdated = updated.contains(remotePR.getNumber());
+                tasks.add(() -> checkPullRequest(remotePR, prUpdated, localRepository, requiredFields,
+                        fieldLoader));
+            }
+
+            List<Future<PullRequestCheckResult>> futures = getDescriptor().getCheckExecutor().invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(failedResult(pulls.get(i), e.getCause()));
+                } catch (CancellationException e) {
+                    results.add(failedResult(pulls.get(i), e));
+                }
+            }
+        }
+
+        for (PullRequestCheckResult result : results) {
+            listener.subject(prKey(result.getNumber()));
+            result.writeLogTo(listener.getLogger());
+            listener.decision(decisionOf(result.getCause(), result.isFailed()), result.getDurationMillis());
+        }
+        listener.subject(null);
+
+        return results;
     }
 
     /**
-     * @return remote pull requests for future analysing.
+     * Makes trigger decision for one PR and prepares its new local state. Doesn't modify localRepository.
+     *
+     * @param updated result of light "not changed" comparison, only changed PRs may trigger
      */
-    private static Set<GHPullRequest> pullRequestsToCheck(@Nullable Integer prNumber,
-                                                          @NonNull GHRepository remoteRepo,
-                                                          @NonNull GitHubPRRepository localRepo) throws IOException {
-        if (prNumber != null) {
-            return execute(() -> singleton(remoteRepo.getPullRequest(prNumber)));
-        } else {
-            List<GHPullRequest> remotePulls = execute(() -> remoteRepo.getPullRequests(GHIssueState.OPEN));
+    private PullRequestCheckResult checkPullRequest(@NonNull GHPullRequest remotePR,
+                                                    boolean updated,
+                                                    @NonNull GitHubPRRepository localRepository,
+                                                    @NonNull Set<GitHubPRField> requiredFields,
+                                                    @NonNull GitHubPRFieldLoader fieldLoader) {
+        long startTime = System.currentTimeMillis();
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        @CheckForNull GitHubPRPullRequest localPR = localRepository.getPulls().get(remotePR.getNumber());
+        if (nonNull(localPR)) {
+            fieldLoader.setCommentCursor(remotePR.getNumber(), localPR.getLastCommentCreatedAt());
+        }
+        GitHubPRPullRequest updatedPR = null;
+        GitHubPRCause cause = null;
+        boolean failed = false;
+
+        // in memory buffer, nothing to close
+        LoggingTaskListenerWrapper listener = new LoggingTaskListenerWrapper(log, UTF_8);
+        try {
+            if (badState(localRepository, listener).apply(remotePR)
+                    && updated
+                    && and(
+                    ifSkippedFirstRun(listener, isSkipFirstRun()),
+                    withBranchRestriction(listener, getBranchRestriction()),
+                    withUserRestriction(listener, getUserRestriction())
+            ).apply(remotePR)) {
+                cause = toGitHubPRCause(localRepository, listener, this)
+                        .withFieldLoader(fieldLoader)
+                        .apply(remotePR);
+            }
+
+            // refresh all PRs because user may add events that may trigger unexpected builds.
+            if (remotePR.getState() == OPEN) {
+                updatedPR = new GitHubPRPullRequest(remotePR, requiredFields, fieldLoader);
+            }
+        } catch (Throwable t) {
+            failed = true;
+            listener.error("Can't check PR #" + remotePR.getNumber() + ", will retry on next check", t);
+        }
+        listener.getLogger().flush();
 
-            Set<Integer> remotePRNums = from(remotePulls).transform(extractPRNumber()).toSet();
+        return new PullRequestCheckResult(remotePR, localPR, updatedPR, cause, failed, log.toByteArray(),
+                System.currentTimeMillis() - startTime);
+    }
 
-            return from(localRepo.getPulls().keySet())
-                    // add PRs that was closed on remote
-                    .filter(not(in(remotePRNums)))
-                    .transform(fetchRemotePR(remoteRepo))
-                    .filter(notNull())
-                    .append(remotePulls)
-                    .toSet();
+    /**
+     * Result of PR which evaluation didn't complete, keeps local state and reason in polling log.
+     */
+    private static PullRequestCheckResult failedResult(@NonNull GHPullRequest remotePR, @NonNull Throwable t) {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        // in memory buffer, nothing to close
+        LoggingTaskListenerWrapper listener = new LoggingTaskListenerWrapper(log, UTF_8);
+        listener.error("Can't check PR #" + remotePR.getNumber() + ", will retry on next check", t);
+        t.printStackTrace(listener.getLogger());
+        listener.getLogger().flush();
+        return new PullRequestCheckResult(remotePR, null, null, null, true, log.toByteArray());
+    }
+
+    /**
+     * Commits evaluated PR states into localRepository in remote order. Should be called under trigger lock.
+     *
+     * @return causes which ready to be converted to job-starts.
+     */
+    private List<GitHubPRCause> commitResults(@NonNull GitHubPRRepository localRepository,
+                                              @NonNull List<PullRequestCheckResult> results,
+                                              @NonNull LoggingTaskListenerWrapper listener) {
+        List<GitHubPRCause> causes = new ArrayList<>();
+        for (PullRequestCheckResult result : results) {
+            if (result.applyTo(localRepository.getPulls())) {
+                if (nonNull(result.getCause())) {
+                    causes.add(result.getCause());
+                }
+            } else if (!result.isFailed()) {
+                listener.info("PR #{} was already processed by concurrent check, skipping", result.getNumber());
+            }
         }
+
+        LOG.trace("Causes count for {}: {}", localRepository.getFullName(), causes.size());
+        return causes;
+    }
+
+    /**
+     * Full check that never holds whole list of open pull requests.
+     * Every page is evaluated and committed before the next one is fetched.
+     * When stored states were made for the same required fields, not changed PRs are skipped,
+     * like with equal {@link PullRequestListFingerprint}.
+     */
+    private class StreamingCheck {
+        private final GitHubPRRepository localRepository;
+        private final LoggingTaskListenerWrapper listener;
+        private final Set<GitHubPRField> requiredFields = getRequiredFields();
+        private final GitHubPRFieldLoader fieldLoader = getRepoProvider().getFieldLoader(GitHubPRTrigger.this,
+                requiredFields);
+        private final List<GitHubPRCause> causes = new ArrayList<>();
+        private int checked;
+        private boolean failed;
+        @CheckForNull
+        private Date updatedMark;
+
+        StreamingCheck(@NonNull GitHubPRRepository localRepository, @NonNull LoggingTaskListenerWrapper listener) {
+            this.localRepository = localRepository;
+            this.listener = listener;
+        }
+
+        void run(@NonNull GHRepository remoteRepo, int pageSize) throws IOException, InterruptedException {
+            boolean sameFields = PullRequestListFingerprint.sameFields(localRepository.getPullsFingerprint(),
+                    requiredFields);
+            PullRequestListFingerprint.Builder fingerprint = PullRequestListFingerprint.builder(requiredFields);
+            Set<Integer> openNumbers = new HashSet<>();
+            long startTime = System.currentTimeMillis();
+
+            try {
+                PagedIterator<GHPullRequest> pages = remoteRepo.queryPullRequests().state(OPEN).list()
+                        .withPageSize(pageSize).iterator();
+                while (pages.hasNext()) {
+                    List<GHPullRequest> page = pages.nextPage();
+                    for (GHPullRequest remotePR : page) {
+                        openNumbers.add(remotePR.getNumber());
+                        fingerprint.add(remotePR);
+                    }
+                    updatedMark = newestUpdatedAt(page, updatedMark);
+                    check(page, sameFields);
+                }
+            } catch (GHException e) {
+                throw new IOException("Can't list pull requests of " + localRepository.getFullName(), e);
+            }
+
+            // PRs that were closed since last check
+            List<Integer> closedNumbers;
+            synchronized (GitHubPRTrigger.this) {
+                closedNumbers = from(localRepository.getPulls().keySet()).filter(not(in(openNumbers))).toList();
+            }
+            check(from(closedNumbers).transform(fetchRemotePR(remoteRepo)).filter(notNull()).toList(), false);
+
+            synchronized (GitHubPRTrigger.this) {
+                if (!failed) {
+                    localRepository.setPullsFingerprint(fingerprint.build());
+                    localRepository.markChecked(updatedMark, startTime);
+                }
+                saveIfSkipFirstRun();
+                localRepository.saveQuietly();
+            }
+        }
+
+        private void check(List<GHPullRequest> remotePulls, boolean skipNotUpdated) throws InterruptedException {
+            if (remotePulls.isEmpty()) {
+                return;
+            }
+
+            List<PullRequestCheckResult> results = evaluate(remotePulls, skipNotUpdated, localRepository, listener,
+                    fieldLoader);
+            synchronized (GitHubPRTrigger.this) {
+                causes.addAll(commitResults(localRepository, results, listener));
+            }
+            for (PullRequestCheckResult result : results) {
+                failed |= result.isFailed();
+                fieldLoader.forget(result.getNumber());
+            }
+            checked += results.size();
+        }
+    }
+
+    private static boolean isInBadState(@NonNull GitHubPRRepository localRepository,
+                                        @NonNull GHPullRequest remotePR) {
+        @CheckForNull GitHubPRPullRequest localPR = localRepository.getPulls().get(remotePR.getNumber());
+        return nonNull(localPR) && localPR.isInBadState();
+    }
+
+    private static boolean isSupportedTriggerMode(GitHubPRTriggerMode mode) {
+        return mode != LIGHT_HOOKS;
+    }
+
+    /**
+     * @return remote pull requests for future analysing.
+     */
+    private static Set<GHPullRequest> withClosedPulls(@NonNull List<GHPullRequest> remotePulls,
+                                                      @NonNull GHRepository remoteRepo,
+                                                      @NonNull GitHubPRRepository localRepo) {
+        Set<Integer> remotePRNums = from(remotePulls).transform(extractPRNumber()).toSet();
+
+        return from(localRepo.getPulls().keySet())
+                // add PRs that was closed on remote
+                .filter(not(in(remotePRNums)))
+                .transform(fetchRemotePR(remoteRepo))
+                .filter(notNull())
+                .append(remotePulls)
+                .toSet();
     }
 
     @Override
@@ -375,8 +715,43 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
     @Extension
     public static class DescriptorImpl extends GitHubTriggerDescriptor {
 
+        /**
+         * How many pull requests of one check may be evaluated at the same time.
+         */
+        private int checkParallelism = 1;
+
+        private transient ThreadPoolExecutor checkExecutor;
+
+        /**
+         * Seconds for which GitHub responses are shared between all triggers, 0 disables sharing.
+         */
+        private int responseCacheTtl = 0;
+
+        private int responseCacheSize = 1000;
+
+        /**
+         * Open pull requests are fetched and checked page by page when greater than 0.
+         */
+        private int pullsPageSize = 0;
+
+        /**
+         * Local pull requests are stored in files by number ranges instead of repository file.
+         */
+        private boolean shardedPersistence = false;
+
+        /**
+         * Checks list only pull requests updated since previous check.
+         */
+        private boolean deltaPolling = false;
+
+        /**
+         * Hours between full checks when delta polling is enabled.
+         */
+        private int fullCheckInterval = 24;
+
         public DescriptorImpl() {
             load();
+            configureResponseCache();
         }
 
         @NonNull
@@ -385,6 +760,102 @@ public class GitHubPRTrigger extends GitHubTrigger<GitHubPRTrigger> {
             return "GitHub Pull Requests";
         }
 
+        public int getCheckParallelism() {
+            return Math.max(1, checkParallelism);
+        }
+
+        public synchronized void setCheckParallelism(int checkParallelism) {
+            this.checkParallelism = checkParallelism;
+            if (nonNull(checkExecutor)) {
+                // pool is resized in place, so running checks never submit to stopped pool
+                int threads = getCheckParallelism();
+                if (threads > checkExecutor.getMaximumPoolSize()) {
+                    checkExecutor.setMaximumPoolSize(threads);
+                    checkExecutor.setCorePoolSize(threads);
+                } else {
+                    checkExecutor.setCorePoolSize(threads);
+                    checkExecutor.setMaximumPoolSize(threads);
+                }
+            }
+        }
+
+        /**
+         * Bounded pool shared by all PR triggers for parallel evaluation of pull requests.
+         */
+        @NonNull
+        public synchronized ExecutorService getCheckExecutor() {
+            if (isNull(checkExecutor)) {
+                int threads = getCheckParallelism();
+                checkExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        new NamingThreadFactory(new DaemonThreadFactory(), "GitHubPRTrigger.check"));
+                checkExecutor.allowCoreThreadTimeOut(true);
+            }
+            return checkExecutor;
+        }
+
+        /**
+         * Size of pages in streaming check, 0 loads whole list of open pull requests before check.
+         */
+        public int getPullsPageSize() {
+            return Math.min(100, Math.max(0, pullsPageSize));
+        }
+
+        public void setPullsPageSize(int pullsPageSize) {
+            this.pullsPageSize = pullsPageSize;
+        }
+
+        public boolean isShardedPersistence() {
+            return shardedPersistence;
+        }
+
+        public void setShardedPersistence(boolean shardedPersistence) {
+            this.shardedPersistence = shardedPersistence;
+        }
+
+        public boolean isDeltaPolling() {
+            return deltaPolling;
+        }
+
+        public void setDeltaPolling(boolean deltaPolling) {
+            this.deltaPolling = deltaPolling;
+        }
+
+        public int getFullCheckInterval() {
+            return Math.max(1, fullCheckInterval);
+        }
+
+        public void setFullCheckInterval(int fullCheckInterval) {
+            this.fullCheckInterval = fullCheckInterval;
+        }
+
+        public int getResponseCacheTtl() {
+            return Math.max(0, responseCacheTtl);
+        }
+
+        public void setResponseCacheTtl(int responseCacheTtl) {
+            this.responseCacheTtl = responseCacheTtl;
+            configureResponseCache();
+        }
+
+        public int getResponseCacheSize() {
+            return Math.max(1, responseCacheSize);
+        }
+
+        public void setResponseCacheSize(int responseCacheSize) {
+            this.responseCacheSize = responseCacheSize;
+            configureResponseCache();
+        }
+
+        @NonNull
+        public GitHubResponseCache getResponseCache() {
+            return GitHubResponseCache.get();
+        }
+
+        private void configureResponseCache() {
+            GitHubResponseCache.get().configure(getResponseCacheTtl(), getResponseCacheSize());
+        }
+
         // list all available descriptors for choosing in job configuration
         public static List<GitHubPREventDescriptor> getEventDescriptors() {
             return GitHubPREventDescriptor.all();
@@ -1,5 +1,6 @@
 package org.jenkinsci.plugins.github.pullrequest.builders;
 
+import com.github.kostyasha.github.integration.generic.GitHubCommitStatusQueue;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -79,13 +80,18 @@ public class GitHubPRStatusBuilder extends Builder implements SimpleBuildStep {
             if (nonNull(statusMessage)) {
                 String url = trigger.getDescriptor().getJenkinsURL() + run.getUrl();
 
-                trigger.getRemoteRepository().createCommitStatus(
+                GitHubCommitStatusQueue.get().publish(trigger.getRemoteRepository(),
                         cause.getHeadSha(),
                         GHCommitState.PENDING,
                         url,
                         statusMessage.expandAll(run, listener),
                         run.getParent().getFullName()
-                );
+                ).whenComplete((ignored, ex) -> {
+                    // build may be already finished, report to system log only
+                    if (nonNull(ex)) {
+                        LOGGER.error("Can't set commit status", ex);
+                    }
+                });
             }
         } catch (Exception e) {
             listener.getLogger().println("Can't update build description");
@@ -5,7 +5,11 @@ import com.github.kostyasha.github.integration.generic.GitHubRepoEnv;
 import hudson.model.ParameterValue;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -19,14 +23,14 @@ public enum GitHubPREnv implements GitHubEnv<GitHubPRCause> {
     COMMIT_AUTHOR_EMAIL(GitHubPRCause::getCommitAuthorEmail),
     TARGET_BRANCH(GitHubPRCause::getTargetBranch),
     SOURCE_BRANCH(GitHubPRCause::getSourceBranch),
-    AUTHOR_EMAIL(GitHubPRCause::getPrAuthorEmail),
+    AUTHOR_EMAIL(GitHubPRCause::getPrAuthorEmail, GitHubPRField.USER_EMAIL),
     BODY(GitHubPRCause::getBody),
     SHORT_DESC(GitHubPRCause::getShortDescription),
     TITLE(GitHubPRCause::getTitle),
     URL((Function<GitHubPRCause, String>) c -> c.getHtmlUrl().toString()),
     SOURCE_REPO_OWNER(GitHubPRCause::getSourceRepoOwner),
     HEAD_SHA(GitHubPRCause::getHeadSha),
-    COND_REF(GitHubPRCause::getCondRef),
+    COND_REF(GitHubPRCause::getCondRef, GitHubPRField.MERGEABLE),
     CAUSE_SKIP(GitHubPRCause::isSkip),
     NUMBER((Function<GitHubPRCause, String>) c -> String.valueOf(c.getNumber())),
     STATE(GitHubPRCause::getState),
@@ -34,16 +38,27 @@ public enum GitHubPREnv implements GitHubEnv<GitHubPRCause> {
     COMMENT_AUTHOR_EMAIL(GitHubPRCause::getCommentAuthorEmail),
     COMMENT_BODY(GitHubPRCause::getCommentBody),
     COMMENT_BODY_MATCH(GitHubPRCause::getCommentBodyMatch),
-    LABELS((Function<GitHubPRCause, String>) c -> String.join(",", c.getLabels()));
+    LABELS((Function<GitHubPRCause, String>) c -> String.join(",", c.getLabels()), GitHubPRField.LABELS);
 
     public static final String PREFIX = "GITHUB_PR_";
 
     private Function<GitHubPRCause, ParameterValue> fun;
 
+    /**
+     * Expensive pull request field that cause must have loaded to provide this variable.
+     */
+    @CheckForNull
+    private GitHubPRField requiredField;
+
     GitHubPREnv(Function<GitHubPRCause, String> fun) {
         this.fun = c -> param(fun.apply(c));
     }
 
+    GitHubPREnv(Function<GitHubPRCause, String> fun, GitHubPRField requiredField) {
+        this(fun);
+        this.requiredField = requiredField;
+    }
+
     GitHubPREnv(Predicate<GitHubPRCause> fun) {
         this.fun = c -> param(fun.test(c));
     }
@@ -58,6 +73,20 @@ public enum GitHubPREnv implements GitHubEnv<GitHubPRCause> {
         return PREFIX.concat(name());
     }
 
+    /**
+     * @return fields that pull request snapshot for {@link GitHubPRCause} should load.
+     */
+    @NonNull
+    public static Set<GitHubPRField> getRequiredFields() {
+        Set<GitHubPRField> fields = EnumSet.noneOf(GitHubPRField.class);
+        for (GitHubPREnv env : values()) {
+            if (env.requiredField != null) {
+                fields.add(env.requiredField);
+            }
+        }
+        return fields;
+    }
+
     public static void getParams(GitHubPRCause cause, List<ParameterValue> params) {
         GitHubEnv.getParams(GitHubPREnv.class, cause, params);
         GitHubEnv.getParams(GitHubRepoEnv.class, cause, params);
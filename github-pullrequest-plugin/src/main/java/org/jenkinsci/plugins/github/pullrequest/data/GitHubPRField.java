@@ -0,0 +1,27 @@
+package org.jenkinsci.plugins.github.pullrequest.data;
+
+/**
+ * Parts of {@link org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest} that require
+ * additional remote calls and so are loaded only when something declared dependency on them.
+ *
+ * @see org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent#getRequiredFields()
+ * @see GitHubPREnv#getRequiredFields()
+ */
+public enum GitHubPRField {
+    /**
+     * Date of the last issue comment.
+     */
+    COMMENTS,
+    /**
+     * Email of the PR author.
+     */
+    USER_EMAIL,
+    /**
+     * Issue labels.
+     */
+    LABELS,
+    /**
+     * Mergeable state, may trigger background merge calculation on GitHub side.
+     */
+    MERGEABLE
+}
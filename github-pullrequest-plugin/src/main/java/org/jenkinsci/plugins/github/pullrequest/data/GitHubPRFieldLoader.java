@@ -0,0 +1,195 @@
+package org.jenkinsci.plugins.github.pullrequest.data;
+
+import com.github.kostyasha.github.integration.generic.GitHubResponseCache;
+import org.kohsuke.github.GHIssueComment;
+import org.kohsuke.github.GHLabel;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GitHub;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.kostyasha.github.integration.generic.utils.RetryableGitHubOperation.execute;
+import static java.util.Objects.isNull;
+
+/**
+ * Loads expensive pull request fields and remembers them, so one trigger run asks GitHub only once
+ * per pull request even when several snapshots (local state, cause) are created for it.
+ * Should live no longer than one trigger run, remote state is not refreshed.
+ * Remote calls go through {@link GitHubResponseCache}, so other jobs with the same connection may reuse them.
+ */
+public class GitHubPRFieldLoader {
+    /**
+     * Connection that loaded pull requests, responses are shared only when it is known.
+     */
+    @CheckForNull
+    private GitHub connection;
+
+    private final Map<Integer, List<GHIssueComment>> comments = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Integer, Set<String>> labels = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Integer, Boolean> mergeable = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, String> emails = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Integer, Date> lastCommentDates = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Integer, Date> commentCursors = Collections.synchronizedMap(new HashMap<>());
+
+    public GitHubPRFieldLoader withConnection(@CheckForNull GitHub connection) {
+        this.connection = connection;
+        return this;
+    }
+
+    /**
+     * Comments created before cursor were already seen in previous checks,
+     * so only comments updated since cursor are fetched. Should be set before comments are requested.
+     *
+     * @param cursor creation date of the newest seen comment, null to fetch all comments.
+     */
+    public void setCommentCursor(int number, @CheckForNull Date cursor) {
+        if (isNull(cursor)) {
+            commentCursors.remove(number);
+        } else {
+            commentCursors.put(number, new Date(cursor.getTime()));
+        }
+    }
+
+    /**
+     * @return all comments or, when cursor is set, comments updated since cursor.
+     */
+    @NonNull
+    public List<GHIssueComment> getComments(@NonNull GHPullRequest pr) throws IOException {
+        List<GHIssueComment> loaded = comments.get(pr.getNumber());
+        if (loaded == null) {
+            Date since = commentCursors.get(pr.getNumber());
+            if (isNull(since)) {
+                loaded = GitHubResponseCache.get().get(connection, pr.getRepository(), pr.getNumber(), "comments",
+                        () -> Collections.unmodifiableList(execute(pr::getComments)));
+            } else if (!isUpdatedSince(pr, since)) {
+                // new comment always bumps issue update time
+                loaded = Collections.emptyList();
+            } else {
+                loaded = GitHubResponseCache.get().get(connection, pr.getRepository(), pr.getNumber(),
+                        "comments:" + since.getTime(),
+                        () -> Collections.unmodifiableList(execute(() -> fetchCommentsSince(pr, since))));
+            }
+            comments.put(pr.getNumber(), loaded);
+        }
+        return loaded;
+    }
+
+    private static List<GHIssueComment> fetchCommentsSince(GHPullRequest pr, Date since) throws IOException {
+        return pr.queryComments().since(since).list().toList();
+    }
+
+    private static boolean isUpdatedSince(GHPullRequest pr, Date since) throws IOException {
+        Date updatedAt = pr.getIssueUpdatedAt();
+        return isNull(updatedAt) || updatedAt.after(since);
+    }
+
+    /**
+     * @return creation date of the newest comment, cursor when there are no comments after it,
+     * or null when PR has no comments.
+     */
+    @CheckForNull
+    public Date getLastCommentCreatedAt(@NonNull GHPullRequest pr) throws IOException {
+        if (!lastCommentDates.containsKey(pr.getNumber())) {
+            Date maxDate = commentCursors.get(pr.getNumber());
+            for (GHIssueComment comment : getComments(pr)) {
+                if (isNull(maxDate) || comment.getCreatedAt().compareTo(maxDate) > 0) {
+                    maxDate = comment.getCreatedAt();
+                }
+            }
+            lastCommentDates.put(pr.getNumber(), maxDate);
+        }
+        return lastCommentDates.get(pr.getNumber());
+    }
+
+    /**
+     * Labels are taken from PR payload when it already has them, otherwise issue labels are fetched once.
+     * Empty payload labels are not trusted because they can't be distinguished from absent ones.
+     */
+    @NonNull
+    public Set<String> getLabels(@NonNull GHPullRequest pr) throws IOException {
+        Set<String> loaded = labels.get(pr.getNumber());
+        if (loaded == null) {
+            loaded = labelNames(pr.getLabels());
+            if (loaded.isEmpty()) {
+                loaded = GitHubResponseCache.get().get(connection, pr.getRepository(), pr.getNumber(), "labels",
+                        () -> labelNames(execute(() -> pr.getRepository().getIssue(pr.getNumber()).getLabels())));
+            }
+            labels.put(pr.getNumber(), loaded);
+        }
+        return loaded;
+    }
+
+    private static Set<String> labelNames(@CheckForNull Collection<GHLabel> ghLabels) {
+        if (isNull(ghLabels) || ghLabels.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new HashSet<>();
+        for (GHLabel label : ghLabels) {
+            names.add(label.getName());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @see <a href="https://github.com/kohsuke/github-api/issues/111">github-api#111</a>
+     */
+    @CheckForNull
+    public Boolean getMergeable(@NonNull GHPullRequest pr) throws IOException {
+        if (!mergeable.containsKey(pr.getNumber())) {
+            mergeable.put(pr.getNumber(), GitHubResponseCache.get().get(connection, pr.getRepository(),
+                    pr.getNumber(), "mergeable", () -> execute(pr::getMergeable)));
+        }
+        return mergeable.get(pr.getNumber());
+    }
+
+    @CheckForNull
+    public String getUserEmail(@NonNull GHPullRequest pr) throws IOException {
+        String login = pr.getUser().getLogin();
+        if (!emails.containsKey(login)) {
+            emails.put(login, GitHubResponseCache.get().get(connection, pr.getRepository(),
+                    GitHubResponseCache.REPO, "email:" + login, () -> execute(() -> pr.getUser().getEmail())));
+        }
+        return emails.get(login);
+    }
+
+    /**
+     * Drops remembered fields of pull request that won't be asked again during this run,
+     * so long runs don't keep data of every checked pull request.
+     */
+    public void forget(int number) {
+        comments.remove(number);
+        labels.remove(number);
+        mergeable.remove(number);
+        lastCommentDates.remove(number);
+        commentCursors.remove(number);
+    }
+
+    /**
+     * For loaders that get fields of many pull requests at once.
+     */
+    protected void putLastCommentCreatedAt(int number, @CheckForNull Date date) {
+        lastCommentDates.put(number, date);
+    }
+
+    protected void putLabels(int number, @NonNull Set<String> names) {
+        labels.put(number, Collections.unmodifiableSet(names));
+    }
+
+    protected void putMergeable(int number, @CheckForNull Boolean value) {
+        mergeable.put(number, value);
+    }
+
+    protected void putUserEmail(@NonNull String login, @CheckForNull String email) {
+        emails.put(login, email);
+    }
+}
@@ -0,0 +1,241 @@
+package org.jenkinsci.plugins.github.pullrequest.data;
+
+import hudson.ProxyConfiguration;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import org.apache.commons.io.IOUtils;
+import org.kohsuke.github.GHPullRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.time.Instant;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.COMMENTS;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.LABELS;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.MERGEABLE;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.USER_EMAIL;
+
+/**
+ * Gets required fields of all open pull requests with few paginated GraphQL queries
+ * on first request of any field, instead of separate REST calls per pull request.
+ * Comment bodies are not fetched, they are loaded with REST only when comment event needs them.
+ * When GraphQL query fails, fields are loaded with REST as usual.
+ */
+public class GitHubPRGraphQLFieldLoader extends GitHubPRFieldLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubPRGraphQLFieldLoader.class);
+
+    public static final int PAGE_SIZE = 50;
+
+    private final URL endpoint;
+    private final String token;
+    private final String owner;
+    private final String name;
+    private final Set<GitHubPRField> fields;
+
+    private boolean fetched;
+
+    /**
+     * @param apiUrl REST api url from GitHub server config.
+     * @param fields fields to get, other fields are loaded with REST on demand.
+     */
+    public GitHubPRGraphQLFieldLoader(@NonNull String apiUrl, @NonNull String token,
+                                      @NonNull String owner, @NonNull String name,
+                                      @NonNull Set<GitHubPRField> fields) throws IOException {
+        this.endpoint = new URL(graphqlUrl(apiUrl));
+        this.token = token;
+        this.owner = owner;
+        this.name = name;
+        this.fields = fields.isEmpty() ? EnumSet.noneOf(GitHubPRField.class) : EnumSet.copyOf(fields);
+    }
+
+    /**
+     * github.com: https://api.github.com -> https://api.github.com/graphql,
+     * GitHub Enterprise: https://host/api/v3 -> https://host/api/graphql.
+     */
+    @NonNull
+    public static String graphqlUrl(@NonNull String apiUrl) {
+        String url = removeEnd(apiUrl, "/");
+        if (url.endsWith("/api/v3")) {
+            return removeEnd(url, "/v3") + "/graphql";
+        }
+        return url + "/graphql";
+    }
+
+    @CheckForNull
+    @Override
+    public Date getLastCommentCreatedAt(@NonNull GHPullRequest pr) throws IOException {
+        prefetch();
+        return super.getLastCommentCreatedAt(pr);
+    }
+
+    @NonNull
+    @Override
+    public Set<String> getLabels(@NonNull GHPullRequest pr) throws IOException {
+        prefetch();
+        return super.getLabels(pr);
+    }
+
+    @CheckForNull
+    @Override
+    public Boolean getMergeable(@NonNull GHPullRequest pr) throws IOException {
+        prefetch();
+        return super.getMergeable(pr);
+    }
+
+    @CheckForNull
+    @Override
+    public String getUserEmail(@NonNull GHPullRequest pr) throws IOException {
+        prefetch();
+        return super.getUserEmail(pr);
+    }
+
+    private synchronized void prefetch() {
+        if (fetched) {
+            return;
+        }
+        fetched = true;
+
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        try {
+            String cursor = null;
+            int pages = 0;
+            do {
+                JSONObject pulls = query(cursor);
+                for (Object node : pulls.getJSONArray("nodes")) {
+                    apply((JSONObject) node);
+                }
+                JSONObject pageInfo = pulls.getJSONObject("pageInfo");
+                cursor = pageInfo.optBoolean("hasNextPage") ? pageInfo.getString("endCursor") : null;
+                pages++;
+            } while (cursor != null);
+            LOG.debug("Fetched {} fields of open pull requests for {}/{} with {} GraphQL queries",
+                    fields, owner, name, pages);
+        } catch (Exception e) {
+            LOG.warn("Can't fetch pull requests of {}/{} with GraphQL, falling back to REST", owner, name, e);
+        }
+    }
+
+    private JSONObject query(@CheckForNull String cursor) throws IOException {
+        JSONObject variables = new JSONObject()
+                .element("owner", owner)
+                .element("name", name)
+                .element("cursor", cursor == null ? JSONNull.getInstance() : cursor);
+        JSONObject request = new JSONObject()
+                .element("query", buildQuery(fields))
+                .element("variables", variables);
+
+        URLConnection connection = ProxyConfiguration.open(endpoint);
+        if (!(connection instanceof HttpURLConnection)) {
+            throw new IOException("Not http GraphQL endpoint " + endpoint);
+        }
+        HttpURLConnection http = (HttpURLConnection) connection;
+        http.setRequestMethod("POST");
+        http.setDoOutput(true);
+        http.setRequestProperty("Authorization", "bearer " + token);
+        http.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+        try (OutputStream out = http.getOutputStream()) {
+            out.write(request.toString().getBytes(UTF_8));
+        }
+
+        if (http.getResponseCode() != HttpURLConnection.HTTP_OK) {
+            throw new IOException("GraphQL query failed with HTTP " + http.getResponseCode());
+        }
+
+        JSONObject response;
+        try (InputStream in = http.getInputStream()) {
+            response = JSONObject.fromObject(IOUtils.toString(in, UTF_8));
+        }
+
+        if (response.has("errors")) {
+            // partial data is still usable, missing fields are loaded with REST
+            LOG.debug("GraphQL query for {}/{} returned errors: {}", owner, name, response.get("errors"));
+        }
+
+        JSONObject data = response.optJSONObject("data");
+        JSONObject repository = data == null ? null : data.optJSONObject("repository");
+        if (repository == null || repository.optJSONObject("pullRequests") == null) {
+            throw new IOException("GraphQL response has no pull requests: " + response.get("errors"));
+        }
+        return repository.getJSONObject("pullRequests");
+    }
+
+    static String buildQuery(Set<GitHubPRField> fields) {
+        StringBuilder node = new StringBuilder("number");
+        if (fields.contains(MERGEABLE)) {
+            node.append(" mergeable");
+        }
+        if (fields.contains(USER_EMAIL)) {
+            node.append(" author { login ... on User { email } }");
+        }
+        if (fields.contains(LABELS)) {
+            node.append(" labels(first: 100) { nodes { name } }");
+        }
+        if (fields.contains(COMMENTS)) {
+            node.append(" comments(last: 1) { nodes { createdAt } }");
+        }
+
+        return "query($owner: String!, $name: String!, $cursor: String) {"
+                + " repository(owner: $owner, name: $name) {"
+                + " pullRequests(states: OPEN, first: " + PAGE_SIZE + ", after: $cursor) {"
+                + " pageInfo { hasNextPage endCursor }"
+                + " nodes { " + node + " } } } }";
+    }
+
+    private void apply(JSONObject pr) {
+        int number = pr.getInt("number");
+
+        if (fields.contains(MERGEABLE) && pr.has("mergeable")) {
+            String state = pr.optString("mergeable");
+            // UNKNOWN is same as not yet calculated null in REST
+            putMergeable(number, "MERGEABLE".equals(state) ? Boolean.TRUE
+                    : "CONFLICTING".equals(state) ? Boolean.FALSE : null);
+        }
+
+        JSONObject author = pr.optJSONObject("author");
+        if (fields.contains(USER_EMAIL) && author != null && !author.isNullObject()
+                && author.has("email") && !isEmpty(author.optString("login"))) {
+            String email = author.optString("email");
+            putUserEmail(author.getString("login"), isEmpty(email) ? null : email);
+        }
+
+        JSONObject labels = pr.optJSONObject("labels");
+        // labels may be truncated, leave them to REST
+        if (fields.contains(LABELS) && labels != null && !labels.isNullObject()) {
+            JSONArray nodes = labels.getJSONArray("nodes");
+            if (nodes.size() < 100) {
+                Set<String> names = new HashSet<>();
+                for (Object label : nodes) {
+                    names.add(((JSONObject) label).getString("name"));
+                }
+                putLabels(number, names);
+            }
+        }
+
+        JSONObject comments = pr.optJSONObject("comments");
+        if (fields.contains(COMMENTS) && comments != null && !comments.isNullObject()) {
+            List<?> nodes = comments.getJSONArray("nodes");
+            putLastCommentCreatedAt(number, nodes.isEmpty() ? null
+                    : Date.from(Instant.parse(((JSONObject) nodes.get(0)).getString("createdAt"))));
+        }
+    }
+}
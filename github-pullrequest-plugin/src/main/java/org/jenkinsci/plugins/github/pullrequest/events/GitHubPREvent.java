@@ -6,11 +6,14 @@ import hudson.model.AbstractDescribableImpl;
 import hudson.model.TaskListener;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.kohsuke.github.GHEventPayload;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Extension point for various GH PR events that may trigger run.
@@ -31,6 +34,16 @@ public abstract class GitHubPREvent extends AbstractDescribableImpl<GitHubPREven
         return null;
     }
 
+    /**
+     * Expensive pull request fields that this event reads from {@link GitHubPRDecisionContext#getLocalPR()},
+     * so they must be loaded into snapshot stored for the next check.
+     * Defaults to all fields, events that know better should override it.
+     */
+    @NonNull
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.allOf(GitHubPRField.class);
+    }
+
     /**
      * Check that is used for lightweight hooks (pure GitHub hooks).
      */
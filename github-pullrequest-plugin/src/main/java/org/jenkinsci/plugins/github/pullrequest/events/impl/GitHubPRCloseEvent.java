@@ -6,6 +6,7 @@ import hudson.model.TaskListener;
 import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
 import org.kohsuke.github.GHIssueState;
@@ -17,6 +18,8 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static java.util.Objects.isNull;
 
@@ -33,6 +36,12 @@ public class GitHubPRCloseEvent extends GitHubPREvent {
     public GitHubPRCloseEvent() {
     }
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.noneOf(GitHubPRField.class);
+    }
+
     @Override
     public GitHubPRCause check(@NonNull GitHubPRDecisionContext prDecisionContext) throws IOException {
         TaskListener listener = prDecisionContext.getListener();
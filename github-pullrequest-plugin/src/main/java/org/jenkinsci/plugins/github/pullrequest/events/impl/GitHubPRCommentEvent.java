@@ -6,9 +6,11 @@ import hudson.model.TaskListener;
 import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
 import org.jenkinsci.plugins.github.pullrequest.restrictions.GitHubPRUserRestriction;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.github.GHIssueComment;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.stapler.DataBoundConstructor;
@@ -18,11 +20,13 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.COMMENTS;
 
 /**
  * Trigger PR based on comment pattern.
@@ -44,6 +48,12 @@ public class GitHubPRCommentEvent extends GitHubPREvent {
         this.comment = comment;
     }
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.of(COMMENTS);
+    }
+
     @Override
     public GitHubPRCause check(@NonNull GitHubPRDecisionContext prDecisionContext) {
         final TaskListener listener = prDecisionContext.getListener();
@@ -54,7 +64,7 @@ public class GitHubPRCommentEvent extends GitHubPREvent {
 
         GitHubPRCause cause = null;
         try {
-            for (GHIssueComment issueComment : remotePR.getComments()) {
+            for (GHIssueComment issueComment : prDecisionContext.getFieldLoader().getComments(remotePR)) {
                 if (isNull(localPR) // test all comments for trigger word even if we never saw PR before
                         || isNull(localPR.getLastCommentCreatedAt()) // PR was created but had no comments
                         // don't check comments that we saw before
@@ -90,7 +100,7 @@ public class GitHubPRCommentEvent extends GitHubPREvent {
             String body = issueComment.getBody();
 
             if (isNull(userRestriction) || userRestriction.isWhitelisted(issueComment.getUser())) {
-                final Matcher matcher = Pattern.compile(comment).matcher(body);
+                final Matcher matcher = PatternCache.compile(comment).matcher(body);
                 if (matcher.matches()) {
                     listener.getLogger().println(DISPLAY_NAME + ": matching comment " + body);
                     LOG.trace("Event matches comment '{}'", body);
@@ -8,8 +8,10 @@ import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
@@ -19,7 +21,9 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.nonNull;
@@ -39,6 +43,12 @@ public class GitHubPRDescriptionEvent extends GitHubPREvent {
         this.skipMsg = skipMsg;
     }
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.noneOf(GitHubPRField.class);
+    }
+
     /**
      * Checks for skip message in pull request description.
      *
@@ -73,7 +83,7 @@ public class GitHubPRDescriptionEvent extends GitHubPREvent {
 
             for (String skipBuildPhrase : skipBuildPhrases) {
                 skipBuildPhrase = skipBuildPhrase.trim();
-                Pattern skipBuildPhrasePattern = Pattern.compile(skipBuildPhrase);
+                Pattern skipBuildPhrasePattern = PatternCache.compile(skipBuildPhrase);
                 if (skipBuildPhrasePattern.matcher(pullRequestBody).matches()) {
                     LOG.info("Job: '{}', trigger event: '{}', PR body '{}' matches skipBuildPhrase '{}'.",
                             fullName,
@@ -7,10 +7,10 @@ import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRLabel;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
 import org.kohsuke.github.GHIssueState;
-import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
@@ -19,11 +19,11 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
 
 import static java.util.Objects.isNull;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.LABELS;
 
 /**
  * When label is added to pull request. Set of labels is considered added only when
@@ -47,6 +47,12 @@ public class GitHubPRLabelAddedEvent extends GitHubPREvent {
         return label;
     }
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.of(LABELS);
+    }
+
     @Override
     public GitHubPRCause check(@NonNull GitHubPRDecisionContext prDecisionContext) throws IOException {
         TaskListener listener = prDecisionContext.getListener();
@@ -63,18 +69,16 @@ public class GitHubPRLabelAddedEvent extends GitHubPREvent {
         }
 
         //localPR exists before, checking for changes
+        if (localPR != null && !localPR.isLabelsLoaded()) {
+            return null; // labels weren't tracked before, can't tell what was added
+        }
         if (localPR != null && localPR.getLabels().containsAll(label.getLabelsSet())) {
             return null; // label existed before exiting
         }
 
         GitHubPRCause cause = null;
 
-        Collection<GHLabel> labels = remotePR.getRepository().getIssue(remotePR.getNumber()).getLabels();
-        Set<String> existingLabels = new HashSet<String>();
-
-        for (GHLabel curLabel : labels) {
-            existingLabels.add(curLabel.getName());
-        }
+        Set<String> existingLabels = prDecisionContext.getLabels();
 
         if (existingLabels.containsAll(label.getLabelsSet())) {
             final PrintStream logger = listener.getLogger();
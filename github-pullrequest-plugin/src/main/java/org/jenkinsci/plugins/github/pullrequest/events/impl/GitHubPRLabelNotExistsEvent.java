@@ -6,10 +6,10 @@ import hudson.model.TaskListener;
 import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRLabel;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
 import org.kohsuke.github.GHIssueState;
-import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
@@ -18,7 +18,7 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -40,6 +40,12 @@ public class GitHubPRLabelNotExistsEvent extends GitHubPREvent {
         this.skip = skip;
     }
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.noneOf(GitHubPRField.class);
+    }
+
     @Override
     public GitHubPRCause check(@NonNull GitHubPRDecisionContext prDecisionContext) throws IOException {
         TaskListener listener = prDecisionContext.getListener();
@@ -51,12 +57,7 @@ public class GitHubPRLabelNotExistsEvent extends GitHubPREvent {
 
         GitHubPRCause cause = null;
 
-        Collection<GHLabel> remoteLabels = remotePR.getRepository().getIssue(remotePR.getNumber()).getLabels();
-        Set<String> existingLabels = new HashSet<>();
-
-        for (GHLabel ghLabel : remoteLabels) {
-            existingLabels.add(ghLabel.getName());
-        }
+        Set<String> existingLabels = new HashSet<>(prDecisionContext.getLabels());
 
         existingLabels.retainAll(label.getLabelsSet());
 
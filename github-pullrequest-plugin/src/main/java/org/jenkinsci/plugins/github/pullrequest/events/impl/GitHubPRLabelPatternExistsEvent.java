@@ -6,10 +6,10 @@ import hudson.model.TaskListener;
 import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRLabel;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
-import org.kohsuke.github.GHLabel;
-import org.kohsuke.github.GHPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +17,8 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -36,16 +38,21 @@ public class GitHubPRLabelPatternExistsEvent extends GitHubPREvent {
     }
 
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.noneOf(GitHubPRField.class);
+    }
+
     @Override
     public GitHubPRCause check(@NonNull GitHubPRDecisionContext prDecisionContext) throws IOException {
         TaskListener listener = prDecisionContext.getListener();
-        GHPullRequest remotePR = prDecisionContext.getRemotePR();
         final PrintStream logger = listener.getLogger();
 
-        for (GHLabel ghLabel : remotePR.getRepository().getIssue(remotePR.getNumber()).getLabels()) {
+        for (String remoteLabel : prDecisionContext.getLabels()) {
             for (String labelPatternStr : label.getLabelsSet()) {
-                Pattern labelPattern = Pattern.compile(labelPatternStr);
-                if (labelPattern.matcher(ghLabel.getName()).matches()) {
+                Pattern labelPattern = PatternCache.compile(labelPatternStr);
+                if (labelPattern.matcher(remoteLabel).matches()) {
                     logger.println(DISPLAY_NAME + ": Pull request has label: " + labelPatternStr);
                     LOGGER.info("Pull request has '{}' label.", labelPatternStr);
                     return prDecisionContext.newCause("PR has label: " + labelPatternStr, isSkip());
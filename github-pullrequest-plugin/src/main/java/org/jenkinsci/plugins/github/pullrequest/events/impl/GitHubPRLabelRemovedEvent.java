@@ -7,10 +7,10 @@ import org.jenkinsci.Symbol;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRLabel;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREventDescriptor;
 import org.kohsuke.github.GHIssueState;
-import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
@@ -19,9 +19,11 @@ import org.slf4j.LoggerFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static java.util.Objects.isNull;
+import static org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField.LABELS;
 
 /**
  * When label is removed from GitHub issue(== pull request). Set of labels is considered removed only when
@@ -43,6 +45,12 @@ public class GitHubPRLabelRemovedEvent extends GitHubPREvent {
         this.label = label;
     }
 
+    @NonNull
+    @Override
+    public Set<GitHubPRField> getRequiredFields() {
+        return EnumSet.of(LABELS);
+    }
+
     @Override
     public GitHubPRCause check(@NonNull GitHubPRDecisionContext prDecisionContext) throws IOException {
         TaskListener listener = prDecisionContext.getListener();
@@ -57,6 +65,10 @@ public class GitHubPRLabelRemovedEvent extends GitHubPREvent {
             return null;
         }
 
+        if (!localPR.isLabelsLoaded()) { // labels weren't tracked before, can't tell what was removed
+            return null;
+        }
+
         boolean hasLocal = false;
         for (String l : localPR.getLabels()) {
             for (String checkedLabel : label.getLabelsSet()) {
@@ -72,10 +84,9 @@ public class GitHubPRLabelRemovedEvent extends GitHubPREvent {
 
         GitHubPRCause cause = null;
         boolean hasRemote = false;
-        Collection<GHLabel> labels = remotePR.getRepository().getIssue(remotePR.getNumber()).getLabels();
-        for (GHLabel remoteLabel : labels) {
+        for (String remoteLabel : prDecisionContext.getLabels()) {
             for (String checkedLabel : label.getLabelsSet()) {
-                if (checkedLabel.equals(remoteLabel.getName())) {
+                if (checkedLabel.equals(remoteLabel)) {
                     hasRemote = true;
                     break;
                 }
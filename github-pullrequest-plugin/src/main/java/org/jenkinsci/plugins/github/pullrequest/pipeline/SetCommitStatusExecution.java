@@ -1,6 +1,7 @@
 package org.jenkinsci.plugins.github.pullrequest.pipeline;
 
 import com.coravy.hudson.plugins.github.GithubProjectProperty;
+import com.github.kostyasha.github.integration.generic.GitHubCommitStatusQueue;
 import com.google.inject.Inject;
 import hudson.AbortException;
 import hudson.model.Run;
@@ -70,11 +71,14 @@ public class SetCommitStatusExecution extends AbstractSynchronousNonBlockingStep
             buildUrl += run.getUrl();
         }
 
-        repository.createCommitStatus(cause.getHeadSha(),
+        // step waits in its own thread, so failure still fails the step
+        GitHubCommitStatusQueue.get().publishAndWait(repository,
+                cause.getHeadSha(),
                 config.getState(),
                 buildUrl,
                 config.getMessage(),
-                statusContext);
+                statusContext
+        );
         return null;
     }
 
@@ -1,5 +1,6 @@
 package org.jenkinsci.plugins.github.pullrequest.publishers.impl;
 
+import com.github.kostyasha.github.integration.generic.GitHubCommitStatusQueue;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -25,9 +26,9 @@ import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
-import java.io.PrintStream;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -73,7 +74,6 @@ public class GitHubPRBuildStatusPublisher extends GitHubPRAbstractPublisher {
     @Override
     public void perform(@NonNull Run<?, ?> run, @NonNull FilePath workspace, @NonNull Launcher launcher,
                         @NonNull TaskListener listener) throws InterruptedException, IOException {
-        PrintStream listenerLogger = listener.getLogger();
         String publishedURL = getTriggerDescriptor().getJenkinsURL();
 
         if (getStatusVerifier() != null && !getStatusVerifier().isRunAllowed(run)) {
@@ -102,29 +102,66 @@ public class GitHubPRBuildStatusPublisher extends GitHubPRAbstractPublisher {
             return;
         }
 
+        String context = run.getParent().getFullName();
+        if (isNull(getErrorHandler())) {
+            // nothing to mark in this run, so don't make it wait for GitHub,
+            // late failure goes to system log only, build listener may be closed already
+            final String comment = fallbackComment(state, run, listener);
+            try {
+                GitHubCommitStatusQueue.get()
+                        .publish(trigger.getRemoteRepository(), c.getHeadSha(), state, buildUrl, statusMsgValue,
+                                context)
+                        .whenComplete((ignored, ex) -> {
+                            if (nonNull(ex)) {
+                                LOGGER.error("Could not update commit status of the Pull Request on GitHub.", ex);
+                                addComment(c.getNumber(), comment, run, null);
+                            }
+                        });
+            } catch (IOException ex) {
+                statusFailed(run, listener, c, comment, ex);
+            }
+            return;
+        }
+
         try {
-            trigger.getRemoteRepository().createCommitStatus(c.getHeadSha(), state, buildUrl, statusMsgValue,
-                    run.getParent().getFullName());
+            GitHubCommitStatusQueue.get()
+                    .publishAndWait(trigger.getRemoteRepository(), c.getHeadSha(), state, buildUrl, statusMsgValue,
+                            context);
         } catch (IOException ex) {
-            if (nonNull(buildMessage)) {
-                String comment = null;
-                LOGGER.error("Could not update commit status of the Pull Request on GitHub. ", ex);
-                if (state == GHCommitState.SUCCESS) {
-                    comment = buildMessage.getSuccessMsg().expandAll(run, listener);
-                } else if (state == GHCommitState.FAILURE) {
-                    comment = buildMessage.getFailureMsg().expandAll(run, listener);
-                }
-                listenerLogger.println("Adding comment...");
-                LOGGER.info("Adding comment, because: ", ex);
-                addComment(c.getNumber(), comment, run, listener);
-            } else {
-                listenerLogger.println("Could not update commit status of the Pull Request on GitHub." + ex.getMessage());
-                LOGGER.error("Could not update commit status of the Pull Request on GitHub.", ex);
-            }
+            statusFailed(run, listener, c, fallbackComment(state, run, listener), ex);
             handlePublisherError(run);
         }
     }
 
+    private void statusFailed(Run<?, ?> run, TaskListener listener, GitHubPRCause c, String comment, IOException ex) {
+        if (nonNull(buildMessage)) {
+            LOGGER.error("Could not update commit status of the Pull Request on GitHub. ", ex);
+            listener.getLogger().println("Adding comment...");
+            LOGGER.info("Adding comment, because: ", ex);
+            addComment(c.getNumber(), comment, run, listener);
+        } else {
+            listener.getLogger().println("Could not update commit status of the Pull Request on GitHub." + ex.getMessage());
+            LOGGER.error("Could not update commit status of the Pull Request on GitHub.", ex);
+        }
+    }
+
+    /**
+     * Comment posted instead of status when status can't be set.
+     */
+    @CheckForNull
+    private String fallbackComment(GHCommitState state, Run<?, ?> run, TaskListener listener)
+            throws IOException, InterruptedException {
+        if (isNull(buildMessage)) {
+            return null;
+        }
+        if (state == GHCommitState.SUCCESS) {
+            return buildMessage.getSuccessMsg().expandAll(run, listener);
+        } else if (state == GHCommitState.FAILURE) {
+            return buildMessage.getFailureMsg().expandAll(run, listener);
+        }
+        return null;
+    }
+
     public final Api getApi() {
         return new Api(this);
     }
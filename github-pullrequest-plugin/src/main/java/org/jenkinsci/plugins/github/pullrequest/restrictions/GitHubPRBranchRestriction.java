@@ -5,6 +5,7 @@ import hudson.Extension;
 import hudson.model.Describable;
 import hudson.model.Descriptor;
 import jenkins.model.Jenkins;
+import org.jenkinsci.plugins.github.pullrequest.utils.PatternCache;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.slf4j.Logger;
@@ -14,7 +15,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
  * Restriction by target branch (one or many).
@@ -44,7 +44,7 @@ public class GitHubPRBranchRestriction implements Describable<GitHubPRBranchRest
 
         for (String branch : targetBranchList) {
             //if branch name matches to pattern, allow build
-            isAllowed = Pattern.compile(branch).matcher(branchName).matches();
+            isAllowed = PatternCache.matches(branch, branchName);
             if (isAllowed) {
                 break;
             }
@@ -1,5 +1,8 @@
 package org.jenkinsci.plugins.github.pullrequest.trigger;
 
+import com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex;
+import com.github.kostyasha.github.integration.generic.GitHubCommitStatusQueue;
+import com.github.kostyasha.github.integration.generic.GitHubPollingLogStore;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
@@ -9,7 +12,6 @@ import hudson.matrix.MatrixRun;
 import hudson.model.Action;
 import hudson.model.Cause;
 import hudson.model.CauseAction;
-import hudson.model.Computer;
 import hudson.model.Executor;
 import hudson.model.Job;
 import hudson.model.ParameterValue;
@@ -18,7 +20,6 @@ import hudson.model.Queue;
 import hudson.model.Result;
 import hudson.model.Run;
 import hudson.model.queue.QueueTaskFuture;
-import hudson.model.queue.SubTask;
 import hudson.security.ACL;
 import jenkins.model.ParameterizedJobMixIn;
 import org.acegisecurity.context.SecurityContext;
@@ -27,7 +28,9 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRBadgeAction;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
+import org.jenkinsci.plugins.github.pullrequest.utils.LoggingTaskListenerWrapper;
 import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,13 +41,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.cloudbees.jenkins.GitHubWebHook.getJenkinsInstance;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.prKey;
 import static com.google.common.base.Predicates.instanceOf;
 import static hudson.security.ACL.impersonate;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.cancelQueued;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.getDefaultParametersValues;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.getInterruptCauses;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.getInterruptStatus;
@@ -61,9 +67,26 @@ public class JobRunnerForCause implements Predicate<GitHubPRCause> {
     private Job<?, ?> job;
     private GitHubPRTrigger trigger;
 
+    /**
+     * Polling log doesn't change while causes of one check are applied, stored once for all of them.
+     */
+    @CheckForNull
+    private String pollingLogRef;
+
+    /**
+     * Listener of check that produced causes, polling log snapshot is taken from it.
+     */
+    @CheckForNull
+    private LoggingTaskListenerWrapper listener;
+
     public JobRunnerForCause(Job<?, ?> job, GitHubPRTrigger trigger) {
+        this(job, trigger, null);
+    }
+
+    public JobRunnerForCause(Job<?, ?> job, GitHubPRTrigger trigger, @CheckForNull LoggingTaskListenerWrapper listener) {
         this.job = job;
         this.trigger = trigger;
+        this.listener = listener;
     }
 
     @Override
@@ -71,7 +94,7 @@ public class JobRunnerForCause implements Predicate<GitHubPRCause> {
         SecurityContext old = ACL.impersonate(ACL.SYSTEM);
 
         try {
-            cause.setPollingLogFile(trigger.getPollingLogAction().getPollingLogFile());
+            cause.withPollingLogRef(pollingLogRef());
 
             StringBuilder sb = new StringBuilder();
             sb.append("Jenkins queued the run (").append(cause.getReason()).append(")");
@@ -106,25 +129,26 @@ public class JobRunnerForCause implements Predicate<GitHubPRCause> {
 
             LOGGER.info(sb.toString());
 
-            // remote connection
+            // remote connection, statuses are sent in background
             if (trigger.isPreStatus()) {
+                GHRepository remoteRepository = trigger.getRemoteRepository();
                 if (job instanceof MatrixProject) {
                     Collection<? extends MatrixConfiguration> configs = ((MatrixProject) job).getActiveConfigurations();
                     for (MatrixConfiguration config : configs) {
-                        trigger.getRemoteRepository()
-                                .createCommitStatus(cause.getHeadSha(),
-                                        GHCommitState.PENDING,
-                                        config.getAbsoluteUrl(),
-                                        sb.toString(),
-                                        config.getFullName());
+                        GitHubCommitStatusQueue.get().publish(remoteRepository,
+                                cause.getHeadSha(),
+                                GHCommitState.PENDING,
+                                config.getAbsoluteUrl(),
+                                sb.toString(),
+                                config.getFullName());
                     }
                 } else {
-                    trigger.getRemoteRepository()
-                            .createCommitStatus(cause.getHeadSha(),
-                                    GHCommitState.PENDING,
-                                    job.getAbsoluteUrl(),
-                                    sb.toString(),
-                                    job.getFullName());
+                    GitHubCommitStatusQueue.get().publish(remoteRepository,
+                            cause.getHeadSha(),
+                            GHCommitState.PENDING,
+                            job.getAbsoluteUrl(),
+                            sb.toString(),
+                            job.getFullName());
                 }
             }
         } catch (IOException e) {
@@ -136,62 +160,54 @@ public class JobRunnerForCause implements Predicate<GitHubPRCause> {
         return true;
     }
 
+    @CheckForNull
+    private String pollingLogRef() {
+        if (isNull(pollingLogRef)) {
+            try {
+                GitHubPollingLogStore store = new GitHubPollingLogStore(job);
+                pollingLogRef = nonNull(listener)
+                        ? store.store(listener::writeCheckTextTo)
+                        : store.store(trigger.getPollingLogAction().getPollingLogFile());
+            } catch (IOException e) {
+                LOGGER.warn("Can't store polling log for {}", job.getFullName(), e);
+            }
+        }
+        return pollingLogRef;
+    }
+
     public synchronized int abortRunning(int number) throws IllegalAccessException {
         int aborted = 0;
 
-        Computer[] computers = getJenkinsInstance().getComputers();
-        for (Computer computer : computers) {
-            if (isNull(computer)) {
+        Map<Run<?, ?>, Executor> runs = GitHubActiveBuildIndex.get().getRunning(job, prKey(number));
+        for (Map.Entry<Run<?, ?>, Executor> entry : runs.entrySet()) {
+            final Run<?, ?> executableRun = entry.getKey();
+            final Executor executor = isNull(entry.getValue()) ? executableRun.getExecutor() : entry.getValue();
+
+            if (isNull(executor) || !executor.isBusy() || nonNull(executor.getCauseOfDeath()) ||
+                    !getInterruptCauses(executor).isEmpty() || getInterruptStatus(executor) == Result.ABORTED) {
                 continue;
             }
 
-            List<Executor> executors = computer.getExecutors();
-            executors.addAll(computer.getOneOffExecutors());
-
-            for (Executor executor : executors) {
-                if (isNull(executor) || !executor.isBusy() || nonNull(executor.getCauseOfDeath()) ||
-                        !getInterruptCauses(executor).isEmpty() || getInterruptStatus(executor) == Result.ABORTED) {
-                    continue;
-                }
-
-                Queue.Executable executable = executor.getCurrentExecutable();
-                final SubTask parent = executable.getParent();
-
-                if (!(executable instanceof Run)) {
-                    continue;
-                }
-                final Run executableRun = (Run) executable;
-
-                if (!(parent instanceof Job)) {
-                    continue;
-                }
-                final Job parentJob = (Job) parent;
+            if (executor.getCurrentExecutable() != executableRun) {
+                // executor already runs something else
+                continue;
+            }
 
-                if (!parentJob.getFullName().equals(job.getFullName())) {
-                    // name doesn't match
-                    continue;
-                }
+            if (executableRun.getResult() == Result.ABORTED) {
+                // was already aborted
+                continue;
+            }
 
-                if (executableRun.getResult() == Result.ABORTED) {
-                    // was already aborted
-                    continue;
-                }
+            if (executableRun instanceof MatrixRun) {
+                // the whole MatrixBuild will be aborted
+                continue;
+            }
 
-                if (executableRun instanceof MatrixRun) {
-                    // the whole MatrixBuild will be aborted
-                    continue;
-                }
-//                if (executable instanceof MatrixBuild) {
-//                    final MatrixBuild executable1 = (MatrixBuild) executable;
-//                    executable1.doStop()
-//                }
-
-                final GitHubPRCause causeAction = (GitHubPRCause) executableRun.getCause(GitHubPRCause.class);
-                if (nonNull(causeAction) && causeAction.getNumber() == number) {
-                    LOGGER.info("Aborting '{}', by interrupting '{}'", executableRun, executor);
-                    executor.interrupt(Result.ABORTED, new NewPRInterruptCause());
-                    aborted++;
-                }
+            final GitHubPRCause causeAction = executableRun.getCause(GitHubPRCause.class);
+            if (nonNull(causeAction) && causeAction.getNumber() == number) {
+                LOGGER.info("Aborting '{}', by interrupting '{}'", executableRun, executor);
+                executor.interrupt(Result.ABORTED, new NewPRInterruptCause());
+                aborted++;
             }
         }
 
@@ -206,34 +222,14 @@ public class JobRunnerForCause implements Predicate<GitHubPRCause> {
         SecurityContext old = impersonate(ACL.SYSTEM);
         try {
             final Queue queue = getJenkinsInstance().getQueue();
-            final Queue.Item[] items = queue.getItems();
-
-            //todo replace with stream?
-            for (Queue.Item item : items) {
-                if (!(item.task instanceof Job)) {
-                    LOGGER.debug("Item {} not instanceof job", item);
-                    continue;
-                }
-
-                final Job<?, ?> jobTask = (Job<?, ?>) item.task;
-                if (!jobTask.getFullName().equals(job.getFullName())) {
-                    LOGGER.debug("{} != {}", jobTask.getFullName(), job.getFullName());
-                    continue;
-                }
-
-                final CauseAction action = item.getAction(CauseAction.class);
-                if (isNull(action)) {
-                    LOGGER.debug("Cause action is null for {}", jobTask.getFullName());
-                    continue;
-                }
 
-                Optional<Cause> cause = from(action.getCauses())
+            for (Queue.Item item : GitHubActiveBuildIndex.get().getQueued(job, prKey(id))) {
+                Optional<Cause> cause = from(item.getCauses())
                         .filter(instanceOf(GitHubPRCause.class))
                         .firstMatch(new CauseHasPRNum(id));
 
-                if (cause.isPresent()) {
-                    LOGGER.debug("Cancelling {}", item);
-                    queue.cancel(item);
+                if (cause.isPresent() && cancelQueued(queue, item)) {
+                    LOGGER.debug("Cancelled {}", item);
                     canceled++;
                 }
             }
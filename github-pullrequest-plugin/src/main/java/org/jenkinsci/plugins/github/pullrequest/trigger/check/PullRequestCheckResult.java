@@ -0,0 +1,146 @@
+package org.jenkinsci.plugins.github.pullrequest.trigger.check;
+
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
+import org.kohsuke.github.GHPullRequest;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.kohsuke.github.GHIssueState.CLOSED;
+import static org.kohsuke.github.GHIssueState.OPEN;
+
+/**
+ * Outcome of one pull request evaluation made outside of the job lock.
+ * Keeps everything required to commit decision into {@link GitHubPRRepository} later.
+ */
+public class PullRequestCheckResult {
+    private final GHPullRequest remotePR;
+    /**
+     * Local state that was used for decision. null when PR wasn't known before.
+     */
+    @CheckForNull
+    private final GitHubPRPullRequest localPR;
+    /**
+     * New local state for open PR.
+     */
+    @CheckForNull
+    private final GitHubPRPullRequest updatedPR;
+    @CheckForNull
+    private final GitHubPRCause cause;
+    private final boolean failed;
+    private final byte[] log;
+    /**
+     * Evaluation time or -1 when not measured.
+     */
+    private final long durationMillis;
+
+    public PullRequestCheckResult(@NonNull GHPullRequest remotePR,
+                                  @CheckForNull GitHubPRPullRequest localPR,
+                                  @CheckForNull GitHubPRPullRequest updatedPR,
+                                  @CheckForNull GitHubPRCause cause,
+                                  boolean failed,
+                                  @NonNull byte[] log) {
+        this(remotePR, localPR, updatedPR, cause, failed, log, -1);
+    }
+
+    public PullRequestCheckResult(@NonNull GHPullRequest remotePR,
+                                  @CheckForNull GitHubPRPullRequest localPR,
+                                  @CheckForNull GitHubPRPullRequest updatedPR,
+                                  @CheckForNull GitHubPRCause cause,
+                                  boolean failed,
+                                  @NonNull byte[] log,
+                                  long durationMillis) {
+        this.remotePR = remotePR;
+        this.localPR = localPR;
+        this.updatedPR = updatedPR;
+        this.cause = cause;
+        this.failed = failed;
+        this.log = log;
+        this.durationMillis = durationMillis;
+    }
+
+    @NonNull
+    public GHPullRequest getRemotePR() {
+        return remotePR;
+    }
+
+    public int getNumber() {
+        return remotePR.getNumber();
+    }
+
+    @CheckForNull
+    public GitHubPRPullRequest getLocalPR() {
+        return localPR;
+    }
+
+    @CheckForNull
+    public GitHubPRPullRequest getUpdatedPR() {
+        return updatedPR;
+    }
+
+    @CheckForNull
+    public GitHubPRCause getCause() {
+        return cause;
+    }
+
+    /**
+     * Evaluation failed, local state for this PR must stay untouched so it will be checked again.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void writeLogTo(@NonNull PrintStream logger) {
+        logger.print(new String(log, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Other check may commit state for the same PR while this one was evaluating.
+     * When committed state is not the one we evaluated against and it is not older than our one,
+     * this result is stale and must be dropped.
+     */
+    public boolean isSupersededBy(@CheckForNull GitHubPRPullRequest current) {
+        if (Objects.equals(current, localPR)) {
+            return false;
+        }
+
+        if (isNull(current)) {
+            // removed by other check
+            return remotePR.getState() == CLOSED;
+        }
+
+        return isNull(updatedPR)
+                || !current.getPrUpdatedAt().before(updatedPR.getPrUpdatedAt());
+    }
+
+    /**
+     * Commits new PR state into local pulls.
+     *
+     * @return true when result was applied, false when it was skipped.
+     */
+    public boolean applyTo(@NonNull Map<Integer, GitHubPRPullRequest> pulls) {
+        if (failed || isSupersededBy(pulls.get(getNumber()))) {
+            return false;
+        }
+
+        if (remotePR.getState() == OPEN && nonNull(updatedPR)) {
+            pulls.put(getNumber(), updatedPR);
+        } else if (remotePR.getState() == CLOSED) {
+            pulls.remove(getNumber()); // don't store
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+package org.jenkinsci.plugins.github.pullrequest.trigger.check;
+
+import org.kohsuke.github.GHDirection;
+import org.kohsuke.github.GHException;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestQueryBuilder;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.PagedIterator;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Lists pull requests updated since high-water mark of previous check. Pulls are listed in all states
+ * by descending update time and listing stops at the first older one, so quiet repository costs one call.
+ * Pull requests updated exactly at mark are returned again, several may share the same second.
+ */
+public final class PullRequestDeltaQuery {
+    public static final int PAGE_SIZE = Integer.getInteger(PullRequestDeltaQuery.class.getName() + ".pageSize", 30);
+
+    private PullRequestDeltaQuery() {
+    }
+
+    /**
+     * @return pull requests in any state updated at or after mark, newest first.
+     */
+    @NonNull
+    public static List<GHPullRequest> updatedSince(@NonNull GHRepository remoteRepo, @NonNull Date mark)
+            throws IOException {
+        List<GHPullRequest> updated = new ArrayList<>();
+        try {
+            PagedIterator<GHPullRequest> pages = remoteRepo.queryPullRequests()
+                    .state(GHIssueState.ALL)
+                    .sort(GHPullRequestQueryBuilder.Sort.UPDATED)
+                    .direction(GHDirection.DESC)
+                    .list()
+                    .withPageSize(PAGE_SIZE)
+                    .iterator();
+            while (pages.hasNext()) {
+                for (GHPullRequest remotePR : pages.nextPage()) {
+                    if (remotePR.getUpdatedAt().before(mark)) {
+                        return updated;
+                    }
+                    updated.add(remotePR);
+                }
+            }
+        } catch (GHException e) {
+            throw new IOException("Can't list pull requests of " + remoteRepo.getFullName(), e);
+        }
+        return updated;
+    }
+
+    /**
+     * @return newest update time of pulls and mark.
+     */
+    @CheckForNull
+    public static Date newestUpdatedAt(@NonNull Iterable<GHPullRequest> remotePulls, @CheckForNull Date mark)
+            throws IOException {
+        Date newest = mark;
+        for (GHPullRequest remotePR : remotePulls) {
+            Date updatedAt = remotePR.getUpdatedAt();
+            if (isNull(newest) || (nonNull(updatedAt) && updatedAt.after(newest))) {
+                newest = updatedAt;
+            }
+        }
+        return newest;
+    }
+}
@@ -0,0 +1,94 @@
+package org.jenkinsci.plugins.github.pullrequest.trigger.check;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.kohsuke.github.GHPullRequest;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Digest of open pull requests list built only from data that list call already returned.
+ * Contains everything that {@link NotUpdatedPRFilter} compares, so equal fingerprints mean
+ * that no pull request could produce trigger cause and check may be skipped.
+ * Digest of required fields goes first, so it can be compared separately with {@link #sameFields}.
+ */
+public final class PullRequestListFingerprint {
+    private static final char SEPARATOR = ':';
+
+    private PullRequestListFingerprint() {
+    }
+
+    /**
+     * @param requiredFields fields that stored PR state should contain, changes with configured events.
+     */
+    @NonNull
+    public static String of(@NonNull Collection<GHPullRequest> remotePulls,
+                            @NonNull Set<GitHubPRField> requiredFields) throws IOException {
+        Builder builder = builder(requiredFields);
+        for (GHPullRequest pr : remotePulls) {
+            builder.add(pr);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Collects fingerprint while pull requests are streamed, keeps only short line per PR.
+     */
+    @NonNull
+    public static Builder builder(@NonNull Set<GitHubPRField> requiredFields) {
+        return new Builder(requiredFields);
+    }
+
+    /**
+     * @return true when stored fingerprint was built for the same required fields,
+     * i.e. stored PR states contain everything that current events need.
+     */
+    public static boolean sameFields(@CheckForNull String fingerprint, @NonNull Set<GitHubPRField> requiredFields) {
+        return nonNull(fingerprint) && fingerprint.startsWith(fieldsDigest(requiredFields) + SEPARATOR);
+    }
+
+    private static String fieldsDigest(Set<GitHubPRField> requiredFields) {
+        return DigestUtils.sha1Hex(new TreeSet<>(requiredFields).toString());
+    }
+
+    private static long time(Date date) {
+        return date == null ? 0 : date.getTime();
+    }
+
+    public static class Builder {
+        private final String fields;
+        private final SortedMap<Integer, String> lines = new TreeMap<>();
+
+        private Builder(Set<GitHubPRField> requiredFields) {
+            this.fields = fieldsDigest(requiredFields);
+        }
+
+        @NonNull
+        public Builder add(@NonNull GHPullRequest pr) throws IOException {
+            lines.put(pr.getNumber(), pr.getHead().getSha()
+                    + SEPARATOR + time(pr.getUpdatedAt())
+                    + SEPARATOR + time(pr.getIssueUpdatedAt()));
+            return this;
+        }
+
+        @NonNull
+        public String build() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<Integer, String> line : lines.entrySet()) {
+                sb.append('\n').append(line.getKey()).append(SEPARATOR).append(line.getValue());
+            }
+            return fields + SEPARATOR + DigestUtils.sha1Hex(sb.toString());
+        }
+    }
+}
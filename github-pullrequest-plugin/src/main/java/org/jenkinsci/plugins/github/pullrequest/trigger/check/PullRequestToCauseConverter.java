@@ -9,6 +9,7 @@ import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRRepository;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
 import org.jenkinsci.plugins.github.pullrequest.events.GitHubPREvent;
 import org.kohsuke.github.GHPullRequest;
 import org.slf4j.Logger;
@@ -41,6 +42,8 @@ public class PullRequestToCauseConverter implements Function<GHPullRequest, GitH
     @CheckForNull
     private final GitHubPRHandler prHandler;
 
+    private GitHubPRFieldLoader fieldLoader = new GitHubPRFieldLoader();
+
     private PullRequestToCauseConverter(GitHubPRRepository localRepo,
                                         TaskListener listener,
                                         GitHubPRTrigger trigger) {
@@ -74,6 +77,14 @@ public class PullRequestToCauseConverter implements Function<GHPullRequest, GitH
         return new PullRequestToCauseConverter(localRepo, listener, source, prHandler);
     }
 
+    /**
+     * Share already loaded remote PR data with decision context.
+     */
+    public PullRequestToCauseConverter withFieldLoader(@NonNull GitHubPRFieldLoader fieldLoader) {
+        this.fieldLoader = fieldLoader;
+        return this;
+    }
+
     /**
      * TODO migrate to java8 and cleanup.
      *
@@ -85,6 +96,10 @@ public class PullRequestToCauseConverter implements Function<GHPullRequest, GitH
 
         @CheckForNull
         GitHubPRPullRequest localPR = localRepo.getPulls().get(remotePR.getNumber());
+        if (nonNull(localPR)) {
+            // comments before the newest seen one are not interesting for events
+            fieldLoader.setCommentCursor(remotePR.getNumber(), localPR.getLastCommentCreatedAt());
+        }
         GitHubPRDecisionContext context = newGitHubPRDecisionContext()
                 .withListener(listener)
                 .withLocalPR(localPR)
@@ -93,6 +108,7 @@ public class PullRequestToCauseConverter implements Function<GHPullRequest, GitH
                 .withPrTrigger(trigger)
                 .withPrHandler(prHandler)
                 .withSCMSource(source)
+                .withFieldLoader(fieldLoader)
                 .build();
 
         final List<GitHubPRCause> causes = getEvents().stream()
@@ -14,6 +14,7 @@ import hudson.model.ParameterDefinition;
 import hudson.model.ParameterValue;
 import hudson.model.ParametersAction;
 import hudson.model.ParametersDefinitionProperty;
+import hudson.model.Queue;
 import hudson.model.Result;
 import hudson.model.Run;
 import hudson.model.TaskListener;
@@ -120,6 +121,17 @@ public class JobHelper {
         return (List<CauseOfInterruption>) FieldUtils.readField(executor, "causes", true);
     }
 
+    /**
+     * Cancels queue item, indexed item object may be already replaced in queue by newer object of the same item.
+     */
+    public static boolean cancelQueued(Queue queue, Queue.Item item) {
+        if (queue.cancel(item)) {
+            return true;
+        }
+        Queue.Item current = queue.getItem(item.getId());
+        return nonNull(current) && current != item && queue.cancel(current);
+    }
+
     /**
      * @see jenkins.model.ParameterizedJobMixIn#getDefaultParametersValues()
      */
@@ -1,15 +1,22 @@
 package org.jenkinsci.plugins.github.pullrequest.utils;
 
+import com.github.kostyasha.github.integration.generic.GitHubPollingLog;
+import com.github.kostyasha.github.integration.generic.GitHubPollingLogRecord;
 import hudson.util.StreamTaskListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.Charset;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
 import static org.slf4j.helpers.MessageFormatter.arrayFormat;
 
 /**
@@ -20,8 +27,79 @@ public class LoggingTaskListenerWrapper extends StreamTaskListener implements Cl
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LoggingTaskListenerWrapper.class);
 
+    /**
+     * Structured check log, null for plain text listener.
+     */
+    @CheckForNull
+    private final transient GitHubPollingLog.Check check;
+
     public LoggingTaskListenerWrapper(File out, Charset charset) throws IOException {
         super(out, charset);
+        this.check = null;
+    }
+
+    public LoggingTaskListenerWrapper(OutputStream out, Charset charset) {
+        super(out, charset);
+        this.check = null;
+    }
+
+    /**
+     * Writes new check into rotating polling log.
+     */
+    public LoggingTaskListenerWrapper(@NonNull GitHubPollingLog pollingLog) throws IOException {
+        this(pollingLog.openCheck());
+    }
+
+    private LoggingTaskListenerWrapper(@NonNull GitHubPollingLog.Check check) {
+        super(check, UTF_8);
+        this.check = check;
+    }
+
+    /**
+     * Following lines belong to PR or branch, null ends subject. No-op for plain text listener.
+     */
+    public void subject(@CheckForNull String subject) {
+        if (nonNull(check)) {
+            getLogger().flush();
+            check.setSubject(subject);
+        }
+    }
+
+    /**
+     * Records decision made for current subject.
+     */
+    public void decision(@NonNull String decision, long durationMillis) {
+        if (nonNull(check) && nonNull(check.getSubject())) {
+            record(GitHubPollingLogRecord.decision(check.getSubject(), decision, durationMillis));
+        }
+    }
+
+    /**
+     * Records GitHub API calls consumed by check.
+     */
+    public void apiCalls(int consumed) {
+        if (nonNull(check)) {
+            record(GitHubPollingLogRecord.apiCalls(consumed));
+        }
+    }
+
+    /**
+     * Writes messages of this check logged so far as plain text. Writes nothing for plain text listener.
+     */
+    public void writeCheckTextTo(@NonNull OutputStream out) throws IOException {
+        if (nonNull(check)) {
+            getLogger().flush();
+            check.writeTextTo(out);
+        }
+    }
+
+    private void record(GitHubPollingLogRecord record) {
+        getLogger().flush();
+        try {
+            check.write(record);
+        } catch (IOException e) {
+            LOGGER.warn("Can't write polling log record", e);
+        }
     }
 
     @Override
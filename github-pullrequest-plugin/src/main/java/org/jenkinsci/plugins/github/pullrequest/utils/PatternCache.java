@@ -0,0 +1,56 @@
+package org.jenkinsci.plugins.github.pullrequest.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+
+/**
+ * Compiled patterns of events and restrictions shared between checks,
+ * so user configured regexps are not compiled for every PR/branch on every poll.
+ */
+public final class PatternCache {
+    public static final int MAX_SIZE = 1024;
+
+    private static final Cache<String, Pattern> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .recordStats()
+            .build();
+
+    private PatternCache() {
+    }
+
+    /**
+     * Same as {@link Pattern#compile(String)}, but compiles every regexp once.
+     *
+     * @throws PatternSyntaxException if regexp is invalid, invalid regexps are not cached.
+     */
+    @NonNull
+    public static Pattern compile(@NonNull String regex) {
+        try {
+            return CACHE.get(regex, () -> Pattern.compile(regex));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return whether whole input matches regexp.
+     */
+    public static boolean matches(@NonNull String regex, @NonNull CharSequence input) {
+        return compile(regex).matcher(input).matches();
+    }
+
+    @NonNull
+    public static CacheStats stats() {
+        return CACHE.stats();
+    }
+}
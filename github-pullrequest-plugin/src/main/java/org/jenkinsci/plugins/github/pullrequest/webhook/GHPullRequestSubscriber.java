@@ -1,10 +1,12 @@
 package org.jenkinsci.plugins.github.pullrequest.webhook;
 
+import com.github.kostyasha.github.integration.generic.GitHubRateLimitScheduler;
+import com.github.kostyasha.github.integration.generic.GitHubResponseCache;
+import com.github.kostyasha.github.integration.generic.GitHubTriggerDescriptor;
+import com.github.kostyasha.github.integration.generic.GitHubTriggerJobIndex;
 import hudson.Extension;
 import hudson.model.Item;
 import hudson.model.Job;
-import hudson.security.ACL;
-import jenkins.model.Jenkins;
 import org.jenkinsci.plugins.github.extension.GHSubscriberEvent;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTrigger;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRTriggerMode;
@@ -13,10 +15,9 @@ import org.kohsuke.github.GitHub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
+import static java.util.Objects.nonNull;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.ghPRTriggerFromJob;
 import static org.jenkinsci.plugins.github.pullrequest.webhook.WebhookInfoPredicates.withPRTrigger;
 import static org.jenkinsci.plugins.github.pullrequest.webhook.WebhookInfoPredicates.withRepo;
@@ -44,6 +45,8 @@ public class GHPullRequestSubscriber extends AbstractGHPullRequestSubsriber {
             GitHub gh = GitHub.offline();
 
             PullRequestInfo info = extractPullRequestInfo(event.getGHEvent(), event.getPayload(), gh);
+            GitHubResponseCache.get().invalidate(info.getRepo(), info.getNum());
+            GitHubRateLimitScheduler.get().markActive(info.getRepo());
 
             for (Job job : getPRTriggerJobs(info.getRepo())) {
                 GitHubPRTrigger trigger = ghPRTriggerFromJob(job);
@@ -53,7 +56,12 @@ public class GHPullRequestSubscriber extends AbstractGHPullRequestSubsriber {
                     case HEAVY_HOOKS_CRON:
                     case HEAVY_HOOKS: {
                         LOGGER.debug("Queued check for {} (PR #{}) after heavy hook", job.getName(), info.getNum());
-                        trigger.queueRun(job, info.getNum());
+                        GitHubTriggerDescriptor descriptor = GitHubPRTrigger.DescriptorImpl.get();
+                        descriptor.getHookCoalescer().submit(
+                                job.getFullName() + "#" + info.getNum(),
+                                descriptor.getHookCoalesceWindow(),
+                                () -> queueRun(job, info.getNum())
+                        );
                         break;
                     }
                     case LIGHT_HOOKS: {
@@ -78,19 +86,21 @@ public class GHPullRequestSubscriber extends AbstractGHPullRequestSubsriber {
     }
 
 
-    static Set<Job> getPRTriggerJobs(final String repo) {
-        final Set<Job> ret = new HashSet<>();
-
-        ACL.impersonate(ACL.SYSTEM, () -> {
-            List<Job> jobs = Jenkins.getActiveInstance().getAllItems(Job.class);
-            ret.addAll(FluentIterableWrapper.from(jobs)
-                    .filter(isBuildable())
-                    .filter(withPRTrigger())
-                    .filter(withRepo(repo))
-                    .toSet()
-            );
-        });
+    /**
+     * Trigger may be reconfigured while check is coalesced, so it is resolved from job right before queueing.
+     */
+    private static void queueRun(Job job, int prNumber) {
+        GitHubPRTrigger trigger = ghPRTriggerFromJob(job);
+        if (nonNull(trigger)) {
+            trigger.queueRun(job, prNumber);
+        }
+    }
 
-        return ret;
+    static Set<Job> getPRTriggerJobs(final String repo) {
+        return FluentIterableWrapper.from(GitHubTriggerJobIndex.get().getJobs(GitHubPRTrigger.class, repo))
+                .filter(isBuildable())
+                .filter(withPRTrigger())
+                .filter(withRepo(repo))
+                .toSet();
     }
 }
@@ -23,6 +23,20 @@ l.layout(title: my.displayName) {
             }
         }
 
+        def checkDates = my.checkDates
+        if (checkDates.size() > 1) {
+            h4("Previous checks")
+            ul() {
+                checkDates.eachWithIndex { date, i ->
+                    if (i > 0) {
+                        li() {
+                            a(href: "pollingLog?check=${i}", date.toString())
+                        }
+                    }
+                }
+            }
+        }
+
         if (my.logExists) {
             pre() {
                 j.whitespace() {
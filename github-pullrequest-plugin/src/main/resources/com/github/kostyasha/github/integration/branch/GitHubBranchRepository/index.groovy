@@ -59,10 +59,9 @@ l.layout(title: "GitHub Branch Status") {
             }
         }
 
-        def buildMap = my.getAllBranchBuilds()
         table() {
             for (branch in my.branches.values()) {
-                def branchBuilds = buildMap.get(branch.name);
+                def branchBuilds = my.getBranchBuilds(branch.name);
                 tr() {
                     td() {
                         br()
@@ -0,0 +1,23 @@
+package com.github.kostyasha.github.integration.branch.GitHubBranchTrigger
+
+import lib.FormTagLib
+
+def f = namespace(FormTagLib);
+
+f.section(title: _(descriptor.displayName)) {
+    f.entry(title: "Append-only local repo persistence", field: "journalPersistence") {
+        f.checkbox(default: false)
+    }
+
+    f.entry(title: "Parallel trigger checks", field: "triggerParallelism",
+            description: "Queued: ${descriptor.executor.queueDepth}, executed: ${descriptor.executor.executed}, " +
+                    "merged: ${descriptor.executor.collapsed}, average wait: ${descriptor.executor.averageWaitMillis} ms, " +
+                    "max wait: ${descriptor.executor.maxWaitMillis} ms") {
+        f.number(default: 5, min: 1)
+    }
+
+    f.entry(title: "Hooks coalesce window (seconds)", field: "hookCoalesceWindow",
+            description: "Received hooks: ${descriptor.hookCoalescer.received}, merged: ${descriptor.hookCoalescer.absorbed}") {
+        f.number(default: 0, min: 0)
+    }
+}
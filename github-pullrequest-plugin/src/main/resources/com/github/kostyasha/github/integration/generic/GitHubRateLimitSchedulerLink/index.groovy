@@ -0,0 +1,55 @@
+package com.github.kostyasha.github.integration.generic.GitHubRateLimitSchedulerLink
+
+import lib.LayoutTagLib
+
+def l = namespace(LayoutTagLib);
+
+l.layout(title: my.displayName, permission: app.ADMINISTER) {
+    l.main_panel() {
+        h1(my.displayName)
+
+        h2("Quotas")
+        table(class: "jenkins-table") {
+            thead() {
+                tr() {
+                    th("Connection")
+                    th("Remaining")
+                    th("Limit")
+                    th("Reset")
+                }
+            }
+            tbody() {
+                for (quota in my.scheduler.quotas) {
+                    tr() {
+                        td(quota.key)
+                        td(quota.remaining)
+                        td(quota.limit)
+                        td(quota.reset)
+                    }
+                }
+            }
+        }
+
+        h2("Recent periodic checks")
+        table(class: "jenkins-table") {
+            thead() {
+                tr() {
+                    th("Time")
+                    th("Job")
+                    th("Decision")
+                    th("Reason")
+                }
+            }
+            tbody() {
+                for (decision in my.scheduler.decisions) {
+                    tr() {
+                        td(decision.time)
+                        td(decision.jobName)
+                        td(decision.admitted ? "run" : "deferred")
+                        td(decision.reason)
+                    }
+                }
+            }
+        }
+    }
+}
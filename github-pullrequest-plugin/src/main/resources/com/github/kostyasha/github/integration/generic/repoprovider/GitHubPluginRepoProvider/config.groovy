@@ -18,6 +18,10 @@ f.entry(title: "Manage hooks", field: "manageHooks") {
     f.checkbox()
 }
 
+f.entry(title: "Fetch pull request fields with GraphQL", field: "graphqlFetch") {
+    f.checkbox(default: false)
+}
+
 f.entry(title: "Repository requested permission", field: "repoPermission") {
     f.enum() {
         text(my.name())
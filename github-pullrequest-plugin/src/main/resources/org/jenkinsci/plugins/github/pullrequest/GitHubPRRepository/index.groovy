@@ -48,10 +48,9 @@ l.layout(title: "GitHub Pull Request Status") {
             }
         }
 
-        def buildMap = my.getAllPrBuilds()
         table() {
             for (pr in my.pulls.values()) {
-                def builds = buildMap.get(pr.number);
+                def builds = my.getPrBuilds(pr.number);
                 tr() {
                     td() {
                         br()
@@ -12,4 +12,49 @@ f.section(title: _(descriptor.displayName)) {
     f.entry(title: "Actualise local repo on factory creation", field: "actualiseOnFactory") {
         f.checkbox(default: false)
     }
+
+    f.entry(title: "Append-only local repo persistence", field: "journalPersistence") {
+        f.checkbox(default: false)
+    }
+
+    f.entry(title: "Sharded local pull requests persistence", field: "shardedPersistence") {
+        f.checkbox(default: false)
+    }
+
+    f.entry(title: "Parallel pull request checks", field: "checkParallelism") {
+        f.number(default: 1, min: 1)
+    }
+
+    f.entry(title: "Pull requests page size for streaming checks", field: "pullsPageSize") {
+        f.number(default: 0, min: 0, max: 100)
+    }
+
+    f.entry(title: "Delta polling of updated pull requests", field: "deltaPolling") {
+        f.checkbox(default: false)
+    }
+
+    f.entry(title: "Full check interval for delta polling (hours)", field: "fullCheckInterval") {
+        f.number(default: 24, min: 1)
+    }
+
+    f.entry(title: "Shared GitHub response cache TTL (seconds)", field: "responseCacheTtl",
+            description: "Cached: ${descriptor.responseCache.size}, ${descriptor.responseCache.stats}") {
+        f.number(default: 0, min: 0)
+    }
+
+    f.entry(title: "Shared GitHub response cache size", field: "responseCacheSize") {
+        f.number(default: 1000, min: 1)
+    }
+
+    f.entry(title: "Parallel trigger checks", field: "triggerParallelism",
+            description: "Queued: ${descriptor.executor.queueDepth}, executed: ${descriptor.executor.executed}, " +
+                    "merged: ${descriptor.executor.collapsed}, average wait: ${descriptor.executor.averageWaitMillis} ms, " +
+                    "max wait: ${descriptor.executor.maxWaitMillis} ms") {
+        f.number(default: 5, min: 1)
+    }
+
+    f.entry(title: "Hooks coalesce window (seconds)", field: "hookCoalesceWindow",
+            description: "Received hooks: ${descriptor.hookCoalescer.received}, merged: ${descriptor.hookCoalescer.absorbed}") {
+        f.number(default: 0, min: 0)
+    }
 }
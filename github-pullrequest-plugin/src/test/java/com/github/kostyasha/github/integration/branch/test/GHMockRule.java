@@ -182,7 +182,8 @@ public class GHMockRule implements TestRule {
 
     public GHMockRule stubComments1() {
         return addSetup(() -> service().stubFor(
-                get(urlEqualTo(
+                // comments may be requested with "since" cursor
+                get(urlPathEqualTo(
                         format("/repos/%s/%s/issues/1/comments", REPO.getUserName(), REPO.getRepositoryName()))
                 ).willReturn(aResponse()
                         .withStatus(200)
@@ -0,0 +1,69 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.model.Cause;
+import hudson.model.Executor;
+import hudson.model.Job;
+import hudson.model.Run;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.branchKey;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.prKey;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubActiveBuildIndexTest {
+    @Mock(lenient = true)
+    private Job<?, ?> job;
+
+    @Mock(lenient = true)
+    private Job<?, ?> otherJob;
+
+    @Mock(lenient = true)
+    private Run<?, ?> run;
+
+    @Mock
+    private Executor executor;
+
+    @Mock(lenient = true)
+    private GitHubPRCause cause;
+
+    private final GitHubActiveBuildIndex index = new GitHubActiveBuildIndex();
+
+    @Before
+    public void setUp() {
+        when(job.getFullName()).thenReturn("folder/job");
+        when(otherJob.getFullName()).thenReturn("folder/other");
+        when(cause.getNumber()).thenReturn(10);
+        doReturn(job).when(run).getParent();
+        when(run.getCauses()).thenReturn(Collections.<Cause>singletonList(cause));
+    }
+
+    @Test
+    public void shouldFindRunningBuildByPRNumber() {
+        index.onStarted(run, executor);
+
+        assertThat(index.getRunning(job, prKey(10)), hasEntry(run, executor));
+        assertThat(index.getRunning(job, prKey(11)), anEmptyMap());
+        assertThat(index.getRunning(job, branchKey("10")), anEmptyMap());
+        assertThat(index.getRunning(otherJob, prKey(10)), anEmptyMap());
+    }
+
+    @Test
+    public void shouldForgetCompletedBuild() {
+        index.onStarted(run, executor);
+        index.onCompleted(run);
+
+        assertThat(index.getRunning(job, prKey(10)), anEmptyMap());
+    }
+}
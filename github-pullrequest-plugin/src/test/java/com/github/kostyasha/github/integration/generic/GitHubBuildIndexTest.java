@@ -0,0 +1,110 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.model.Cause;
+import hudson.model.Job;
+import hudson.model.Result;
+import hudson.model.Run;
+import hudson.util.RunList;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.PR_PREFIX;
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.prKey;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubBuildIndexTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock(lenient = true)
+    private Job<?, ?> job;
+
+    @Mock(lenient = true)
+    private Run<?, ?> first;
+
+    @Mock(lenient = true)
+    private Run<?, ?> second;
+
+    @Mock(lenient = true)
+    private GitHubPRCause cause;
+
+    @Before
+    public void setUp() throws IOException {
+        when(job.getRootDir()).thenReturn(folder.getRoot());
+        when(job.getFullName()).thenReturn("job");
+        doReturn(RunList.fromRuns(Collections.emptyList())).when(job).getBuilds();
+        when(cause.getNumber()).thenReturn(10);
+        mockRun(first, 1);
+        mockRun(second, 2);
+    }
+
+    @Test
+    public void shouldTrackNewestBuildAndResult() {
+        GitHubBuildIndex index = new GitHubBuildIndex(job);
+
+        index.onStarted(first);
+        when(first.getResult()).thenReturn(Result.FAILURE);
+        index.onCompleted(first);
+        assertThat(index.getLastResult(prKey(10)), is(Result.FAILURE));
+
+        index.onStarted(second);
+        assertThat(index.getNumbers(prKey(10)), contains(2, 1));
+        assertThat(index.getLastResult(prKey(10)), nullValue());
+
+        index.onDeleted(second);
+        assertThat(index.getNumbers(prKey(10)), contains(1));
+        assertThat(index.getLastResult(prKey(10)), is(Result.FAILURE));
+    }
+
+    @Test
+    public void shouldReadSavedIndexWithoutLoadingBuilds() {
+        GitHubBuildIndex index = new GitHubBuildIndex(job);
+        index.onStarted(first);
+        index.onStarted(second);
+        index.flush();
+
+        GitHubBuildIndex loaded = new GitHubBuildIndex(job);
+
+        assertThat(loaded.getNumbers(prKey(10)), contains(2, 1));
+        assertThat(loaded.getKeys(PR_PREFIX), contains(prKey(10)));
+        assertThat(loaded.getNumbers(prKey(11)), empty());
+        verify(job, never()).getBuildByNumber(1);
+    }
+
+    @Test
+    public void shouldRebuildFromHistoryWhenAbsent() {
+        when(second.getResult()).thenReturn(Result.SUCCESS);
+        doReturn(RunList.fromRuns(Arrays.asList(second, first))).when(job).getBuilds();
+
+        GitHubBuildIndex index = new GitHubBuildIndex(job);
+
+        assertThat(index.getNumbers(prKey(10)), contains(2, 1));
+        assertThat(index.getLastResult(prKey(10)), is(Result.SUCCESS));
+    }
+
+    private void mockRun(Run<?, ?> run, int number) {
+        when(run.getNumber()).thenReturn(number);
+        when(run.getCauses()).thenReturn(Collections.<Cause>singletonList(cause));
+        doReturn(job).when(run).getParent();
+        doReturn(run).when(job).getBuildByNumber(number);
+    }
+}
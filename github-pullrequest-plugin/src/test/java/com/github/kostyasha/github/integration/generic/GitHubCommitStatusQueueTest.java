@@ -0,0 +1,99 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHRepository;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubCommitStatusQueueTest {
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    @Mock(lenient = true)
+    private GHRepository repo;
+
+    private final GitHubCommitStatusQueue queue = new GitHubCommitStatusQueue(2, 10, 3, 1L);
+
+    @Before
+    public void setUp() {
+        when(repo.getFullName()).thenReturn("owner/repo");
+    }
+
+    @Test
+    public void shouldSendOnlyLatestQueuedState() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repo.createCommitStatus(eq("blocker"), any(), any(), any(), anyString())).thenAnswer(invocation -> {
+            blocked.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        });
+
+        CompletableFuture<Void> blocker = queue.publish(repo, "blocker", GHCommitState.PENDING, null, null, "job");
+        assertThat(blocked.await(10, TimeUnit.SECONDS), is(true));
+
+        CompletableFuture<Void> pending = queue.publish(repo, SHA, GHCommitState.PENDING, null, "started", "job");
+        CompletableFuture<Void> success = queue.publish(repo, SHA, GHCommitState.SUCCESS, null, "passed", "job");
+
+        assertThat(queue.getPending(), is(1));
+        assertThat(queue.getSuperseded(), is(1L));
+        pending.get(10, TimeUnit.SECONDS);
+
+        release.countDown();
+        blocker.get(10, TimeUnit.SECONDS);
+        success.get(10, TimeUnit.SECONDS);
+
+        verify(repo, never()).createCommitStatus(SHA, GHCommitState.PENDING, null, "started", "job");
+        verify(repo, times(1)).createCommitStatus(SHA, GHCommitState.SUCCESS, null, "passed", "job");
+        assertThat(queue.getSent(), is(2L));
+    }
+
+    @Test
+    public void shouldRetryFailedStatus() throws Exception {
+        when(repo.createCommitStatus(SHA, GHCommitState.SUCCESS, null, null, "job"))
+                .thenThrow(new IOException("unavailable"))
+                .thenReturn(null);
+
+        queue.publishAndWait(repo, SHA, GHCommitState.SUCCESS, null, null, "job");
+
+        verify(repo, times(2)).createCommitStatus(SHA, GHCommitState.SUCCESS, null, null, "job");
+        assertThat(queue.getFailed(), is(0L));
+    }
+
+    @Test
+    public void shouldFailAfterAllAttempts() throws Exception {
+        when(repo.createCommitStatus(SHA, GHCommitState.FAILURE, null, null, "job"))
+                .thenThrow(new IOException("unavailable"));
+
+        try {
+            queue.publish(repo, SHA, GHCommitState.FAILURE, null, null, "job").get(10, TimeUnit.SECONDS);
+            fail("Status should not be sent");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+
+        verify(repo, times(3)).createCommitStatus(SHA, GHCommitState.FAILURE, null, null, "job");
+        assertThat(queue.getFailed(), is(1L));
+    }
+}
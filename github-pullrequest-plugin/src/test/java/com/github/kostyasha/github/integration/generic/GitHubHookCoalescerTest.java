@@ -0,0 +1,45 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.awaitility.Awaitility;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class GitHubHookCoalescerTest {
+
+    @Test
+    public void shouldRunImmediatelyWithoutWindow() {
+        GitHubHookCoalescer coalescer = new GitHubHookCoalescer();
+        AtomicInteger checks = new AtomicInteger();
+
+        coalescer.submit("job#1", 0, checks::incrementAndGet);
+        coalescer.submit("job#1", 0, checks::incrementAndGet);
+
+        assertThat(checks.get(), is(2));
+        assertThat(coalescer.getAbsorbed(), is(0L));
+    }
+
+    @Test
+    public void shouldMergeHooksWithinWindow() {
+        GitHubHookCoalescer coalescer = new GitHubHookCoalescer();
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+
+        coalescer.submit("job#1", 1, first::incrementAndGet);
+        coalescer.submit("job#1", 1, first::incrementAndGet);
+        coalescer.submit("job#1", 1, first::incrementAndGet);
+        coalescer.submit("job#2", 1, second::incrementAndGet);
+
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> first.get() > 0 && second.get() > 0);
+        coalescer.submit("job#1", 0, first::incrementAndGet);
+
+        assertThat(first.get(), is(2));
+        assertThat(second.get(), is(1));
+        assertThat(coalescer.getReceived(), is(5L));
+        assertThat(coalescer.getAbsorbed(), is(2L));
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.kostyasha.github.integration.generic;
+
+import hudson.model.Job;
+import hudson.model.Run;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubPollingLogStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock(lenient = true)
+    private Job<?, ?> job;
+
+    @Mock(lenient = true)
+    private Run<?, ?> firstBuild;
+
+    private File log;
+    private GitHubPollingLogStore store;
+
+    @Before
+    public void setUp() throws IOException {
+        when(job.getRootDir()).thenReturn(folder.newFolder("job"));
+        log = folder.newFile("polling.log");
+        store = new GitHubPollingLogStore(job);
+    }
+
+    @Test
+    public void shouldStoreSameContentOnce() throws IOException {
+        writeStringToFile(log, "check 1", UTF_8);
+        String ref = store.store(log);
+        String same = store.store(log);
+
+        writeStringToFile(log, "check 2", UTF_8);
+        String other = store.store(log);
+
+        assertThat(same, is(ref));
+        assertThat(other, not(ref));
+        assertThat(readFileToString(store.getFile(ref), UTF_8), is("check 1"));
+        assertThat(new File(job.getRootDir(), GitHubPollingLogStore.DIR).listFiles(), arrayWithSize(2));
+    }
+
+    @Test
+    public void shouldNotResolveForeignFiles() {
+        assertThat(store.getFile("../config.xml"), nullValue());
+        assertThat(store.getFile(null), nullValue());
+    }
+
+    @Test
+    public void shouldDeleteLogsOlderThanKeptBuilds() throws IOException {
+        writeStringToFile(log, "old check", UTF_8);
+        String ref = store.store(log);
+        store.getFile(ref).setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10));
+
+        when(firstBuild.getTimeInMillis()).thenReturn(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+        doReturn(firstBuild).when(job).getFirstBuild();
+        store.deleteUnused();
+
+        assertThat(store.getFile(ref), nullValue());
+    }
+}
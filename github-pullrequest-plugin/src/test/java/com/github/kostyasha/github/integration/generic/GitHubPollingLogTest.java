@@ -0,0 +1,95 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.kostyasha.github.integration.generic.GitHubActiveBuildIndex.prKey;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class GitHubPollingLogTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GitHubPollingLog pollingLog;
+
+    @Before
+    public void setUp() throws IOException {
+        pollingLog = new GitHubPollingLog(folder.newFolder("checks"));
+    }
+
+    @Test
+    public void shouldKeepRecordFieldsOnRoundTrip() {
+        GitHubPollingLogRecord record = GitHubPollingLogRecord.decision(prKey(1), GitHubPollingLogRecord.TRIGGER, 15);
+        GitHubPollingLogRecord multiline = GitHubPollingLogRecord.line(null, "a\tb\nc\\n");
+
+        GitHubPollingLogRecord read = GitHubPollingLogRecord.fromLine(record.toLine());
+        assertThat(read.getSubject(), is(prKey(1)));
+        assertThat(read.getDecision(), is(GitHubPollingLogRecord.TRIGGER));
+        assertThat(read.getDurationMillis(), is(15L));
+        assertThat(read.getApiCalls(), is(-1));
+
+        assertThat(GitHubPollingLogRecord.fromLine(multiline.toLine()).getMessage(), is("a\tb\nc\\n"));
+        assertThat(GitHubPollingLogRecord.fromLine(multiline.toLine()).getSubject(), nullValue());
+    }
+
+    @Test
+    public void shouldReadCheckByPages() throws IOException {
+        try (GitHubPollingLog.Check check = pollingLog.openCheck()) {
+            check.write("started\n".getBytes(UTF_8));
+            check.setSubject(prKey(2));
+            check.write("PR line\n".getBytes(UTF_8));
+            check.write(GitHubPollingLogRecord.decision(prKey(2), GitHubPollingLogRecord.SKIP, 3));
+            check.setSubject(null);
+            check.write(GitHubPollingLogRecord.apiCalls(4));
+        }
+
+        File check = pollingLog.getCheck(0);
+        assertThat(check.getName(), endsWith(".tsv.gz"));
+
+        List<GitHubPollingLogRecord> page = new ArrayList<>();
+        long next = GitHubPollingLog.readRecords(check, 1, 2, page::add);
+        assertThat(next, is(3L));
+        assertThat(page, hasSize(2));
+        assertThat(page.get(0).getSubject(), is(prKey(2)));
+        assertThat(page.get(1).getDecision(), is(GitHubPollingLogRecord.SKIP));
+
+        page.clear();
+        assertThat(GitHubPollingLog.readRecords(check, next, 2, page::add), is(-1L));
+        assertThat(page.get(0).getApiCalls(), is(4));
+
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        GitHubPollingLog.writeText(check, text);
+        assertThat(text.toString("UTF-8"), is("started\nPR line\n" + prKey(2) + " decision: skip (3ms)\n"
+                + "GitHub API calls consumed: 4\n"));
+    }
+
+    @Test
+    public void shouldKeepLimitedNumberOfChecks() throws IOException {
+        for (int i = 0; i < GitHubPollingLog.MAX_CHECKS + 3; i++) {
+            try (GitHubPollingLog.Check check = pollingLog.openCheck()) {
+                check.write(("check " + i + "\n").getBytes(UTF_8));
+            }
+        }
+
+        assertThat(pollingLog.getChecks(), hasSize(GitHubPollingLog.MAX_CHECKS));
+        assertThat(GitHubPollingLog.MAX_CHECK_BYTES, lessThanOrEqualTo(GitHubPollingLog.MAX_BYTES));
+
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        GitHubPollingLog.writeText(pollingLog.getCheck(0), text);
+        assertThat(text.toString("UTF-8"), is("check " + (GitHubPollingLog.MAX_CHECKS + 2) + "\n"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHub;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubRateLimitSchedulerTest {
+    @Mock(lenient = true)
+    private GHRateLimit rateLimit;
+
+    @Mock
+    private GitHub github;
+
+    @Mock
+    private GitHub otherGithub;
+
+    private final GitHubRateLimitScheduler scheduler = new GitHubRateLimitScheduler();
+    private final long now = System.currentTimeMillis();
+
+    @Test
+    public void shouldAdmitWithoutQuota() {
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(true));
+        assertThat(scheduler.getDecisions(), hasSize(1));
+    }
+
+    @Test
+    public void shouldAdmitOnBudget() {
+        record(5000, 4000, 30);
+
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(true));
+    }
+
+    @Test
+    public void shouldDeferWhenExhausted() {
+        record(5000, 100, 30);
+
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(false));
+        scheduler.markActive("org/repo");
+        assertThat("activity doesn't help without quota", scheduler.admit(github, "job", "org/repo", now), is(false));
+    }
+
+    @Test
+    public void shouldSpreadInactiveJobsWhenOverBudget() {
+        // half hour left, 2500 planned, 750 available -> every 4th poll
+        record(5000, 1000, 30);
+
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(false));
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(false));
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(false));
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(true));
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(false));
+    }
+
+    @Test
+    public void shouldPrioritizeActiveRepo() {
+        record(5000, 1000, 30);
+        scheduler.markActive("Org/Repo");
+
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(true));
+        assertThat(scheduler.admit(github, "other", "org/other", now), is(false));
+    }
+
+    @Test
+    public void shouldKeepQuotaPerConnection() {
+        record(5000, 100, 30);
+
+        assertThat(scheduler.admit(github, "job", "org/repo", now), is(false));
+        assertThat(scheduler.admit(otherGithub, "job", "org/repo", now), is(true));
+    }
+
+    @Test
+    public void shouldAdmitAfterReset() {
+        record(5000, 0, 30);
+
+        assertThat(scheduler.admit(github, "job", "org/repo", now + TimeUnit.MINUTES.toMillis(31)), is(true));
+    }
+
+    private void record(int limit, int remaining, int minutesToReset) {
+        when(rateLimit.getLimit()).thenReturn(limit);
+        when(rateLimit.getRemaining()).thenReturn(remaining);
+        when(rateLimit.getResetDate()).thenReturn(new Date(now + TimeUnit.MINUTES.toMillis(minutesToReset)));
+        scheduler.record(github, "job", rateLimit, 1);
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.kostyasha.github.integration.generic;
+
+import com.github.kostyasha.github.integration.branch.GitHubBranch;
+import com.github.kostyasha.github.integration.branch.GitHubBranchRepository;
+import hudson.XmlFile;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHRepository;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubRepositoryJournalTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock(lenient = true)
+    private GHRepository ghRepository;
+
+    private XmlFile configFile;
+    private File journalFile;
+
+    @Before
+    public void setUp() throws Exception {
+        when(ghRepository.getHtmlUrl()).thenReturn(new URL("https://github.com/owner/repo"));
+        configFile = new XmlFile(new File(folder.getRoot(), GitHubBranchRepository.FILE));
+        journalFile = new File(configFile.getFile().getPath() + GitHubRepositoryJournal.SUFFIX);
+    }
+
+    @Test
+    public void shouldAppendChangesAndReplayThem() throws Exception {
+        GitHubBranchRepository repo = newRepo();
+        repo.loadJournal(true);
+        assertThat("snapshot created for new repo", configFile.exists(), is(true));
+        assertThat(journalFile.exists(), is(false));
+
+        repo.getBranches().put("master", new GitHubBranch("master", "sha1", ghRepository));
+        repo.getBranches().put("feature", new GitHubBranch("feature", "sha2", ghRepository));
+        repo.save();
+        repo.getBranches().get("master").setCommitSha("sha3"); // in place change
+        repo.getBranches().remove("feature");
+        repo.withGitUrl("git://github.com/owner/repo.git");
+        repo.save();
+
+        assertThat(journalFile.exists(), is(true));
+        assertThat("snapshot is not rewritten", loadXml().getBranches().isEmpty(), is(true));
+
+        GitHubBranchRepository loaded = load(true);
+        assertThat(loaded.getBranches().get("master").getCommitSha(), is("sha3"));
+        assertThat(loaded.getBranches(), not(hasKey("feature")));
+        assertThat(loaded.getGitUrl(), is("git://github.com/owner/repo.git"));
+    }
+
+    @Test
+    public void shouldNotAppendWithoutChanges() throws Exception {
+        GitHubBranchRepository repo = newRepo();
+        repo.getBranches().put("master", new GitHubBranch("master", "sha1", ghRepository));
+        repo.loadJournal(true);
+
+        repo.save();
+
+        assertThat(journalFile.exists(), is(false));
+    }
+
+    @Test
+    public void shouldAppendHeaderOnlyWhenChanged() throws Exception {
+        GitHubBranchRepository repo = newRepo();
+        repo.loadJournal(true);
+        repo.getBranches().put("master", new GitHubBranch("master", "sha1", ghRepository));
+        repo.save();
+        repo.getBranches().get("master").setCommitSha("sha2");
+        repo.save();
+
+        assertThat("entries only change", journalText(), not(containsString("<fullName>")));
+
+        repo.withGitUrl("git://github.com/owner/repo.git");
+        repo.save();
+
+        assertThat(journalText(), containsString("<fullName>owner/repo</fullName>"));
+    }
+
+    @Test
+    public void shouldIgnoreTornRecord() throws Exception {
+        GitHubBranchRepository repo = newRepo();
+        repo.loadJournal(true);
+        repo.getBranches().put("master", new GitHubBranch("master", "sha1", ghRepository));
+        repo.save();
+        repo.getBranches().put("feature", new GitHubBranch("feature", "sha2", ghRepository));
+        repo.save();
+
+        try (RandomAccessFile raf = new RandomAccessFile(journalFile, "rw")) {
+            raf.setLength(raf.length() - 10);
+        }
+
+        GitHubBranchRepository loaded = load(true);
+        assertThat(loaded.getBranches().get("master").getCommitSha(), is("sha1"));
+        assertThat(loaded.getBranches(), not(hasKey("feature")));
+    }
+
+    @Test
+    public void shouldFoldJournalWhenDisabled() throws Exception {
+        GitHubBranchRepository repo = newRepo();
+        repo.loadJournal(true);
+        repo.getBranches().put("master", new GitHubBranch("master", "sha1", ghRepository));
+        repo.save();
+
+        GitHubBranchRepository loaded = load(false);
+
+        assertThat(journalFile.exists(), is(false));
+        assertThat(loaded.getBranches().get("master").getCommitSha(), is("sha1"));
+        assertThat(loadXml().getBranches().get("master").getCommitSha(), is("sha1"));
+    }
+
+    private GitHubBranchRepository newRepo() throws Exception {
+        GitHubBranchRepository repo = new GitHubBranchRepository("owner/repo", new URL("https://github.com/owner/repo"));
+        repo.setConfigFile(configFile);
+        return repo;
+    }
+
+    private String journalText() throws Exception {
+        return new String(Files.readAllBytes(journalFile.toPath()), UTF_8);
+    }
+
+    private GitHubBranchRepository loadXml() throws Exception {
+        return (GitHubBranchRepository) configFile.read();
+    }
+
+    private GitHubBranchRepository load(boolean journal) throws Exception {
+        GitHubBranchRepository repo = loadXml();
+        repo.setConfigFile(configFile);
+        repo.loadJournal(journal);
+        return repo;
+    }
+}
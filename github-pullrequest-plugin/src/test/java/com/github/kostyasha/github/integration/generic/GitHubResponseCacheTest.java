@@ -0,0 +1,114 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubResponseCacheTest {
+
+    @Mock(lenient = true)
+    private GHRepository repo;
+
+    @Mock
+    private GitHub github;
+
+    @Mock
+    private GitHub otherGithub;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        when(repo.getFullName()).thenReturn("Owner/Repo");
+    }
+
+    @Test
+    public void shouldPassThroughWhenDisabled() throws Exception {
+        GitHubResponseCache cache = new GitHubResponseCache();
+
+        cache.get(github, repo, 1, "comments", calls::incrementAndGet);
+        cache.get(github, repo, 1, "comments", calls::incrementAndGet);
+
+        assertThat(calls.get(), is(2));
+        assertThat(cache.isEnabled(), is(false));
+    }
+
+    @Test
+    public void shouldShareResponse() throws Exception {
+        GitHubResponseCache cache = new GitHubResponseCache();
+        cache.configure(60, 10);
+
+        assertThat(cache.get(github, repo, 1, "comments", calls::incrementAndGet), is(1));
+        assertThat(cache.get(github, repo, 1, "comments", calls::incrementAndGet), is(1));
+        assertThat(cache.get(github, repo, 2, "comments", calls::incrementAndGet), is(2));
+
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(2L));
+    }
+
+    @Test
+    public void shouldNotShareResponseBetweenConnections() throws Exception {
+        GitHubResponseCache cache = new GitHubResponseCache();
+        cache.configure(60, 10);
+
+        assertThat(cache.get(github, repo, 1, "comments", calls::incrementAndGet), is(1));
+        assertThat(cache.get(otherGithub, repo, 1, "comments", calls::incrementAndGet), is(2));
+        assertThat(cache.get(null, repo, 1, "comments", calls::incrementAndGet), is(3));
+    }
+
+    @Test
+    public void shouldCacheNull() throws Exception {
+        GitHubResponseCache cache = new GitHubResponseCache();
+        cache.configure(60, 10);
+
+        assertThat(cache.get(github, repo, 1, "mergeable", () -> {
+            calls.incrementAndGet();
+            return null;
+        }), nullValue());
+        cache.get(github, repo, 1, "mergeable", () -> calls.incrementAndGet());
+
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldInvalidatePullRequestAndRepoEntries() throws Exception {
+        GitHubResponseCache cache = new GitHubResponseCache();
+        cache.configure(60, 10);
+        cache.get(github, repo, GitHubResponseCache.REPO, "pulls", calls::incrementAndGet);
+        cache.get(github, repo, 1, "comments", calls::incrementAndGet);
+        cache.get(github, repo, 2, "comments", calls::incrementAndGet);
+
+        cache.invalidate("owner/repo", 1);
+
+        assertThat(cache.getSize(), is(1L));
+        cache.invalidate("owner/repo");
+        assertThat(cache.getSize(), is(0L));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldNotCacheFailure() throws Exception {
+        GitHubResponseCache cache = new GitHubResponseCache();
+        cache.configure(60, 10);
+
+        try {
+            cache.get(github, repo, 1, "labels", () -> {
+                throw new IOException("failed");
+            });
+        } finally {
+            assertThat(cache.getSize(), is(0L));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.kostyasha.github.integration.generic;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class GitHubTriggerExecutorTest {
+
+    private final GitHubTriggerExecutor executor = new GitHubTriggerExecutor("test", 2);
+
+    @Test
+    public void shouldRunDifferentKeysInParallel() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit("job1", null, () -> await(started, release));
+        executor.submit("job2", null, () -> await(started, release));
+
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        release.countDown();
+    }
+
+    @Test
+    public void shouldSerializeAndCollapseSameKey() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger runs = new AtomicInteger();
+
+        executor.submit("job", "#1", () -> {
+            await(blocked, release);
+            done.countDown();
+        });
+        assertThat(blocked.await(10, TimeUnit.SECONDS), is(true));
+
+        Runnable check = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            runs.incrementAndGet();
+            running.decrementAndGet();
+            done.countDown();
+        };
+        // running check doesn't absorb new one, queued one does
+        executor.submit("job", "#1", check);
+        executor.submit("job", "#1", check);
+        executor.submit("job", "#1", check);
+
+        assertThat(executor.getQueueDepth(), is(1));
+        assertThat(executor.getCollapsed(), is(2L));
+
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+
+        assertThat(runs.get(), is(1));
+        assertThat(maxRunning.get(), is(1));
+        assertThat(executor.getSubmitted(), is(4L));
+    }
+
+    @Test
+    public void shouldContinueAfterFailure() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.submit("job", "#1", () -> {
+            throw new IllegalStateException("failed");
+        });
+        executor.submit("job", "#2", done::countDown);
+
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+    }
+
+    private static void await(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
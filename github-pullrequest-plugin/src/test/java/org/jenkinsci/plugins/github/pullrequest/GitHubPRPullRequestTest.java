@@ -0,0 +1,121 @@
+package org.jenkinsci.plugins.github.pullrequest;
+
+import hudson.XmlFile;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kohsuke.github.GHCommitPointer;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHUser;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GitHubPRPullRequestTest {
+    private static final String SHA = "65d0f7818009811e5d5eb703ebad38bbcc816b49";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadOldFormat() throws Exception {
+        GitHubPRPullRequest pr = readOld();
+
+        assertThat(pr.getNumber(), is(1));
+        assertThat(pr.getHeadSha(), is(SHA));
+        assertThat(pr.getLabels(), containsInAnyOrder("bug"));
+        assertThat(pr.getPrUpdatedAt().getTime(), is(1460962421000L));
+        assertThat(pr.getIssueUpdatedAt(), is(pr.getPrUpdatedAt()));
+        assertThat(pr.getLastCommentCreatedAt(), nullValue());
+        assertThat(pr.getHtmlUrl().toString(), is("https://localhost/org/repo/pull/1"));
+        assertThat(pr.isInBadState(), is(false));
+    }
+
+    @Test
+    public void shouldWriteCompactFormat() throws Exception {
+        GitHubPRPullRequest pr = readOld();
+
+        XmlFile file = new XmlFile(folder.newFile("pr.xml"));
+        file.write(pr);
+
+        assertThat(file.asString(), not(containsString(SHA)));
+        assertThat(file.asString(), not(containsString("<prUpdatedAt>")));
+        assertThat((GitHubPRPullRequest) file.read(), is(pr));
+    }
+
+    @Test
+    public void shouldShareRepeatedValues() throws Exception {
+        GitHubPRPullRequest first = readOld();
+        GitHubPRPullRequest second = readOld();
+
+        assertThat(second.getBaseRef(), sameInstance(first.getBaseRef()));
+        assertThat(second.getUserLogin(), sameInstance(first.getUserLogin()));
+    }
+
+    @Test
+    public void shouldCompareByFields() throws Exception {
+        GitHubPRPullRequest pr = readOld();
+        GitHubPRPullRequest same = readOld();
+        GitHubPRPullRequest relabeled = readOld();
+        relabeled.setLabels(Collections.singleton("feature"));
+
+        assertThat(same, is(pr));
+        assertThat(same.hashCode(), is(pr.hashCode()));
+        assertThat(relabeled, not(pr));
+        assertThat(same.fingerprint(), is(pr.fingerprint()));
+        assertThat(relabeled.fingerprint(), not(pr.fingerprint()));
+        assertThat(pr.toString(), containsString("number=1"));
+    }
+
+    @Test
+    public void shouldCompareCausesByFields() throws Exception {
+        GitHubPRCause cause = new GitHubPRCause(readOld(), null, null, false, "reason");
+        GitHubPRCause same = new GitHubPRCause(readOld(), null, null, false, "reason");
+        GitHubPRCause skipped = new GitHubPRCause(readOld(), null, null, true, "reason");
+
+        assertThat(same, is(cause));
+        assertThat(same.hashCode(), is(cause.hashCode()));
+        assertThat(skipped, not(cause));
+    }
+
+    @Test
+    public void shouldKeepNotHexSha() throws Exception {
+        GHPullRequest remotePR = mock(GHPullRequest.class);
+        GHCommitPointer commit = mock(GHCommitPointer.class);
+        GHUser user = mock(GHUser.class);
+        when(remotePR.getNumber()).thenReturn(1);
+        when(remotePR.getUser()).thenReturn(user);
+        when(remotePR.getHead()).thenReturn(commit);
+        when(remotePR.getBase()).thenReturn(commit);
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        when(remotePR.getUpdatedAt()).thenReturn(new Date(1000));
+        when(commit.getSha()).thenReturn("head");
+
+        GitHubPRPullRequest pr = new GitHubPRPullRequest(remotePR, EnumSet.noneOf(GitHubPRField.class),
+                new GitHubPRFieldLoader());
+
+        assertThat(pr.getHeadSha(), is("head"));
+        assertThat(pr.getIssueUpdatedAt(), nullValue());
+        assertThat(pr.isLabelsLoaded(), is(false));
+    }
+
+    private GitHubPRPullRequest readOld() throws Exception {
+        File file = new File(getClass().getResource(getClass().getSimpleName() + "/oldFormat.xml").toURI());
+        return (GitHubPRPullRequest) new XmlFile(file).read();
+    }
+}
@@ -3,12 +3,14 @@ package org.jenkinsci.plugins.github.pullrequest;
 import com.cloudbees.jenkins.GitHubRepositoryName;
 import com.coravy.hudson.plugins.github.GithubProjectProperty;
 import com.coravy.hudson.plugins.github.GithubUrl;
+import com.github.kostyasha.github.integration.generic.GitHubRepositoryRegistry;
 import hudson.XmlFile;
 import hudson.model.AbstractProject;
 import hudson.model.Action;
 import hudson.model.ItemGroup;
 import hudson.model.Job;
 import org.jenkinsci.plugins.github.pullrequest.utils.JobHelper;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,7 +27,9 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -51,6 +55,11 @@ public class GitHubPRRepositoryFactoryTest {
     @Mock
     private GitHubPRTrigger.DescriptorImpl descriptor;
 
+    @After
+    public void dropResidentRepositories() {
+        GitHubRepositoryRegistry.get().invalidate("jobFullName");
+    }
+
     @Test
     public void createForConfigFileExists() throws IOException, NoSuchFieldException, IllegalAccessException {
         createForCommonTest(CONFIG_PATH);
@@ -92,6 +101,28 @@ public class GitHubPRRepositoryFactoryTest {
       }
     }
 
+    @Test
+    public void shouldKeepRepositoryResidentUntilInvalidated() {
+      try (MockedStatic<GitHubPRTrigger.DescriptorImpl> staticGitHubPRTriggerDescriptor = mockStatic(GitHubPRTrigger.DescriptorImpl.class);
+             MockedStatic<JobHelper> staticJobHelper = mockStatic(JobHelper.class)) {
+        staticGitHubPRTriggerDescriptor.when(GitHubPRTrigger.DescriptorImpl::get).thenReturn(descriptor);
+
+        createForCommonExpectations(job, trigger, staticJobHelper);
+
+        GitHubPRRepositoryFactory factory = new GitHubPRRepositoryFactory();
+        GitHubPRRepository repo = getRepo(factory.createFor(job));
+        assertThat(getRepo(factory.createFor(job)), sameInstance(repo));
+
+        Job reloaded = mock(Job.class);
+        createForCommonExpectations(reloaded, trigger, staticJobHelper);
+        assertThat(getRepo(factory.createFor(reloaded)), sameInstance(repo));
+        assertThat(repo.getJob(), sameInstance(reloaded));
+
+        GitHubRepositoryRegistry.get().invalidate(job);
+        assertThat(getRepo(factory.createFor(job)), not(sameInstance(repo)));
+      }
+    }
+
     private void createForCommonTest(String filePath) throws IOException, NoSuchFieldException, IllegalAccessException {
       try (MockedStatic<GitHubPRTrigger.DescriptorImpl> staticGitHubPRTriggerDescriptor = mockStatic(GitHubPRTrigger.DescriptorImpl.class);
              MockedStatic<JobHelper> staticJobHelper = mockStatic(JobHelper.class)) {
@@ -1,5 +1,6 @@
 package org.jenkinsci.plugins.github.pullrequest;
 
+import com.github.kostyasha.github.integration.generic.GitHubRepositoryRegistry;
 import hudson.BulkChange;
 import hudson.Functions;
 import hudson.model.Item;
@@ -13,6 +14,7 @@ import hudson.util.FormValidation;
 import hudson.util.RunList;
 import jenkins.model.Jenkins;
 import org.jenkinsci.plugins.github.pullrequest.utils.JobHelper;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -79,6 +81,11 @@ public class GitHubPRRepositoryTest {
 
     private GitHubPRRepositoryFactory factory = new GitHubPRRepositoryFactory();
 
+    @After
+    public void dropResidentRepositories() {
+        GitHubRepositoryRegistry.get().invalidate("jobFullName");
+    }
+
     @Test
     public void getAllPrBuildsWithCause() {
       try (MockedStatic<JobHelper> staticJobHelper = mockStatic(JobHelper.class)) {
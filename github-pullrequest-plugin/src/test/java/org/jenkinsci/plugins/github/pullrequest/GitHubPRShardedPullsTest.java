@@ -0,0 +1,106 @@
+package org.jenkinsci.plugins.github.pullrequest;
+
+import hudson.XmlFile;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRFieldLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kohsuke.github.GHCommitPointer;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHUser;
+
+import java.io.File;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jenkinsci.plugins.github.pullrequest.GitHubPRShardedPulls.RESIDENT_SHARDS;
+import static org.jenkinsci.plugins.github.pullrequest.GitHubPRShardedPulls.SHARD_SIZE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GitHubPRShardedPullsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File dir;
+    private GitHubPRShardedPulls pulls;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = new File(folder.getRoot(), GitHubPRRepository.FILE + GitHubPRShardedPulls.SUFFIX);
+        pulls = new GitHubPRShardedPulls();
+        pulls.attach(dir);
+    }
+
+    @Test
+    public void shouldRewriteOnlyChangedShards() throws Exception {
+        pulls.put(1, pr(1));
+        pulls.put(SHARD_SIZE + 1, pr(SHARD_SIZE + 1));
+        pulls.flush();
+
+        assertThat(shard(0).exists(), is(true));
+        assertThat(shard(1).exists(), is(true));
+
+        shard(1).delete();
+        pulls.put(1, pr(1));
+        pulls.flush();
+
+        assertThat(shard(0).exists(), is(true));
+        assertThat("untouched shard is not written", shard(1).exists(), is(false));
+    }
+
+    @Test
+    public void shouldLoadShardsAfterRestart() throws Exception {
+        pulls.put(1, pr(1));
+        pulls.put(SHARD_SIZE + 1, pr(SHARD_SIZE + 1));
+        pulls.remove(1);
+        pulls.flush();
+
+        XmlFile index = new XmlFile(new File(folder.getRoot(), "index.xml"));
+        index.write(pulls);
+        GitHubPRShardedPulls loaded = (GitHubPRShardedPulls) index.read();
+        loaded.attach(dir);
+
+        assertThat(loaded.keySet(), contains(SHARD_SIZE + 1));
+        assertThat(loaded.get(SHARD_SIZE + 1).getNumber(), is(SHARD_SIZE + 1));
+        assertThat(loaded.get(1), nullValue());
+        assertThat("empty shard is removed", shard(0).exists(), is(false));
+    }
+
+    @Test
+    public void shouldWriteShardsLeavingHeap() throws Exception {
+        for (int i = 0; i <= RESIDENT_SHARDS; i++) {
+            pulls.put(i * SHARD_SIZE, pr(i * SHARD_SIZE));
+        }
+
+        assertThat(shard(0).exists(), is(true));
+        assertThat(shard(RESIDENT_SHARDS).exists(), is(false));
+        assertThat(pulls.get(0).getNumber(), is(0));
+    }
+
+    private File shard(int id) {
+        return new File(dir, "pulls-" + id + ".xml");
+    }
+
+    private static GitHubPRPullRequest pr(int number) throws Exception {
+        GHPullRequest remotePR = mock(GHPullRequest.class);
+        GHCommitPointer commit = mock(GHCommitPointer.class);
+        GHUser user = mock(GHUser.class);
+        when(remotePR.getNumber()).thenReturn(number);
+        when(remotePR.getUser()).thenReturn(user);
+        when(remotePR.getHead()).thenReturn(commit);
+        when(remotePR.getBase()).thenReturn(commit);
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        when(remotePR.getUpdatedAt()).thenReturn(new Date(1000));
+        when(remotePR.getIssueUpdatedAt()).thenReturn(new Date(1000));
+        when(user.getLogin()).thenReturn("user");
+        return new GitHubPRPullRequest(remotePR, EnumSet.noneOf(GitHubPRField.class), new GitHubPRFieldLoader());
+    }
+}
@@ -17,6 +17,7 @@ import hudson.util.SequentialExecutionQueue;
 import jenkins.model.Jenkins;
 import org.hamcrest.Matchers;
 import org.jenkinsci.plugins.github.config.GitHubPluginConfig;
+import org.jenkinsci.plugins.github.pullrequest.events.impl.GitHubPRCommitEvent;
 import org.jenkinsci.plugins.github.pullrequest.events.impl.GitHubPROpenEvent;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,12 +35,16 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.jenkinsci.plugins.github.pullrequest.util.TestUtil.classpath;
 import static org.jenkinsci.plugins.github.pullrequest.utils.JobHelper.ghPRTriggerFromJob;
 import static org.junit.Assert.assertThat;
 
@@ -48,6 +53,7 @@ import static org.junit.Assert.assertThat;
  */
 public class GitHubPRTriggerMockTest {
     private static final Logger LOG = LoggerFactory.getLogger(GitHubPRTriggerMockTest.class);
+    private static final String NEW_HEAD_SHA = "0123456789abcdef0123456789abcdef01234567";
 
     @Inject
     public GitHubPluginConfig config;
@@ -184,6 +190,59 @@ public class GitHubPRTriggerMockTest {
 
     }
 
+    /**
+     * Commit event doesn't request labels, so stored PR has no labels and still must be checked.
+     */
+    @Test
+    public void notLoadedLabelsAreNotBadState() throws Exception {
+        FreeStyleProject project = jRule.getInstance().createProject(FreeStyleProject.class, "commit-job");
+        project.addProperty(new GithubProjectProperty("http://localhost/org/repo"));
+
+        GitHubPRTrigger trigger = new GitHubPRTrigger("", GitHubPRTriggerMode.CRON,
+                Arrays.asList(new GitHubPRCommitEvent()));
+
+        GitHubPluginRepoProvider repoProvider = new GitHubPluginRepoProvider();
+        repoProvider.setManageHooks(false);
+        repoProvider.setRepoPermission(GHPermission.PULL);
+        trigger.setRepoProvider(repoProvider);
+
+        project.addTrigger(trigger);
+        project.save();
+
+        // activate trigger
+        jRule.configRoundtrip(project);
+        trigger = ghPRTriggerFromJob(project);
+
+        // first check only stores PR
+        trigger.doRun();
+        jRule.waitUntilNoActivity();
+        assertThat(project.getBuilds(), hasSize(0));
+
+        GitHubPRPullRequest localPR = project.getAction(GitHubPRRepository.class).getPulls().get(1);
+        assertThat(localPR, notNullValue());
+        assertThat(localPR.isLabelsLoaded(), is(false));
+        assertThat(localPR.isInBadState(), is(false));
+
+        github.service().stubFor(
+                get(urlEqualTo("/repos/org/repo/pulls?state=open"))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader("Content-Type", "application/json; charset=utf-8")
+                                .withBody(classpath(GHMockRule.class, "pulls.json")
+                                        .replace(localPR.getHeadSha(), NEW_HEAD_SHA))
+                        )
+        );
+
+        trigger.doRun();
+        jRule.waitUntilNoActivity();
+
+        assertThat(project.getBuilds(), hasSize(1));
+
+        GitHubPRPollingLogAction logAction = project.getAction(GitHubPRPollingLogAction.class);
+        assertThat(logAction.getLog(), not(containsString("is in bad state")));
+        assertThat(logAction.getLog(), containsString("new commit found, sha " + NEW_HEAD_SHA));
+    }
+
     /**
      * loading old local state data, running trigger and checking that old disappeared and new appeared
      */
@@ -2,6 +2,7 @@ package org.jenkinsci.plugins.github.pullrequest.data;
 
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 
@@ -19,4 +20,10 @@ public class GitHubPREnvTest {
     public void shouldAddPrefixToBoolVars() throws Exception {
          assertThat(GitHubPREnv.values()[0].param(true).getName(), startsWith(GitHubPREnv.PREFIX));
     }
+
+    @Test
+    public void shouldNotRequireComments() throws Exception {
+        assertThat(GitHubPREnv.getRequiredFields(),
+                containsInAnyOrder(GitHubPRField.USER_EMAIL, GitHubPRField.MERGEABLE, GitHubPRField.LABELS));
+    }
 }
@@ -0,0 +1,177 @@
+package org.jenkinsci.plugins.github.pullrequest.data;
+
+import com.github.kostyasha.github.integration.generic.GitHubResponseCache;
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHCommitPointer;
+import org.kohsuke.github.GHIssue;
+import org.kohsuke.github.GHIssueComment;
+import org.kohsuke.github.GHIssueCommentQueryBuilder;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHLabel;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHUser;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterable;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubPRFieldLoaderTest {
+
+    @Mock(lenient = true)
+    private GHPullRequest remotePR;
+
+    @Mock(lenient = true)
+    private GHRepository remoteRepo;
+
+    @Mock(lenient = true)
+    private GHCommitPointer commit;
+
+    @Mock(lenient = true)
+    private GHUser user;
+
+    @Mock(lenient = true)
+    private GHIssue issue;
+
+    @Mock(lenient = true)
+    private GHIssueCommentQueryBuilder commentsQuery;
+
+    @Mock(lenient = true)
+    private PagedIterable<GHIssueComment> commentsList;
+
+    @Mock
+    private GitHub github;
+
+    @Before
+    public void setUp() throws Exception {
+        when(remotePR.getNumber()).thenReturn(1);
+        when(remotePR.getUser()).thenReturn(user);
+        when(remotePR.getHead()).thenReturn(commit);
+        when(remotePR.getBase()).thenReturn(commit);
+        when(remotePR.getRepository()).thenReturn(remoteRepo);
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        when(remotePR.getUpdatedAt()).thenReturn(new Date(1000));
+        when(remotePR.getIssueUpdatedAt()).thenReturn(new Date(2000));
+        when(remoteRepo.getIssue(anyInt())).thenReturn(issue);
+        when(user.getLogin()).thenReturn("user");
+        when(user.getEmail()).thenReturn("user@example.com");
+    }
+
+    @After
+    public void tearDown() {
+        GitHubResponseCache.get().configure(0, 0);
+    }
+
+    @Test
+    public void shouldNotCallRemoteForNotRequiredFields() throws Exception {
+        GitHubPRPullRequest pr = new GitHubPRPullRequest(remotePR,
+                EnumSet.noneOf(GitHubPRField.class), new GitHubPRFieldLoader());
+
+        verify(remotePR, never()).getComments();
+        verify(remotePR, never()).getMergeable();
+        verify(user, never()).getEmail();
+        verify(remoteRepo, never()).getIssue(anyInt());
+
+        assertThat("not in bad state", pr.isInBadState(), is(false));
+        assertThat("labels", pr.getLabels(), empty());
+        assertThat("email", pr.getUserEmail(), nullValue());
+        assertThat("comments seen up to issue update", pr.getLastCommentCreatedAt(), is(new Date(2000)));
+    }
+
+    @Test
+    public void shouldLoadFieldsOncePerRun() throws Exception {
+        GitHubPRFieldLoader loader = new GitHubPRFieldLoader();
+
+        new GitHubPRPullRequest(remotePR, EnumSet.allOf(GitHubPRField.class), loader);
+        new GitHubPRPullRequest(remotePR, EnumSet.allOf(GitHubPRField.class), loader);
+
+        verify(remotePR, times(1)).getComments();
+        verify(remotePR, times(1)).getMergeable();
+        verify(user, times(1)).getEmail();
+        verify(issue, times(1)).getLabels();
+    }
+
+    @Test
+    public void shouldNotFetchCommentsWhenIssueNotUpdatedSinceCursor() throws Exception {
+        GitHubPRFieldLoader loader = new GitHubPRFieldLoader();
+        loader.setCommentCursor(1, new Date(2000));
+
+        assertThat(loader.getComments(remotePR), empty());
+        assertThat(loader.getLastCommentCreatedAt(remotePR), is(new Date(2000)));
+        verify(remotePR, never()).getComments();
+        verify(remotePR, never()).queryComments();
+    }
+
+    @Test
+    public void shouldFetchOnlyCommentsSinceCursor() throws Exception {
+        GHIssueComment comment = mock(GHIssueComment.class);
+        when(comment.getCreatedAt()).thenReturn(new Date(1800));
+        when(remotePR.queryComments()).thenReturn(commentsQuery);
+        when(commentsQuery.since(any(Date.class))).thenReturn(commentsQuery);
+        when(commentsQuery.list()).thenReturn(commentsList);
+        when(commentsList.toList()).thenReturn(Collections.singletonList(comment));
+
+        GitHubPRFieldLoader loader = new GitHubPRFieldLoader();
+        loader.setCommentCursor(1, new Date(1500));
+
+        assertThat(loader.getComments(remotePR), contains(comment));
+        assertThat(loader.getLastCommentCreatedAt(remotePR), is(new Date(1800)));
+        verify(commentsQuery).since(new Date(1500));
+        verify(remotePR, never()).getComments();
+    }
+
+    @Test
+    public void shouldSeedLabelsFromPullRequestPayload() throws Exception {
+        GHLabel label = mock(GHLabel.class);
+        when(label.getName()).thenReturn("bug");
+        when(remotePR.getLabels()).thenReturn(Collections.singletonList(label));
+
+        GitHubPRFieldLoader loader = new GitHubPRFieldLoader();
+
+        assertThat(loader.getLabels(remotePR), contains("bug"));
+        assertThat(loader.getLabels(remotePR), contains("bug"));
+        verify(remoteRepo, never()).getIssue(anyInt());
+        verify(remotePR, times(1)).getLabels();
+    }
+
+    @Test
+    public void shouldFetchMissingLabelsOncePerCheck() throws Exception {
+        when(remotePR.getLabels()).thenReturn(Collections.emptyList());
+        when(issue.getLabels()).thenReturn(Collections.emptyList());
+        when(remoteRepo.getFullName()).thenReturn("owner/repo");
+        GitHubResponseCache.get().configure(60, 10);
+
+        // two jobs of the same repo and connection, every one asks labels for several events
+        GitHubPRFieldLoader loader = new GitHubPRFieldLoader().withConnection(github);
+        GitHubPRFieldLoader otherLoader = new GitHubPRFieldLoader().withConnection(github);
+
+        assertThat(loader.getLabels(remotePR), empty());
+        assertThat(loader.getLabels(remotePR), empty());
+        assertThat(otherLoader.getLabels(remotePR), empty());
+        assertThat(otherLoader.getLabels(remotePR), empty());
+
+        verify(issue, times(1)).getLabels();
+    }
+}
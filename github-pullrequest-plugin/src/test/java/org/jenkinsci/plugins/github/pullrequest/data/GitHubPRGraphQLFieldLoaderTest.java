@@ -0,0 +1,126 @@
+package org.jenkinsci.plugins.github.pullrequest.data;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHUser;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jenkinsci.plugins.github.pullrequest.util.TestUtil.classpath;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitHubPRGraphQLFieldLoaderTest {
+
+    @Rule
+    public WireMockRule service = new WireMockRule(wireMockConfig().dynamicPort());
+
+    @Mock(lenient = true)
+    private GHPullRequest pr1;
+    @Mock(lenient = true)
+    private GHPullRequest pr2;
+    @Mock(lenient = true)
+    private GHUser user1;
+    @Mock(lenient = true)
+    private GHUser user2;
+
+    @Before
+    public void setUp() throws Exception {
+        when(pr1.getNumber()).thenReturn(1);
+        when(pr1.getUser()).thenReturn(user1);
+        when(user1.getLogin()).thenReturn("user1");
+        when(pr2.getNumber()).thenReturn(2);
+        when(pr2.getUser()).thenReturn(user2);
+        when(user2.getLogin()).thenReturn("user2");
+    }
+
+    @Test
+    public void shouldResolveGraphqlUrl() {
+        assertThat(GitHubPRGraphQLFieldLoader.graphqlUrl("https://api.github.com"),
+                is("https://api.github.com/graphql"));
+        assertThat(GitHubPRGraphQLFieldLoader.graphqlUrl("https://ghe.example.com/api/v3/"),
+                is("https://ghe.example.com/api/graphql"));
+    }
+
+    @Test
+    public void shouldQueryOnlyRequiredFields() {
+        String query = GitHubPRGraphQLFieldLoader.buildQuery(EnumSet.of(GitHubPRField.LABELS));
+
+        assertThat(query, containsString("labels"));
+        assertThat(query, not(containsString("mergeable")));
+        assertThat(query, not(containsString("comments")));
+    }
+
+    @Test
+    public void shouldLoadAllPagesWithGraphql() throws Exception {
+        service.stubFor(post(urlEqualTo("/graphql"))
+                .withRequestBody(containing("\"cursor\":null"))
+                .willReturn(json("page1.json")));
+        service.stubFor(post(urlEqualTo("/graphql"))
+                .withRequestBody(containing("\"cursor\":\"Y3Vyc29yOjE=\""))
+                .willReturn(json("page2.json")));
+
+        GitHubPRFieldLoader loader = new GitHubPRGraphQLFieldLoader("http://localhost:" + service.port(), "token",
+                "org", "repo", EnumSet.allOf(GitHubPRField.class));
+
+        assertThat(loader.getLabels(pr1), containsInAnyOrder("bug", "ready"));
+        assertThat(loader.getMergeable(pr1), is(true));
+        assertThat(loader.getUserEmail(pr1), is("user1@example.com"));
+        assertThat(loader.getLastCommentCreatedAt(pr1), is(Date.from(Instant.parse("2020-01-02T03:04:05Z"))));
+
+        assertThat(loader.getLabels(pr2), empty());
+        assertThat(loader.getMergeable(pr2), is(false));
+        assertThat(loader.getUserEmail(pr2), nullValue());
+        assertThat(loader.getLastCommentCreatedAt(pr2), nullValue());
+
+        service.verify(2, postRequestedFor(urlEqualTo("/graphql"))
+                .withHeader("Authorization", equalTo("bearer token")));
+        verify(pr1, never()).getMergeable();
+        verify(pr1, never()).getComments();
+        verify(user1, never()).getEmail();
+    }
+
+    @Test
+    public void shouldFallbackToRest() throws Exception {
+        service.stubFor(post(urlEqualTo("/graphql")).willReturn(aResponse().withStatus(502)));
+        when(pr1.getMergeable()).thenReturn(true);
+
+        GitHubPRFieldLoader loader = new GitHubPRGraphQLFieldLoader("http://localhost:" + service.port(), "token",
+                "org", "repo", EnumSet.of(GitHubPRField.MERGEABLE));
+
+        assertThat(loader.getMergeable(pr1), is(true));
+        verify(pr1).getMergeable();
+    }
+
+    private static ResponseDefinitionBuilder json(String file) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json; charset=utf-8")
+                .withBody(classpath(GitHubPRGraphQLFieldLoaderTest.class, file));
+    }
+}
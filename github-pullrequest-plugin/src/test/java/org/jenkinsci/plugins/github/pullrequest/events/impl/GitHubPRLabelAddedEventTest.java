@@ -97,6 +97,25 @@ public class GitHubPRLabelAddedEventTest {
         assertNull(cause);
     }
 
+    /**
+     * Case when labels of stored PR weren't loaded, nothing is known to be added.
+     */
+    @Test
+    public void notLoadedLocalLabelsAreNotChanged() throws IOException {
+        when(remotePr.getState()).thenReturn(GHIssueState.OPEN);
+        when(localPR.isLabelsLoaded()).thenReturn(false);
+
+        GitHubPRCause cause = new GitHubPRLabelAddedEvent(labels)
+                .check(newGitHubPRDecisionContext()
+                        .withPrTrigger(trigger)
+                        .withRemotePR(remotePr)
+                        .withListener(listener)
+                        .withLocalPR(localPR)
+                        .build()
+                );
+        assertNull(cause);
+    }
+
     /**
      * Case when there is three checked labels and all of them was already added.
      */
@@ -183,6 +202,7 @@ public class GitHubPRLabelAddedEventTest {
 
     private void commonExpectations(Set<String> localLabels) throws IOException {
         when(labels.getLabelsSet()).thenReturn(checkedLabels);
+        when(localPR.isLabelsLoaded()).thenReturn(true);
         when(localPR.getLabels()).thenReturn(localLabels);
         when(remotePr.getState()).thenReturn(GHIssueState.OPEN);
         when(remotePr.getRepository()).thenReturn(repository);
@@ -1,5 +1,6 @@
 package org.jenkinsci.plugins.github.pullrequest.events.impl;
 
+import com.github.kostyasha.github.integration.generic.GitHubPRDecisionContext;
 import hudson.model.TaskListener;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRCause;
 import org.jenkinsci.plugins.github.pullrequest.GitHubPRLabel;
@@ -259,6 +260,56 @@ public class GitHubPRLabelExistsEventTest {
         assertNull(cause);
     }
 
+    /**
+     * Case when several label events check the same PR, labels should be fetched once.
+     */
+    @Test
+    public void labelEventsShareOneFetch() throws IOException {
+        Set<String> localLabels = new HashSet<>(Collections.singleton(LOCALLY_TESTED));
+
+        commonExpectations(localLabels);
+
+        when(issue.getLabels()).thenReturn(asList(reviewedLabel, mergeLabel));
+        when(reviewedLabel.getName()).thenReturn(REVIEWED);
+        when(mergeLabel.getName()).thenReturn(MERGE);
+
+        GitHubPRDecisionContext context = newGitHubPRDecisionContext()
+                .withPrTrigger(trigger)
+                .withLocalPR(localPR)
+                .withRemotePR(remotePr)
+                .withListener(listener)
+                .build();
+
+        assertNull(new GitHubPRLabelExistsEvent(labels, false).check(context));
+        assertNull(new GitHubPRLabelPatternExistsEvent(labels, false).check(context));
+
+        verify(issue, times(1)).getLabels();
+    }
+
+    /**
+     * Case when PR has no labels at all, empty payload falls back to issue labels once.
+     */
+    @Test
+    public void labelEventsShareOneFetchWithoutLabels() throws IOException {
+        Set<String> localLabels = new HashSet<>(Collections.singleton(LOCALLY_TESTED));
+
+        commonExpectations(localLabels);
+
+        when(issue.getLabels()).thenReturn(Collections.emptyList());
+
+        GitHubPRDecisionContext context = newGitHubPRDecisionContext()
+                .withPrTrigger(trigger)
+                .withLocalPR(localPR)
+                .withRemotePR(remotePr)
+                .withListener(listener)
+                .build();
+
+        assertNull(new GitHubPRLabelExistsEvent(labels, false).check(context));
+        assertNull(new GitHubPRLabelPatternExistsEvent(labels, false).check(context));
+
+        verify(issue, times(1)).getLabels();
+    }
+
     private void commonExpectations(Set<String> localLabels) throws IOException {
         when(labels.getLabelsSet()).thenReturn(localLabels);
         when(localPR.getLabels()).thenReturn(localLabels);
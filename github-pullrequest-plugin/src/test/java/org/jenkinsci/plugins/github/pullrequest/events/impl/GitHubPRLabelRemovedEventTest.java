@@ -154,6 +154,7 @@ public class GitHubPRLabelRemovedEventTest {
 
     private void commonExpectations(Set<String> localLabels) throws IOException {
         when(labels.getLabelsSet()).thenReturn(checkedLabels);
+        when(localPR.isLabelsLoaded()).thenReturn(true);
         when(localPR.getLabels()).thenReturn(localLabels);
         when(remotePr.getState()).thenReturn(GHIssueState.OPEN);
         when(remotePr.getRepository()).thenReturn(repository);
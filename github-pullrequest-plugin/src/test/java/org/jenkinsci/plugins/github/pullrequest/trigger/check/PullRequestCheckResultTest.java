@@ -0,0 +1,107 @@
+package org.jenkinsci.plugins.github.pullrequest.trigger.check;
+
+import org.jenkinsci.plugins.github.pullrequest.GitHubPRPullRequest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PullRequestCheckResultTest {
+
+    @Mock(lenient = true)
+    private GHPullRequest remotePR;
+
+    @Mock(lenient = true)
+    private GitHubPRPullRequest localPR;
+
+    @Mock(lenient = true)
+    private GitHubPRPullRequest updatedPR;
+
+    @Mock(lenient = true)
+    private GitHubPRPullRequest concurrentPR;
+
+    private Map<Integer, GitHubPRPullRequest> pulls = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        when(remotePR.getNumber()).thenReturn(1);
+        when(localPR.getPrUpdatedAt()).thenReturn(new Date(1000));
+        when(updatedPR.getPrUpdatedAt()).thenReturn(new Date(2000));
+    }
+
+    @Test
+    public void shouldPutOpenedPR() throws Exception {
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        pulls.put(1, localPR);
+
+        boolean applied = result(localPR, false).applyTo(pulls);
+
+        assertThat("applied", applied, is(true));
+        assertThat("updated", pulls.get(1), is(updatedPR));
+    }
+
+    @Test
+    public void shouldRemoveClosedPR() throws Exception {
+        when(remotePR.getState()).thenReturn(GHIssueState.CLOSED);
+        pulls.put(1, localPR);
+
+        boolean applied = new PullRequestCheckResult(remotePR, localPR, null, null, false, new byte[0])
+                .applyTo(pulls);
+
+        assertThat("applied", applied, is(true));
+        assertThat("removed", pulls, not(hasKey(1)));
+    }
+
+    @Test
+    public void shouldNotTouchStateOnFailure() throws Exception {
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        pulls.put(1, localPR);
+
+        boolean applied = result(localPR, true).applyTo(pulls);
+
+        assertThat("applied", applied, is(false));
+        assertThat("untouched", pulls.get(1), is(localPR));
+    }
+
+    @Test
+    public void shouldSkipWhenNewerStateCommitted() throws Exception {
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        when(concurrentPR.getPrUpdatedAt()).thenReturn(new Date(2000));
+        pulls.put(1, concurrentPR);
+
+        boolean applied = result(localPR, false).applyTo(pulls);
+
+        assertThat("applied", applied, is(false));
+        assertThat("concurrent state kept", pulls.get(1), is(concurrentPR));
+    }
+
+    @Test
+    public void shouldApplyWhenOlderStateCommitted() throws Exception {
+        when(remotePR.getState()).thenReturn(GHIssueState.OPEN);
+        when(concurrentPR.getPrUpdatedAt()).thenReturn(new Date(1500));
+        pulls.put(1, concurrentPR);
+
+        boolean applied = result(localPR, false).applyTo(pulls);
+
+        assertThat("applied", applied, is(true));
+        assertThat("updated", pulls.get(1), is(updatedPR));
+    }
+
+    private PullRequestCheckResult result(GitHubPRPullRequest evaluatedAgainst, boolean failed) {
+        return new PullRequestCheckResult(remotePR, evaluatedAgainst, updatedPR, null, failed, new byte[0]);
+    }
+}
@@ -0,0 +1,93 @@
+package org.jenkinsci.plugins.github.pullrequest.trigger.check;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestQueryBuilder;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.PagedIterable;
+import org.kohsuke.github.PagedIterator;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestDeltaQuery.newestUpdatedAt;
+import static org.jenkinsci.plugins.github.pullrequest.trigger.check.PullRequestDeltaQuery.updatedSince;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PullRequestDeltaQueryTest {
+    @Mock
+    private GHRepository remoteRepo;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private GHPullRequestQueryBuilder query;
+
+    @Mock
+    private PagedIterable<GHPullRequest> pulls;
+
+    @Mock
+    private PagedIterator<GHPullRequest> pages;
+
+    @Mock(lenient = true)
+    private GHPullRequest newest;
+
+    @Mock(lenient = true)
+    private GHPullRequest atMark;
+
+    @Mock(lenient = true)
+    private GHPullRequest older;
+
+    @Before
+    public void setUp() throws IOException {
+        when(newest.getUpdatedAt()).thenReturn(new Date(3000));
+        when(atMark.getUpdatedAt()).thenReturn(new Date(2000));
+        when(older.getUpdatedAt()).thenReturn(new Date(1000));
+    }
+
+    @Test
+    public void shouldStopAtFirstOlderPull() throws IOException {
+        mockListing();
+        when(pages.hasNext()).thenReturn(true);
+        when(pages.nextPage()).thenReturn(Arrays.asList(newest, atMark, older));
+
+        assertThat(updatedSince(remoteRepo, new Date(2000)), contains(newest, atMark));
+        verify(pages, times(1)).nextPage();
+    }
+
+    @Test
+    public void shouldReadNextPageWhileAllPullsAreUpdated() throws IOException {
+        mockListing();
+        when(pages.hasNext()).thenReturn(true, true, false);
+        when(pages.nextPage()).thenReturn(Collections.singletonList(newest), Collections.singletonList(atMark));
+
+        assertThat(updatedSince(remoteRepo, new Date(500)), contains(newest, atMark));
+    }
+
+    @Test
+    public void shouldKeepNewestUpdateTime() throws IOException {
+        assertThat(newestUpdatedAt(Arrays.asList(older, newest, atMark), null), is(new Date(3000)));
+        assertThat(newestUpdatedAt(Collections.singletonList(older), new Date(2000)), is(new Date(2000)));
+        assertThat(newestUpdatedAt(Collections.<GHPullRequest>emptyList(), null), nullValue());
+    }
+
+    private void mockListing() {
+        when(remoteRepo.queryPullRequests()).thenReturn(query);
+        when(query.list()).thenReturn(pulls);
+        when(pulls.withPageSize(anyInt())).thenReturn(pulls);
+        when(pulls.iterator()).thenReturn(pages);
+    }
+}
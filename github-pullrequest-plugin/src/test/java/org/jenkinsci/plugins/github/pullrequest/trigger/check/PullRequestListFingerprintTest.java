@@ -0,0 +1,84 @@
+package org.jenkinsci.plugins.github.pullrequest.trigger.check;
+
+import org.jenkinsci.plugins.github.pullrequest.data.GitHubPRField;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kohsuke.github.GHCommitPointer;
+import org.kohsuke.github.GHPullRequest;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PullRequestListFingerprintTest {
+
+    @Test
+    public void shouldNotDependOnOrder() throws Exception {
+        GHPullRequest first = pr(1, "abc", 1000);
+        GHPullRequest second = pr(2, "cde", 2000);
+
+        assertThat(PullRequestListFingerprint.of(Arrays.asList(first, second), EnumSet.noneOf(GitHubPRField.class)),
+                is(PullRequestListFingerprint.of(Arrays.asList(second, first), EnumSet.noneOf(GitHubPRField.class))));
+    }
+
+    @Test
+    public void shouldChangeOnNewCommit() throws Exception {
+        String before = PullRequestListFingerprint.of(Arrays.asList(pr(1, "abc", 1000)),
+                EnumSet.noneOf(GitHubPRField.class));
+        String after = PullRequestListFingerprint.of(Arrays.asList(pr(1, "cde", 1000)),
+                EnumSet.noneOf(GitHubPRField.class));
+
+        assertThat(after, not(before));
+    }
+
+    @Test
+    public void shouldChangeOnRequiredFields() throws Exception {
+        GHPullRequest pr = pr(1, "abc", 1000);
+
+        assertThat(PullRequestListFingerprint.of(Arrays.asList(pr), EnumSet.of(GitHubPRField.LABELS)),
+                not(PullRequestListFingerprint.of(Arrays.asList(pr), EnumSet.noneOf(GitHubPRField.class))));
+    }
+
+    @Test
+    public void shouldBuildSameFingerprintFromPages() throws Exception {
+        GHPullRequest first = pr(1, "abc", 1000);
+        GHPullRequest second = pr(2, "cde", 2000);
+
+        String streamed = PullRequestListFingerprint.builder(EnumSet.of(GitHubPRField.LABELS))
+                .add(second)
+                .add(first)
+                .build();
+
+        assertThat(streamed, is(PullRequestListFingerprint.of(Arrays.asList(first, second),
+                EnumSet.of(GitHubPRField.LABELS))));
+    }
+
+    @Test
+    public void shouldCompareRequiredFieldsOnly() throws Exception {
+        String fingerprint = PullRequestListFingerprint.of(Arrays.asList(pr(1, "abc", 1000)),
+                EnumSet.of(GitHubPRField.LABELS));
+
+        assertThat(PullRequestListFingerprint.sameFields(fingerprint, EnumSet.of(GitHubPRField.LABELS)), is(true));
+        assertThat(PullRequestListFingerprint.sameFields(fingerprint, EnumSet.noneOf(GitHubPRField.class)), is(false));
+        assertThat(PullRequestListFingerprint.sameFields(null, EnumSet.of(GitHubPRField.LABELS)), is(false));
+    }
+
+    private static GHPullRequest pr(int number, String sha, long updated) throws Exception {
+        GHPullRequest pr = mock(GHPullRequest.class);
+        GHCommitPointer head = mock(GHCommitPointer.class);
+        when(pr.getNumber()).thenReturn(number);
+        when(pr.getHead()).thenReturn(head);
+        when(head.getSha()).thenReturn(sha);
+        when(pr.getUpdatedAt()).thenReturn(new Date(updated));
+        when(pr.getIssueUpdatedAt()).thenReturn(new Date(updated));
+        return pr;
+    }
+}
@@ -0,0 +1,28 @@
+package org.jenkinsci.plugins.github.pullrequest.utils;
+
+import org.junit.Test;
+
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PatternCacheTest {
+
+    @Test
+    public void shouldCompileOnce() {
+        assertThat(PatternCache.compile("release/.*"), sameInstance(PatternCache.compile("release/.*")));
+    }
+
+    @Test
+    public void shouldMatchWholeInput() {
+        assertThat(PatternCache.matches("test.*", "test this please"), is(true));
+        assertThat(PatternCache.matches("test", "test this please"), is(false));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void shouldThrowOnInvalidPattern() {
+        PatternCache.compile("(unclosed");
+    }
+}
@@ -69,6 +69,21 @@ public class GHPullRequestSubscriberTest {
         MatcherAssert.assertThat(jobs, hasItems(job2));
     }
 
+    @Test
+    public void shouldFollowJobChanges() throws Exception {
+        String goodRepo = "https://github.com/KostyaSha-auto/test-repo";
+
+        final FreeStyleProject job = jenkins.createProject(FreeStyleProject.class, "indexed job");
+        job.addProperty(new GithubProjectProperty(goodRepo));
+        job.addTrigger(new GitHubPRTrigger("", GitHubPRTriggerMode.HEAVY_HOOKS_CRON, emptyList()));
+
+        MatcherAssert.assertThat(getPRTriggerJobs("kostyasha-auto/TEST-repo"), hasItems(job));
+
+        job.delete();
+
+        MatcherAssert.assertThat(getPRTriggerJobs("KostyaSha-auto/test-repo"), hasSize(0));
+    }
+
     @Test
     public void shouldTriggerJobOnPullRequestOpen() throws Exception {
         when(trigger.getRepoFullName(any(AbstractProject.class))).thenReturn(create(REPO_URL_FROM_PAYLOAD));